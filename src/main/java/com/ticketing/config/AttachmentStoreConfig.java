@@ -0,0 +1,46 @@
+package com.ticketing.config;
+
+import com.ticketing.storage.AttachmentStore;
+import com.ticketing.storage.LocalAttachmentStore;
+import com.ticketing.storage.S3AttachmentStore;
+import com.ticketing.storage.S3TransferEngine;
+import com.ticketing.storage.TieredAttachmentStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Paths;
+
+@Configuration
+public class AttachmentStoreConfig {
+    private static final Logger logger = LoggerFactory.getLogger(AttachmentStoreConfig.class);
+
+    @Bean(destroyMethod = "close")
+    public AttachmentStore attachmentStore(@Value("${file.store.type:}") String type,
+                                           @Value("${file.upload-dir:./uploads}") String uploadDir,
+                                           S3Properties s3Properties) {
+        String selected = type == null || type.isBlank()
+                ? (s3Properties.isConfigured() ? "s3" : "local")
+                : type.trim().toLowerCase();
+
+        AttachmentStore store = switch (selected) {
+            case "local" -> new LocalAttachmentStore(Paths.get(uploadDir));
+            case "s3" -> new S3AttachmentStore(engine(selected, s3Properties));
+            case "tiered" -> new TieredAttachmentStore(new LocalAttachmentStore(Paths.get(uploadDir)),
+                    new S3AttachmentStore(engine(selected, s3Properties)));
+            default -> throw new IllegalStateException(
+                    "Unknown file.store.type '" + type + "', expected local, s3 or tiered");
+        };
+        logger.info("Attachment store: {}", store.getType());
+        return store;
+    }
+
+    private static S3TransferEngine engine(String type, S3Properties s3Properties) {
+        if (s3Properties.getBucket() == null || s3Properties.getBucket().isBlank()) {
+            throw new IllegalStateException("aws.s3.bucket is required for file.store.type=" + type);
+        }
+        return new S3TransferEngine(s3Properties);
+    }
+}
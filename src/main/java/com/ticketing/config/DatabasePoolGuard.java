@@ -0,0 +1,94 @@
+package com.ticketing.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class DatabasePoolGuard {
+    private static final Logger logger = LoggerFactory.getLogger(DatabasePoolGuard.class);
+
+    private final HikariDataSource pool;
+    private final boolean virtualThreads;
+    private final int maxConnections;
+    private final long maxVirtualThreadConnectionTimeoutMs;
+
+    public DatabasePoolGuard(DataSource dataSource,
+                             @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                             @Value("${database.pool.max-connections:50}") int maxConnections,
+                             @Value("${database.pool.virtual-threads.max-connection-timeout-ms:10000}")
+                             long maxVirtualThreadConnectionTimeoutMs) {
+        this.pool = unwrap(dataSource);
+        this.virtualThreads = virtualThreads;
+        this.maxConnections = maxConnections;
+        this.maxVirtualThreadConnectionTimeoutMs = maxVirtualThreadConnectionTimeoutMs;
+        check();
+    }
+
+    public static int recommendedPoolSize() {
+        return Runtime.getRuntime().availableProcessors() * 2 + 1;
+    }
+
+    public Map<String, Object> getPoolMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        if (pool == null) {
+            return metrics;
+        }
+        metrics.put("maximumPoolSize", pool.getMaximumPoolSize());
+        metrics.put("recommendedPoolSize", recommendedPoolSize());
+        metrics.put("connectionTimeoutMs", pool.getConnectionTimeout());
+        HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+        if (bean != null) {
+            metrics.put("active", bean.getActiveConnections());
+            metrics.put("idle", bean.getIdleConnections());
+            metrics.put("total", bean.getTotalConnections());
+            metrics.put("waiting", bean.getThreadsAwaitingConnection());
+        }
+        return metrics;
+    }
+
+    private void check() {
+        if (pool == null) {
+            logger.info("Data source is not a Hikari pool; skipping pool sizing checks");
+            return;
+        }
+
+        int size = pool.getMaximumPoolSize();
+        if (size > maxConnections) {
+            throw new IllegalStateException("Database pool size " + size
+                    + " exceeds database.pool.max-connections (" + maxConnections + ")");
+        }
+        if (virtualThreads && pool.getConnectionTimeout() > maxVirtualThreadConnectionTimeoutMs) {
+            throw new IllegalStateException("Database pool connection timeout of " + pool.getConnectionTimeout()
+                    + " ms exceeds " + maxVirtualThreadConnectionTimeoutMs
+                    + " ms; with virtual threads every request can wait on the pool, so it must fail fast");
+        }
+
+        int recommended = recommendedPoolSize();
+        if (size > recommended * 2) {
+            logger.warn("Database pool size {} is more than twice the recommended {} (cores * 2 + 1); "
+                    + "extra connections add contention in Postgres rather than throughput", size, recommended);
+        }
+        logger.info("Database pool: {} connections (recommended {}), {} ms connection timeout, {} request threads",
+                size, recommended, pool.getConnectionTimeout(), virtualThreads ? "virtual" : "platform");
+    }
+
+    private static HikariDataSource unwrap(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari;
+        }
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
@@ -9,6 +9,8 @@ public class JwtProperties {
     private String secret;
     private long accessTokenExpiration;
     private long refreshTokenExpiration;
+    private boolean stateless;
+    private int verifiedTokenCacheSize = 10000;
 
     public String getSecret() {
         return secret;
@@ -33,5 +35,21 @@ public class JwtProperties {
     public void setRefreshTokenExpiration(long refreshTokenExpiration) {
         this.refreshTokenExpiration = refreshTokenExpiration;
     }
+
+    public boolean isStateless() {
+        return stateless;
+    }
+
+    public void setStateless(boolean stateless) {
+        this.stateless = stateless;
+    }
+
+    public int getVerifiedTokenCacheSize() {
+        return verifiedTokenCacheSize;
+    }
+
+    public void setVerifiedTokenCacheSize(int verifiedTokenCacheSize) {
+        this.verifiedTokenCacheSize = verifiedTokenCacheSize;
+    }
 }
 
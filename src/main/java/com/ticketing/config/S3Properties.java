@@ -0,0 +1,139 @@
+package com.ticketing.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "aws.s3")
+public class S3Properties {
+    private boolean enabled;
+    private String bucket;
+    private String region = "us-east-1";
+    private String endpoint;
+    private boolean pathStyleAccess;
+    private String accessKeyId;
+    private String secretAccessKey;
+    private int maxConnections = 64;
+    private long connectionAcquireTimeoutMs = 10000;
+    private long connectionMaxIdleMs = 60000;
+    private long multipartThresholdBytes = 8 * 1024 * 1024;
+    private long partSizeBytes = 5 * 1024 * 1024;
+    private int maxConcurrentParts = 4;
+    private long downloadTimeoutMs = 300000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getBucket() {
+        return bucket;
+    }
+
+    public void setBucket(String bucket) {
+        this.bucket = bucket;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public boolean isPathStyleAccess() {
+        return pathStyleAccess;
+    }
+
+    public void setPathStyleAccess(boolean pathStyleAccess) {
+        this.pathStyleAccess = pathStyleAccess;
+    }
+
+    public String getAccessKeyId() {
+        return accessKeyId;
+    }
+
+    public void setAccessKeyId(String accessKeyId) {
+        this.accessKeyId = accessKeyId;
+    }
+
+    public String getSecretAccessKey() {
+        return secretAccessKey;
+    }
+
+    public void setSecretAccessKey(String secretAccessKey) {
+        this.secretAccessKey = secretAccessKey;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public long getConnectionAcquireTimeoutMs() {
+        return connectionAcquireTimeoutMs;
+    }
+
+    public void setConnectionAcquireTimeoutMs(long connectionAcquireTimeoutMs) {
+        this.connectionAcquireTimeoutMs = connectionAcquireTimeoutMs;
+    }
+
+    public long getConnectionMaxIdleMs() {
+        return connectionMaxIdleMs;
+    }
+
+    public void setConnectionMaxIdleMs(long connectionMaxIdleMs) {
+        this.connectionMaxIdleMs = connectionMaxIdleMs;
+    }
+
+    public long getMultipartThresholdBytes() {
+        return multipartThresholdBytes;
+    }
+
+    public void setMultipartThresholdBytes(long multipartThresholdBytes) {
+        this.multipartThresholdBytes = multipartThresholdBytes;
+    }
+
+    public long getPartSizeBytes() {
+        return partSizeBytes;
+    }
+
+    public void setPartSizeBytes(long partSizeBytes) {
+        this.partSizeBytes = partSizeBytes;
+    }
+
+    public int getMaxConcurrentParts() {
+        return maxConcurrentParts;
+    }
+
+    public void setMaxConcurrentParts(int maxConcurrentParts) {
+        this.maxConcurrentParts = maxConcurrentParts;
+    }
+
+    public long getDownloadTimeoutMs() {
+        return downloadTimeoutMs;
+    }
+
+    public void setDownloadTimeoutMs(long downloadTimeoutMs) {
+        this.downloadTimeoutMs = downloadTimeoutMs;
+    }
+
+    public boolean isConfigured() {
+        return enabled && bucket != null && !bucket.isEmpty();
+    }
+}
@@ -0,0 +1,145 @@
+package com.ticketing.config;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class VirtualThreadPinningMonitor {
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.ticketing.";
+    private static final String OTHER_SITES = "(other)";
+    private static final int MAX_SITES = 100;
+    private static final int TOP_SITES = 10;
+    private static final int LOGGED_FRAMES = 12;
+
+    private final boolean enabled;
+    private final Duration threshold;
+    private final AtomicLong pinnedEvents = new AtomicLong();
+    private final AtomicLong pinnedNanos = new AtomicLong();
+    private final Map<String, AtomicLong> sites = new ConcurrentHashMap<>();
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${spring.threads.virtual.enabled:false}") boolean enabled,
+                                       @Value("${virtual-threads.pinning.threshold-ms:20}") long thresholdMs) {
+        this.enabled = enabled;
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || stream != null) {
+            return;
+        }
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            recording.onEvent(PINNED_EVENT, this::record);
+            recording.startAsync();
+            stream = recording;
+            logger.info("Watching for virtual threads pinned longer than {} ms", threshold.toMillis());
+        } catch (RuntimeException e) {
+            logger.warn("Virtual thread pinning detection unavailable: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        RecordingStream current = stream;
+        stream = null;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("enabled", enabled);
+        metrics.put("monitoring", stream != null);
+        metrics.put("thresholdMs", threshold.toMillis());
+        metrics.put("pinnedEvents", pinnedEvents.get());
+        metrics.put("pinnedMillis", pinnedNanos.get() / 1_000_000);
+
+        Map<String, Long> topSites = new LinkedHashMap<>();
+        sites.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, AtomicLong> e) -> e.getValue().get()).reversed())
+                .limit(TOP_SITES)
+                .forEach(e -> topSites.put(e.getKey(), e.getValue().get()));
+        metrics.put("sites", topSites);
+        return metrics;
+    }
+
+    private void record(RecordedEvent event) {
+        pinnedEvents.incrementAndGet();
+        pinnedNanos.addAndGet(event.getDuration().toNanos());
+
+        List<RecordedFrame> frames = event.getStackTrace() != null
+                ? event.getStackTrace().getFrames() : List.of();
+        String site = site(frames);
+        AtomicLong count = sites.get(site);
+        if (count == null) {
+            if (sites.size() >= MAX_SITES) {
+                sites.computeIfAbsent(OTHER_SITES, key -> new AtomicLong()).incrementAndGet();
+                return;
+            }
+            count = sites.computeIfAbsent(site, key -> new AtomicLong());
+            if (count.getAndIncrement() == 0) {
+                logger.warn("Virtual thread pinned its carrier for {} ms at {}:{}",
+                        event.getDuration().toMillis(), site, format(event.getStackTrace()));
+            }
+            return;
+        }
+        count.incrementAndGet();
+    }
+
+    private static String site(List<RecordedFrame> frames) {
+        RecordedFrame top = null;
+        for (RecordedFrame frame : frames) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            if (top == null) {
+                top = frame;
+            }
+            if (frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE)) {
+                return describe(frame);
+            }
+        }
+        return top != null ? describe(top) : "unknown";
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder();
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (int i = 0; i < Math.min(frames.size(), LOGGED_FRAMES); i++) {
+            builder.append("\n\tat ").append(describe(frames.get(i)));
+        }
+        return builder.toString();
+    }
+}
@@ -1,20 +1,39 @@
 package com.ticketing.controller;
 
+import com.ticketing.config.DatabasePoolGuard;
+import com.ticketing.config.VirtualThreadPinningMonitor;
 import com.ticketing.dto.AdminStatsResponse;
+import com.ticketing.dto.StatsGranularity;
+import com.ticketing.dto.StatsTrendPoint;
 import com.ticketing.service.AdminStatsService;
+import com.ticketing.service.StatsRollupService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/admin")
 public class AdminStatsController {
     private final AdminStatsService statsService;
+    private final StatsRollupService rollupService;
+    private final DatabasePoolGuard databasePoolGuard;
+    private final VirtualThreadPinningMonitor pinningMonitor;
 
-    public AdminStatsController(AdminStatsService statsService) {
+    public AdminStatsController(AdminStatsService statsService, StatsRollupService rollupService,
+                                DatabasePoolGuard databasePoolGuard, VirtualThreadPinningMonitor pinningMonitor) {
         this.statsService = statsService;
+        this.rollupService = rollupService;
+        this.databasePoolGuard = databasePoolGuard;
+        this.pinningMonitor = pinningMonitor;
     }
 
     @GetMapping("/stats")
@@ -22,5 +41,24 @@ public class AdminStatsController {
     public ResponseEntity<AdminStatsResponse> getStats() {
         return ResponseEntity.ok(statsService.getStats());
     }
-}
 
+    @GetMapping("/stats/trends")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<StatsTrendPoint>> getTrends(
+            @RequestParam(required = false) StatsGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(rollupService.getTrends(granularity, from, to));
+    }
+
+    @GetMapping("/runtime")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getRuntime() {
+        Map<String, Object> runtime = new LinkedHashMap<>();
+        runtime.put("requestThread", Thread.currentThread().isVirtual() ? "virtual" : "platform");
+        runtime.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        runtime.put("databasePool", databasePoolGuard.getPoolMetrics());
+        runtime.put("virtualThreadPinning", pinningMonitor.getMetrics());
+        return ResponseEntity.ok(runtime);
+    }
+}
@@ -7,6 +7,7 @@ import com.ticketing.dto.RegisterRequest;
 import com.ticketing.dto.UserResponse;
 import com.ticketing.entity.User;
 import com.ticketing.repository.UserRepository;
+import com.ticketing.security.UserPrincipal;
 import com.ticketing.service.AuthService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
@@ -32,10 +33,15 @@ public class AuthController {
 
     @GetMapping("/me")
     public ResponseEntity<UserResponse> getCurrentUser(Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        User user = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
+        User user;
+        if (authentication.getPrincipal() instanceof UserPrincipal principal && !principal.isFromToken()) {
+            user = principal.getUser();
+        } else {
+            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+            user = userRepository.findByEmail(userDetails.getUsername())
+                    .orElseThrow(() -> new RuntimeException("User not found"));
+        }
+
         UserResponse response = new UserResponse(
                 user.getId(),
                 user.getEmail(),
@@ -1,54 +1,68 @@
 package com.ticketing.controller;
 
+import com.ticketing.config.S3Properties;
+import com.ticketing.dto.AttachmentDescriptor;
 import com.ticketing.entity.User;
 import com.ticketing.repository.UserRepository;
+import com.ticketing.security.UserPrincipal;
+import com.ticketing.service.AttachmentUploadService;
 import com.ticketing.service.FileUploadService;
-import org.springframework.core.io.InputStreamResource;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
-import java.io.InputStream;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Duration;
 
 @RestController
 @RequestMapping("/api/files")
 public class FileController {
     private final FileUploadService fileUploadService;
+    private final AttachmentUploadService attachmentUploadService;
     private final UserRepository userRepository;
+    private final S3Properties s3Properties;
 
-    public FileController(FileUploadService fileUploadService, UserRepository userRepository) {
+    public FileController(FileUploadService fileUploadService, AttachmentUploadService attachmentUploadService,
+                          UserRepository userRepository, S3Properties s3Properties) {
         this.fileUploadService = fileUploadService;
+        this.attachmentUploadService = attachmentUploadService;
         this.userRepository = userRepository;
+        this.s3Properties = s3Properties;
     }
 
     @GetMapping("/{attachmentId}")
-    public ResponseEntity<InputStreamResource> getFile(
+    public void getFile(
             @PathVariable Long attachmentId,
-            Authentication authentication) {
+            Authentication authentication,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
         try {
             User currentUser = getCurrentUser(authentication);
-            InputStream fileStream = fileUploadService.getFileStream(attachmentId, currentUser);
-            String filename = fileUploadService.getOriginalFilename(attachmentId);
+            AttachmentDescriptor descriptor = fileUploadService.getDescriptor(attachmentId, currentUser);
+            String contentType = determineContentType(descriptor);
 
-            if (filename == null || fileStream == null) {
-                return ResponseEntity.notFound().build();
+            Path localFile = fileUploadService.getLocalFile(descriptor);
+            if (localFile != null) {
+                FileRangeWriter.write(localFile, descriptor.getFilename(), contentType, request, response);
+                return;
             }
 
-            String contentType = determineContentType(filename);
-            
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(contentType))
-                    .header(HttpHeaders.CONTENT_DISPOSITION, 
-                            "attachment; filename=\"" + filename + "\"")
-                    .body(new InputStreamResource(fileStream));
+            ObjectDownloadStreamer.stream(fileUploadService.downloadRemote(descriptor, singleRange(request),
+                            request.getHeader(HttpHeaders.IF_NONE_MATCH)), descriptor.getFilename(), contentType,
+                    request, response, s3Properties.getDownloadTimeoutMs());
         } catch (RuntimeException e) {
-            return ResponseEntity.status(403).build();
-        } catch (Exception e) {
-            return ResponseEntity.notFound().build();
+            if (!response.isCommitted()) {
+                response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+            }
+        } catch (IOException e) {
+            if (!response.isCommitted()) {
+                response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            }
         }
     }
 
@@ -58,51 +72,49 @@ public class FileController {
             Authentication authentication) {
         try {
             User currentUser = getCurrentUser(authentication);
-            InputStream fileStream = fileUploadService.getFileStream(attachmentId, currentUser);
-            fileStream.close();
-            
-            String url = fileUploadService.getAttachmentUrl(attachmentId);
-            String key = extractKeyFromUrl(url);
-            
-            String presignedUrl = fileUploadService.getPresignedUrl(key, Duration.ofHours(1));
-            
-            if (presignedUrl != null) {
-                return ResponseEntity.ok(presignedUrl);
-            } else {
-                return ResponseEntity.ok("/api/files/" + attachmentId);
-            }
+            AttachmentDescriptor descriptor = fileUploadService.getDescriptor(attachmentId, currentUser);
+
+            return ResponseEntity.ok(fileUploadService.getPresignedUrl(descriptor.getStorageKey(), Duration.ofHours(1))
+                    .orElse("/api/files/" + attachmentId));
         } catch (RuntimeException e) {
             return ResponseEntity.status(403).build();
-        } catch (Exception e) {
-            return ResponseEntity.notFound().build();
         }
     }
 
+    @PutMapping("/uploads/{uploadId}")
+    public ResponseEntity<Void> receiveUpload(
+            @PathVariable String uploadId,
+            HttpServletRequest request,
+            Authentication authentication) throws IOException {
+        User currentUser = getCurrentUser(authentication);
+        if (request.getContentLengthLong() > FileUploadService.MAX_FILE_SIZE) {
+            throw new RuntimeException("File size exceeds 10MB limit");
+        }
+        attachmentUploadService.receive(uploadId, request.getInputStream(), currentUser);
+        return ResponseEntity.noContent().build();
+    }
+
     private User getCurrentUser(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getUser();
+        }
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
         return userRepository.findByEmail(userDetails.getUsername())
                 .orElseThrow(() -> new RuntimeException("User not found"));
     }
 
-    private String determineContentType(String filename) {
-        String lower = filename.toLowerCase();
-        if (lower.endsWith(".png")) {
-            return "image/png";
-        } else if (lower.endsWith(".jpg") || lower.endsWith(".jpeg")) {
-            return "image/jpeg";
-        } else if (lower.endsWith(".pdf")) {
-            return "application/pdf";
-        } else if (lower.endsWith(".txt")) {
-            return "text/plain";
+    private String singleRange(HttpServletRequest request) {
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range == null || !range.startsWith("bytes=") || range.indexOf(',') >= 0) {
+            return null;
         }
-        return "application/octet-stream";
+        return range;
     }
 
-    private String extractKeyFromUrl(String url) {
-        if (url.startsWith("/api/files/")) {
-            return url.replace("/api/files/", "");
+    private String determineContentType(AttachmentDescriptor descriptor) {
+        if (descriptor.getContentType() != null) {
+            return descriptor.getContentType();
         }
-        return url;
+        return FileUploadService.contentTypeFor(descriptor.getFilename());
     }
 }
-
@@ -0,0 +1,233 @@
+package com.ticketing.controller;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+final class MultipartStreamReader {
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_BOUNDARY_LENGTH = 70;
+    private static final int MAX_HEADER_BYTES = 8192;
+
+    private final InputStream in;
+    private final byte[] delimiter;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int head;
+    private int tail;
+    private boolean eof;
+    private boolean partEnded;
+    private boolean finished;
+
+    MultipartStreamReader(InputStream in, String contentType) {
+        MediaType mediaType;
+        try {
+            mediaType = MediaType.parseMediaType(contentType != null ? contentType : "");
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Request must be multipart/form-data");
+        }
+        String boundary = mediaType.getParameter("boundary");
+        if (!MediaType.MULTIPART_FORM_DATA.includes(mediaType) || boundary == null) {
+            throw new RuntimeException("Request must be multipart/form-data");
+        }
+        if (boundary.startsWith("\"") && boundary.endsWith("\"") && boundary.length() > 1) {
+            boundary = boundary.substring(1, boundary.length() - 1);
+        }
+        if (boundary.isEmpty() || boundary.length() > MAX_BOUNDARY_LENGTH) {
+            throw new RuntimeException("Invalid multipart boundary");
+        }
+
+        this.in = in;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        buffer[0] = '\r';
+        buffer[1] = '\n';
+        tail = 2;
+    }
+
+    Part next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        if (!partEnded) {
+            drainPart();
+        }
+
+        int first = readByte();
+        int second = readByte();
+        if (first == '-' && second == '-') {
+            finished = true;
+            return null;
+        }
+        while (first == ' ' || first == '\t') {
+            first = second;
+            second = readByte();
+        }
+        if (first != '\r' || second != '\n') {
+            throw new RuntimeException("Malformed multipart request");
+        }
+
+        HttpHeaders headers = readHeaders();
+        partEnded = false;
+        String disposition = headers.getFirst(HttpHeaders.CONTENT_DISPOSITION);
+        ContentDisposition contentDisposition;
+        try {
+            contentDisposition = disposition != null
+                    ? ContentDisposition.parse(disposition) : ContentDisposition.empty();
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Malformed multipart request");
+        }
+        return new Part(contentDisposition.getName(), contentDisposition.getFilename(),
+                headers.getFirst(HttpHeaders.CONTENT_TYPE), new PartInputStream());
+    }
+
+    private void drainPart() throws IOException {
+        byte[] discard = new byte[BUFFER_SIZE];
+        int n;
+        do {
+            n = readBody(discard, 0, discard.length);
+        } while (n >= 0);
+    }
+
+    private HttpHeaders readHeaders() throws IOException {
+        HttpHeaders headers = new HttpHeaders();
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int total = 0;
+        while (true) {
+            int b = readByte();
+            if (++total > MAX_HEADER_BYTES) {
+                throw new RuntimeException("Multipart headers too large");
+            }
+            if (b != '\n') {
+                line.write(b);
+                continue;
+            }
+            String text = line.toString(StandardCharsets.UTF_8);
+            line.reset();
+            if (text.endsWith("\r")) {
+                text = text.substring(0, text.length() - 1);
+            }
+            if (text.isEmpty()) {
+                return headers;
+            }
+            int colon = text.indexOf(':');
+            if (colon <= 0) {
+                throw new RuntimeException("Malformed multipart request");
+            }
+            headers.add(text.substring(0, colon).trim(), text.substring(colon + 1).trim());
+        }
+    }
+
+    private int readByte() throws IOException {
+        if (head == tail && !fill()) {
+            throw new RuntimeException("Multipart request ended unexpectedly");
+        }
+        return buffer[head++] & 0xff;
+    }
+
+    private int readBody(byte[] b, int off, int len) throws IOException {
+        if (partEnded) {
+            return -1;
+        }
+        while (true) {
+            int match = indexOfDelimiter();
+            if (match == head) {
+                head += delimiter.length;
+                partEnded = true;
+                return -1;
+            }
+            int safe = match >= 0 ? match - head : tail - head - (delimiter.length - 1);
+            if (safe > 0) {
+                int n = Math.min(len, safe);
+                System.arraycopy(buffer, head, b, off, n);
+                head += n;
+                return n;
+            }
+            if (!fill()) {
+                throw new RuntimeException("Multipart request ended before its closing boundary");
+            }
+        }
+    }
+
+    private int indexOfDelimiter() {
+        int last = tail - delimiter.length;
+        outer:
+        for (int i = head; i <= last; i++) {
+            for (int j = 0; j < delimiter.length; j++) {
+                if (buffer[i + j] != delimiter[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        if (head > 0) {
+            System.arraycopy(buffer, head, buffer, 0, tail - head);
+            tail -= head;
+            head = 0;
+        }
+        int n = in.read(buffer, tail, buffer.length - tail);
+        if (n < 0) {
+            eof = true;
+            return false;
+        }
+        tail += n;
+        return true;
+    }
+
+    static final class Part {
+        private final String name;
+        private final String filename;
+        private final String contentType;
+        private final InputStream inputStream;
+
+        Part(String name, String filename, String contentType, InputStream inputStream) {
+            this.name = name;
+            this.filename = filename;
+            this.contentType = contentType;
+            this.inputStream = inputStream;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        String getFilename() {
+            return filename;
+        }
+
+        String getContentType() {
+            return contentType;
+        }
+
+        InputStream getInputStream() {
+            return inputStream;
+        }
+    }
+
+    private final class PartInputStream extends InputStream {
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            int n = read(one, 0, 1);
+            return n < 0 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            return readBody(b, off, len);
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.ticketing.controller;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.ticketing.storage.ObjectDownload;
+import com.ticketing.storage.ObjectDownloadException;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+final class ObjectDownloadStreamer implements Subscriber<ByteBuffer> {
+    private static final Logger logger = LoggerFactory.getLogger(ObjectDownloadStreamer.class);
+
+    private final AsyncContext asyncContext;
+    private final HttpServletResponse response;
+    private final Queue<ByteBuffer> pending = new ArrayDeque<>();
+    private final byte[] copyBuffer = new byte[8192];
+    private CompletableFuture<?> download;
+    private ServletOutputStream out;
+    private Subscription subscription;
+    private boolean requested;
+    private boolean upstreamDone;
+    private boolean finished;
+
+    private ObjectDownloadStreamer(AsyncContext asyncContext, HttpServletResponse response) {
+        this.asyncContext = asyncContext;
+        this.response = response;
+    }
+
+    static void stream(CompletableFuture<ObjectDownload> download, String filename,
+                       String contentType, HttpServletRequest request, HttpServletResponse response,
+                       long timeoutMs) {
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(timeoutMs);
+        ObjectDownloadStreamer streamer = new ObjectDownloadStreamer(asyncContext, response);
+        asyncContext.addListener(streamer.new CancelOnAbort());
+        streamer.download = download;
+
+        download.whenComplete((object, error) -> {
+            if (error != null) {
+                streamer.failBeforeBody(error);
+            } else {
+                streamer.start(object, filename, contentType);
+            }
+        });
+    }
+
+    private void start(ObjectDownload object, String filename, String contentType) {
+        synchronized (this) {
+            if (finished) {
+                object.getBody().subscribe(new CancellingSubscriber());
+                return;
+            }
+            try {
+                writeHeaders(object, filename, contentType);
+                out = response.getOutputStream();
+                out.setWriteListener(new Writer());
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Could not start streaming {}: {}", filename, e.getMessage());
+                object.getBody().subscribe(new CancellingSubscriber());
+                finished = true;
+                completeQuietly();
+                return;
+            }
+        }
+        object.getBody().subscribe(this);
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        synchronized (this) {
+            this.subscription = subscription;
+        }
+        drain();
+    }
+
+    @Override
+    public void onNext(ByteBuffer buffer) {
+        synchronized (this) {
+            pending.add(buffer);
+            requested = false;
+        }
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        logger.warn("Download failed mid-stream: {}", error.getMessage());
+        finish(true);
+    }
+
+    @Override
+    public void onComplete() {
+        synchronized (this) {
+            upstreamDone = true;
+        }
+        drain();
+    }
+
+    private void drain() {
+        boolean requestMore = false;
+        boolean complete = false;
+        synchronized (this) {
+            if (finished || subscription == null) {
+                return;
+            }
+            try {
+                while (out.isReady()) {
+                    ByteBuffer buffer = pending.peek();
+                    if (buffer == null) {
+                        if (upstreamDone) {
+                            complete = true;
+                        } else if (!requested) {
+                            requested = true;
+                            requestMore = true;
+                        }
+                        break;
+                    }
+                    write(buffer);
+                    if (!buffer.hasRemaining()) {
+                        pending.poll();
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.debug("Client went away during download: {}", e.getMessage());
+                finished = true;
+                subscription.cancel();
+                completeQuietly();
+                return;
+            }
+        }
+        if (complete) {
+            finish(false);
+        } else if (requestMore) {
+            subscription.request(1);
+        }
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        if (buffer.hasArray()) {
+            out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+            return;
+        }
+        int n = Math.min(buffer.remaining(), copyBuffer.length);
+        buffer.get(copyBuffer, 0, n);
+        out.write(copyBuffer, 0, n);
+    }
+
+    private void finish(boolean cancel) {
+        Subscription toCancel;
+        synchronized (this) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            toCancel = cancel ? subscription : null;
+            pending.clear();
+        }
+        if (cancel) {
+            download.cancel(true);
+        }
+        if (toCancel != null) {
+            toCancel.cancel();
+        }
+        completeQuietly();
+    }
+
+    private void writeHeaders(ObjectDownload object, String filename, String contentType) {
+        if (object.getContentRange() != null) {
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, object.getContentRange());
+        }
+        response.setContentType(contentType);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache, private");
+        if (object.getETag() != null) {
+            response.setHeader(HttpHeaders.ETAG, object.getETag());
+        }
+        if (object.getLastModified() != null) {
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, object.getLastModified().toEpochMilli());
+        }
+        if (object.getContentLength() != null) {
+            response.setContentLengthLong(object.getContentLength());
+        }
+    }
+
+    private synchronized void failBeforeBody(Throwable error) {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        try {
+            if (cause instanceof ObjectDownloadException rejected) {
+                response.setStatus(rejected.getStatus());
+                if (rejected.getContentRange() != null) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, rejected.getContentRange());
+                }
+            } else {
+                logger.warn("Download failed: {}", cause.getMessage());
+                response.setStatus(HttpServletResponse.SC_BAD_GATEWAY);
+            }
+        } finally {
+            completeQuietly();
+        }
+    }
+
+    private void completeQuietly() {
+        try {
+            asyncContext.complete();
+        } catch (IllegalStateException e) {
+            logger.debug("Download already completed: {}", e.getMessage());
+        }
+    }
+
+    private static final class CancellingSubscriber implements Subscriber<ByteBuffer> {
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscription.cancel();
+        }
+
+        @Override
+        public void onNext(ByteBuffer buffer) {
+        }
+
+        @Override
+        public void onError(Throwable error) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+
+    private final class Writer implements WriteListener {
+        @Override
+        public void onWritePossible() {
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            logger.debug("Client went away during download: {}", error.getMessage());
+            finish(true);
+        }
+    }
+
+    private final class CancelOnAbort implements AsyncListener {
+        @Override
+        public void onComplete(AsyncEvent event) {
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            logger.warn("Download timed out");
+            finish(true);
+            completeQuietly();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            finish(true);
+            completeQuietly();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.ticketing.controller;
 import com.ticketing.dto.RatingRequest;
 import com.ticketing.entity.User;
 import com.ticketing.repository.UserRepository;
+import com.ticketing.security.UserPrincipal;
 import com.ticketing.service.RatingService;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
@@ -32,6 +33,9 @@ public class RatingController {
     }
 
     private User getCurrentUser(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getUser();
+        }
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
         return userRepository.findByEmail(userDetails.getUsername())
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -3,42 +3,62 @@ package com.ticketing.controller;
 import com.ticketing.dto.*;
 import com.ticketing.entity.User;
 import com.ticketing.repository.UserRepository;
+import com.ticketing.security.UserPrincipal;
+import com.ticketing.entity.Attachment;
 import com.ticketing.service.AttachmentService;
+import com.ticketing.service.AttachmentUploadService;
 import com.ticketing.service.CommentService;
 import com.ticketing.service.FileUploadService;
 import com.ticketing.service.TicketService;
+import com.ticketing.service.TriageService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/tickets")
 public class TicketController {
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final long MULTIPART_OVERHEAD = 64 * 1024;
+
     private final TicketService ticketService;
     private final CommentService commentService;
     private final FileUploadService fileUploadService;
     private final AttachmentService attachmentService;
+    private final AttachmentUploadService attachmentUploadService;
+    private final TriageService triageService;
     private final UserRepository userRepository;
 
     public TicketController(TicketService ticketService, CommentService commentService,
                            FileUploadService fileUploadService, AttachmentService attachmentService,
+                           AttachmentUploadService attachmentUploadService, TriageService triageService,
                            UserRepository userRepository) {
         this.ticketService = ticketService;
         this.commentService = commentService;
         this.fileUploadService = fileUploadService;
         this.attachmentService = attachmentService;
+        this.attachmentUploadService = attachmentUploadService;
+        this.triageService = triageService;
         this.userRepository = userRepository;
     }
 
     @GetMapping
-    public ResponseEntity<List<TicketResponse>> getAllTickets(Authentication authentication) {
+    public ResponseEntity<List<TicketResponse>> getAllTickets(@RequestParam(required = false) String cursor,
+                                                              @RequestParam(required = false) Integer size,
+                                                              Authentication authentication) {
         User currentUser = getCurrentUser(authentication);
-        return ResponseEntity.ok(ticketService.getAllTickets(currentUser));
+        TicketPageResponse page = ticketService.getTickets(currentUser, cursor, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getContent());
     }
 
     @PostMapping
@@ -48,6 +68,21 @@ public class TicketController {
         return ResponseEntity.ok(ticketService.createTicket(request, currentUser));
     }
 
+    @PostMapping("/triaged")
+    public ResponseEntity<TicketResponse> createTriagedTicket(@Valid @RequestBody TriagePredictionRequest request,
+                                                              Authentication authentication) {
+        User currentUser = getCurrentUser(authentication);
+        TriagePredictionResponse triage = triageService.predict(request);
+
+        TicketRequest ticketRequest = new TicketRequest();
+        ticketRequest.setTitle(request.getTitle());
+        ticketRequest.setDescription(request.getDescription());
+        ticketRequest.setPriority(triage.getSuggestedPriority());
+        TicketResponse ticket = ticketService.createTicketWithTriage(ticketRequest, currentUser, triage);
+        triageService.logPrediction(ticket.getId(), request, triage);
+        return ResponseEntity.ok(ticket);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<TicketResponse> getTicketById(@PathVariable Long id,
                                                        Authentication authentication) {
@@ -95,22 +130,64 @@ public class TicketController {
 
     @PostMapping("/{id}/attachments")
     public ResponseEntity<AttachmentResponse> uploadAttachment(@PathVariable Long id,
-                                                              @RequestParam("file") MultipartFile file,
-                                                              Authentication authentication) {
+                                                              HttpServletRequest request,
+                                                              Authentication authentication) throws IOException {
+        User currentUser = getCurrentUser(authentication);
+        if (request.getContentLengthLong() > FileUploadService.MAX_FILE_SIZE + MULTIPART_OVERHEAD) {
+            throw new RuntimeException("File size exceeds 10MB limit");
+        }
+
+        MultipartStreamReader reader = new MultipartStreamReader(request.getInputStream(), request.getContentType());
+        MultipartStreamReader.Part part;
+        do {
+            part = reader.next();
+        } while (part != null && !("file".equals(part.getName()) && part.getFilename() != null));
+        if (part == null) {
+            throw new RuntimeException("Request has no file part");
+        }
+
+        var attachment = fileUploadService.uploadFile(id, part.getFilename(), part.getContentType(),
+                part.getInputStream(), currentUser);
+        return ResponseEntity.ok(toAttachmentResponse(attachment));
+    }
+
+    @PostMapping("/{id}/attachments/upload-url")
+    public ResponseEntity<AttachmentUploadResponse> createAttachmentUpload(
+            @PathVariable Long id,
+            @Valid @RequestBody AttachmentUploadRequest request,
+            Authentication authentication) {
         User currentUser = getCurrentUser(authentication);
-        var attachment = fileUploadService.uploadFile(id, file, currentUser);
+        return ResponseEntity.ok(attachmentUploadService.createUpload(id, request, currentUser));
+    }
+
+    @PostMapping("/{id}/attachments/uploads/{uploadId}/confirm")
+    public ResponseEntity<AttachmentResponse> confirmAttachmentUpload(@PathVariable Long id,
+                                                                      @PathVariable String uploadId,
+                                                                      Authentication authentication) {
+        User currentUser = getCurrentUser(authentication);
+        Attachment attachment = attachmentUploadService.confirm(id, uploadId, currentUser);
+        return ResponseEntity.ok(toAttachmentResponse(attachment));
+    }
+
+    private AttachmentResponse toAttachmentResponse(Attachment attachment) {
         AttachmentResponse response = new AttachmentResponse();
         response.setId(attachment.getId());
         response.setTicketId(attachment.getTicket().getId());
         response.setFilename(attachment.getFilename());
         response.setUrl("/api/files/" + attachment.getId());
+        response.setContentType(attachment.getContentType());
+        response.setSizeBytes(attachment.getSizeBytes());
+        response.setSha256(attachment.getContentSha256());
         response.setUploadedById(attachment.getUploadedBy().getId());
         response.setUploadedByName(attachment.getUploadedBy().getFullName());
         response.setCreatedAt(attachment.getCreatedAt());
-        return ResponseEntity.ok(response);
+        return response;
     }
 
     private User getCurrentUser(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getUser();
+        }
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
         return userRepository.findByEmail(userDetails.getUsername())
                 .orElseThrow(() -> new RuntimeException("User not found"));
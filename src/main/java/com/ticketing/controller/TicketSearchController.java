@@ -4,6 +4,7 @@ import com.ticketing.dto.TicketSearchRequest;
 import com.ticketing.dto.TicketSearchResponse;
 import com.ticketing.entity.User;
 import com.ticketing.repository.UserRepository;
+import com.ticketing.security.UserPrincipal;
 import com.ticketing.service.TicketSearchService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -24,6 +25,7 @@ public class TicketSearchController {
     @GetMapping("/search")
     public ResponseEntity<TicketSearchResponse> search(
             @RequestParam(required = false) String q,
+            @RequestParam(required = false) String mode,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String priority,
             @RequestParam(required = false) Long assignee,
@@ -32,6 +34,9 @@ public class TicketSearchController {
             Authentication authentication) {
         TicketSearchRequest request = new TicketSearchRequest();
         request.setQ(q);
+        if (mode != null) {
+            request.setMode(com.ticketing.dto.SearchMode.valueOf(mode));
+        }
         if (status != null) {
             request.setStatus(com.ticketing.entity.Status.valueOf(status));
         }
@@ -47,6 +52,9 @@ public class TicketSearchController {
     }
 
     private User getCurrentUser(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getUser();
+        }
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
         return userRepository.findByEmail(userDetails.getUsername())
                 .orElseThrow(() -> new RuntimeException("User not found"));
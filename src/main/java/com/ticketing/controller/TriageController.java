@@ -2,20 +2,29 @@ package com.ticketing.controller;
 
 import com.ticketing.dto.TriagePredictionRequest;
 import com.ticketing.dto.TriagePredictionResponse;
+import com.ticketing.service.TriageBatchService;
 import com.ticketing.service.TriageService;
+import com.ticketing.service.TriageTrainingService;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/api/triage")
 public class TriageController {
     private final TriageService triageService;
+    private final TriageBatchService triageBatchService;
+    private final TriageTrainingService triageTrainingService;
 
-    public TriageController(TriageService triageService) {
+    public TriageController(TriageService triageService, TriageBatchService triageBatchService,
+                            TriageTrainingService triageTrainingService) {
         this.triageService = triageService;
+        this.triageBatchService = triageBatchService;
+        this.triageTrainingService = triageTrainingService;
     }
 
     @PostMapping("/predict")
@@ -24,9 +33,41 @@ public class TriageController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/predict/batch")
+    @PreAuthorize("hasAnyRole('ADMIN','AGENT') and (!#log or hasRole('ADMIN'))")
+    public ResponseEntity<List<TriagePredictionResponse>> predictBatch(
+            @RequestBody List<TriagePredictionRequest> requests,
+            @RequestParam(defaultValue = "false") boolean log) {
+        return ResponseEntity.ok(triageBatchService.predictBatch(requests, log));
+    }
+
     @GetMapping("/model-info")
     public ResponseEntity<Map<String, Object>> getModelInfo() {
         return ResponseEntity.ok(triageService.getModelInfo());
     }
+
+    @PostMapping("/dictionary/reload")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> reloadDictionary() {
+        return ResponseEntity.ok(triageService.reloadDictionary());
+    }
+
+    @PostMapping("/model/train")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> trainModel(@RequestParam(defaultValue = "false") boolean full) {
+        return ResponseEntity.ok(triageTrainingService.train(full));
+    }
+
+    @GetMapping("/cache-metrics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Long>> getCacheMetrics() {
+        return ResponseEntity.ok(triageService.getCacheMetrics());
+    }
+
+    @GetMapping("/log-metrics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Long>> getLogMetrics() {
+        return ResponseEntity.ok(triageService.getLogMetrics());
+    }
 }
 
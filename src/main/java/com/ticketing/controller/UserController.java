@@ -1,6 +1,7 @@
 package com.ticketing.controller;
 
 import com.ticketing.dto.CreateUserRequest;
+import com.ticketing.dto.UpdateRoleRequest;
 import com.ticketing.dto.UserResponse;
 import com.ticketing.service.UserService;
 import jakarta.validation.Valid;
@@ -30,5 +31,18 @@ public class UserController {
     public ResponseEntity<UserResponse> createUser(@Valid @RequestBody CreateUserRequest request) {
         return ResponseEntity.ok(userService.createUser(request));
     }
-}
 
+    @PostMapping("/{id}/role")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserResponse> updateRole(@PathVariable Long id,
+                                                   @Valid @RequestBody UpdateRoleRequest request) {
+        return ResponseEntity.ok(userService.updateRole(id, request.getRole()));
+    }
+
+    @PostMapping("/{id}/revoke-tokens")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> revokeTokens(@PathVariable Long id) {
+        userService.revokeTokens(id);
+        return ResponseEntity.ok().build();
+    }
+}
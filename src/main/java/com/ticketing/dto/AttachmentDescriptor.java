@@ -0,0 +1,62 @@
+package com.ticketing.dto;
+
+public class AttachmentDescriptor {
+    private static final String LOCAL_URL_PREFIX = "/api/files/";
+
+    private final Long id;
+    private final String url;
+    private final String filename;
+    private final String contentType;
+    private final Long sizeBytes;
+    private final Long ticketId;
+    private final Long ownerId;
+    private final Long assigneeId;
+
+    public AttachmentDescriptor(Long id, String url, String filename, String contentType, Long sizeBytes,
+                                Long ticketId, Long ownerId, Long assigneeId) {
+        this.id = id;
+        this.url = url;
+        this.filename = filename;
+        this.contentType = contentType;
+        this.sizeBytes = sizeBytes;
+        this.ticketId = ticketId;
+        this.ownerId = ownerId;
+        this.assigneeId = assigneeId;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getStorageKey() {
+        return url.startsWith(LOCAL_URL_PREFIX) ? url.substring(LOCAL_URL_PREFIX.length()) : url;
+    }
+
+    public String getFilename() {
+        return filename;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public Long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+}
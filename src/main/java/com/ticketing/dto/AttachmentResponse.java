@@ -7,6 +7,9 @@ public class AttachmentResponse {
     private Long ticketId;
     private String filename;
     private String url;
+    private String contentType;
+    private Long sizeBytes;
+    private String sha256;
     private Long uploadedById;
     private String uploadedByName;
     private LocalDateTime createdAt;
@@ -46,6 +49,30 @@ public class AttachmentResponse {
         this.url = url;
     }
 
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public Long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public void setSizeBytes(Long sizeBytes) {
+        this.sizeBytes = sizeBytes;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+
     public Long getUploadedById() {
         return uploadedById;
     }
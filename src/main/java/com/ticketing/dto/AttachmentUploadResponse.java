@@ -0,0 +1,55 @@
+package com.ticketing.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public class AttachmentUploadResponse {
+    private String uploadId;
+    private String method;
+    private String url;
+    private Map<String, String> headers;
+    private LocalDateTime expiresAt;
+
+    public AttachmentUploadResponse() {
+    }
+
+    public String getUploadId() {
+        return uploadId;
+    }
+
+    public void setUploadId(String uploadId) {
+        this.uploadId = uploadId;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public void setHeaders(Map<String, String> headers) {
+        this.headers = headers;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
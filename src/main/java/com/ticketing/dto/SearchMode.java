@@ -0,0 +1,7 @@
+package com.ticketing.dto;
+
+public enum SearchMode {
+    BASIC,
+    FULLTEXT,
+    INDEX
+}
@@ -0,0 +1,6 @@
+package com.ticketing.dto;
+
+public enum StatsGranularity {
+    HOUR,
+    DAY
+}
@@ -0,0 +1,73 @@
+package com.ticketing.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class StatsTrendPoint {
+    private LocalDateTime bucketStart;
+    private Long openedCount;
+    private Long resolvedCount;
+    private Long slaBreachCount;
+    private BigDecimal avgResolutionTime;
+    private Long ratedCount;
+    private BigDecimal avgRating;
+
+    public StatsTrendPoint() {
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public Long getOpenedCount() {
+        return openedCount;
+    }
+
+    public void setOpenedCount(Long openedCount) {
+        this.openedCount = openedCount;
+    }
+
+    public Long getResolvedCount() {
+        return resolvedCount;
+    }
+
+    public void setResolvedCount(Long resolvedCount) {
+        this.resolvedCount = resolvedCount;
+    }
+
+    public Long getSlaBreachCount() {
+        return slaBreachCount;
+    }
+
+    public void setSlaBreachCount(Long slaBreachCount) {
+        this.slaBreachCount = slaBreachCount;
+    }
+
+    public BigDecimal getAvgResolutionTime() {
+        return avgResolutionTime;
+    }
+
+    public void setAvgResolutionTime(BigDecimal avgResolutionTime) {
+        this.avgResolutionTime = avgResolutionTime;
+    }
+
+    public Long getRatedCount() {
+        return ratedCount;
+    }
+
+    public void setRatedCount(Long ratedCount) {
+        this.ratedCount = ratedCount;
+    }
+
+    public BigDecimal getAvgRating() {
+        return avgRating;
+    }
+
+    public void setAvgRating(BigDecimal avgRating) {
+        this.avgRating = avgRating;
+    }
+}
@@ -0,0 +1,39 @@
+package com.ticketing.dto;
+
+import java.util.List;
+
+public class TicketPageResponse {
+    private List<TicketResponse> content;
+    private String nextCursor;
+    private Integer size;
+
+    public TicketPageResponse(List<TicketResponse> content, String nextCursor, Integer size) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.size = size;
+    }
+
+    public List<TicketResponse> getContent() {
+        return content;
+    }
+
+    public void setContent(List<TicketResponse> content) {
+        this.content = content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public Integer getSize() {
+        return size;
+    }
+
+    public void setSize(Integer size) {
+        this.size = size;
+    }
+}
@@ -3,6 +3,7 @@ package com.ticketing.dto;
 import com.ticketing.entity.Priority;
 import com.ticketing.entity.Status;
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class TicketResponse {
     private Long id;
@@ -18,10 +19,31 @@ public class TicketResponse {
     private LocalDateTime updatedAt;
     private LocalDateTime slaDueAt;
     private Integer urgencyScore;
+    private Long duplicateOfId;
+    private List<Long> possibleDuplicateIds;
 
     public TicketResponse() {
     }
 
+    public TicketResponse(Long id, String title, String description, Priority priority, Status status,
+                          Long ownerId, String ownerName, Long assigneeId, String assigneeName,
+                          LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime slaDueAt,
+                          Integer urgencyScore) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.priority = priority;
+        this.status = status;
+        this.ownerId = ownerId;
+        this.ownerName = ownerName;
+        this.assigneeId = assigneeId;
+        this.assigneeName = assigneeName;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.slaDueAt = slaDueAt;
+        this.urgencyScore = urgencyScore;
+    }
+
     public Long getId() {
         return id;
     }
@@ -125,5 +147,21 @@ public class TicketResponse {
     public void setUrgencyScore(Integer urgencyScore) {
         this.urgencyScore = urgencyScore;
     }
+
+    public Long getDuplicateOfId() {
+        return duplicateOfId;
+    }
+
+    public void setDuplicateOfId(Long duplicateOfId) {
+        this.duplicateOfId = duplicateOfId;
+    }
+
+    public List<Long> getPossibleDuplicateIds() {
+        return possibleDuplicateIds;
+    }
+
+    public void setPossibleDuplicateIds(List<Long> possibleDuplicateIds) {
+        this.possibleDuplicateIds = possibleDuplicateIds;
+    }
 }
 
@@ -5,6 +5,7 @@ import com.ticketing.entity.Status;
 
 public class TicketSearchRequest {
     private String q;
+    private SearchMode mode = SearchMode.BASIC;
     private Status status;
     private Priority priority;
     private Long assignee;
@@ -19,6 +20,14 @@ public class TicketSearchRequest {
         this.q = q;
     }
 
+    public SearchMode getMode() {
+        return mode;
+    }
+
+    public void setMode(SearchMode mode) {
+        this.mode = mode;
+    }
+
     public Status getStatus() {
         return status;
     }
@@ -0,0 +1,25 @@
+package com.ticketing.dto;
+
+public class TicketSearchResult extends TicketResponse {
+    private Double rank;
+    private String snippet;
+
+    public TicketSearchResult() {
+    }
+
+    public Double getRank() {
+        return rank;
+    }
+
+    public void setRank(Double rank) {
+        this.rank = rank;
+    }
+
+    public String getSnippet() {
+        return snippet;
+    }
+
+    public void setSnippet(String snippet) {
+        this.snippet = snippet;
+    }
+}
@@ -12,6 +12,8 @@ public class TriagePredictionResponse {
     private BigDecimal confidence;
     private List<String> keywords;
     private BigDecimal predictedSlaBreachProbability;
+    private boolean cached;
+    private String duplicateClusterId;
 
     public TriagePredictionResponse() {
     }
@@ -98,5 +100,21 @@ public class TriagePredictionResponse {
     public void setPredictedSlaBreachProbability(BigDecimal predictedSlaBreachProbability) {
         this.predictedSlaBreachProbability = predictedSlaBreachProbability;
     }
+
+    public boolean isCached() {
+        return cached;
+    }
+
+    public void setCached(boolean cached) {
+        this.cached = cached;
+    }
+
+    public String getDuplicateClusterId() {
+        return duplicateClusterId;
+    }
+
+    public void setDuplicateClusterId(String duplicateClusterId) {
+        this.duplicateClusterId = duplicateClusterId;
+    }
 }
 
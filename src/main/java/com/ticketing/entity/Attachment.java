@@ -20,6 +20,19 @@ public class Attachment {
     @Column(nullable = false)
     private String url;
 
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "size_bytes")
+    private Long sizeBytes;
+
+    @Column(name = "content_sha256")
+    private String contentSha256;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "blob_sha256")
+    private AttachmentBlob blob;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "uploaded_by", nullable = false)
     private User uploadedBy;
@@ -64,6 +77,38 @@ public class Attachment {
         this.url = url;
     }
 
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public Long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public void setSizeBytes(Long sizeBytes) {
+        this.sizeBytes = sizeBytes;
+    }
+
+    public String getContentSha256() {
+        return contentSha256;
+    }
+
+    public void setContentSha256(String contentSha256) {
+        this.contentSha256 = contentSha256;
+    }
+
+    public AttachmentBlob getBlob() {
+        return blob;
+    }
+
+    public void setBlob(AttachmentBlob blob) {
+        this.blob = blob;
+    }
+
     public User getUploadedBy() {
         return uploadedBy;
     }
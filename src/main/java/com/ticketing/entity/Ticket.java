@@ -50,6 +50,12 @@ public class Ticket {
     @Column(name = "resolved_at")
     private LocalDateTime resolvedAt;
 
+    @Column(name = "duplicate_of_id")
+    private Long duplicateOfId;
+
+    @Column(name = "triage_category", length = 100)
+    private String triageCategory;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -164,5 +170,21 @@ public class Ticket {
     public void setResolvedAt(LocalDateTime resolvedAt) {
         this.resolvedAt = resolvedAt;
     }
+
+    public Long getDuplicateOfId() {
+        return duplicateOfId;
+    }
+
+    public void setDuplicateOfId(Long duplicateOfId) {
+        this.duplicateOfId = duplicateOfId;
+    }
+
+    public String getTriageCategory() {
+        return triageCategory;
+    }
+
+    public void setTriageCategory(String triageCategory) {
+        this.triageCategory = triageCategory;
+    }
 }
 
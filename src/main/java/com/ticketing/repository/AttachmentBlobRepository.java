@@ -0,0 +1,48 @@
+package com.ticketing.repository;
+
+import com.ticketing.entity.AttachmentBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AttachmentBlobRepository extends JpaRepository<AttachmentBlob, String> {
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE attachment_blobs SET ref_count = ref_count + 1, last_referenced_at = :now " +
+                   "WHERE sha256 = :sha256", nativeQuery = true)
+    int acquire(@Param("sha256") String sha256, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO attachment_blobs (sha256, storage_key, size_bytes, content_type, ref_count, " +
+                   "created_at, last_referenced_at) VALUES (:sha256, :storageKey, :sizeBytes, :contentType, 1, " +
+                   ":now, :now) ON CONFLICT (sha256) DO UPDATE SET ref_count = attachment_blobs.ref_count + 1, " +
+                   "last_referenced_at = EXCLUDED.last_referenced_at", nativeQuery = true)
+    int insertOrAcquire(@Param("sha256") String sha256, @Param("storageKey") String storageKey,
+                        @Param("sizeBytes") long sizeBytes, @Param("contentType") String contentType,
+                        @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE attachment_blobs SET ref_count = ref_count - 1, last_referenced_at = :now " +
+                   "WHERE sha256 = :sha256 AND ref_count > 0", nativeQuery = true)
+    int release(@Param("sha256") String sha256, @Param("now") LocalDateTime now);
+
+    List<AttachmentBlob> findTop100ByRefCountAndLastReferencedAtBefore(Integer refCount, LocalDateTime cutoff);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM AttachmentBlob b WHERE b.sha256 = :sha256 AND b.refCount = 0 " +
+           "AND b.lastReferencedAt < :cutoff")
+    Optional<AttachmentBlob> lockUnreferenced(@Param("sha256") String sha256,
+                                              @Param("cutoff") LocalDateTime cutoff);
+}
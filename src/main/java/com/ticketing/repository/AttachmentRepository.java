@@ -1,14 +1,23 @@
 package com.ticketing.repository;
 
+import com.ticketing.dto.AttachmentDescriptor;
 import com.ticketing.entity.Attachment;
 import com.ticketing.entity.Ticket;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
     List<Attachment> findByTicket(Ticket ticket);
+
+    @Query("SELECT new com.ticketing.dto.AttachmentDescriptor(a.id, a.url, a.filename, a.contentType, " +
+           "a.sizeBytes, t.id, o.id, asg.id) " +
+           "FROM Attachment a JOIN a.ticket t JOIN t.owner o LEFT JOIN t.assignee asg WHERE a.id = :id")
+    Optional<AttachmentDescriptor> findDescriptorById(@Param("id") Long id);
 }
 
@@ -0,0 +1,26 @@
+package com.ticketing.repository;
+
+import com.ticketing.entity.AttachmentUpload;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AttachmentUploadRepository extends JpaRepository<AttachmentUpload, String> {
+    List<AttachmentUpload> findTop100ByExpiresAtBefore(LocalDateTime cutoff);
+
+    @Query("SELECT u FROM AttachmentUpload u JOIN FETCH u.ticket JOIN FETCH u.user WHERE u.id = :id")
+    Optional<AttachmentUpload> findWithTicketAndUserById(@Param("id") String id);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM attachment_uploads WHERE id = :id", nativeQuery = true)
+    int claim(@Param("id") String id);
+}
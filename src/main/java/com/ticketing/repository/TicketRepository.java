@@ -2,14 +2,52 @@ package com.ticketing.repository;
 
 import com.ticketing.entity.Ticket;
 import com.ticketing.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface TicketRepository extends JpaRepository<Ticket, Long>, JpaSpecificationExecutor<Ticket> {
-    List<Ticket> findByOwner(User owner);
-}
+    @Query("SELECT t FROM Ticket t JOIN FETCH t.owner LEFT JOIN FETCH t.assignee " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Ticket> findFirstPage(Pageable pageable);
+
+    @Query("SELECT t FROM Ticket t JOIN FETCH t.owner LEFT JOIN FETCH t.assignee " +
+           "WHERE t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Ticket> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                               Pageable pageable);
+
+    @Query("SELECT t FROM Ticket t JOIN FETCH t.owner LEFT JOIN FETCH t.assignee " +
+           "WHERE t.owner = :owner " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Ticket> findFirstPageByOwner(@Param("owner") User owner, Pageable pageable);
+
+    @Query("SELECT t FROM Ticket t JOIN FETCH t.owner LEFT JOIN FETCH t.assignee " +
+           "WHERE t.owner = :owner " +
+           "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Ticket> findPageAfterByOwner(@Param("owner") User owner, @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") Long id, Pageable pageable);
 
+    @Query("SELECT COUNT(t) FROM Ticket t WHERE t.slaDueAt < :now AND t.status <> com.ticketing.entity.Status.CLOSED")
+    long countSlaBreaches(@Param("now") LocalDateTime now);
+
+    @Query("SELECT t.id, t.assignee.id FROM Ticket t WHERE t.assignee IS NOT NULL " +
+           "AND t.status IN (com.ticketing.entity.Status.OPEN, com.ticketing.entity.Status.IN_PROGRESS)")
+    List<Object[]> findOpenAssignments();
+
+    @Query("SELECT t.assignee.id, t.triageCategory, COUNT(t) FROM Ticket t " +
+           "WHERE t.assignee IS NOT NULL AND t.triageCategory IS NOT NULL " +
+           "GROUP BY t.assignee.id, t.triageCategory")
+    List<Object[]> countTriagedCategoriesByAssignee();
+
+    @Query("SELECT t.duplicateOfId FROM Ticket t WHERE t.id = :id")
+    Long findDuplicateOfId(@Param("id") Long id);
+}
@@ -11,5 +11,6 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
     java.util.List<User> findByRole(com.ticketing.entity.Role role);
+    java.util.List<User> findByRoleIn(java.util.Collection<com.ticketing.entity.Role> roles);
 }
 
@@ -0,0 +1,99 @@
+package com.ticketing.search;
+
+import com.ticketing.entity.Status;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+public class DuplicateTicketDetector {
+    private static final Logger logger = LoggerFactory.getLogger(DuplicateTicketDetector.class);
+    private static final int BOOTSTRAP_BATCH_SIZE = 1000;
+
+    private final EntityManager entityManager;
+    private final DuplicateTicketIndex index = new DuplicateTicketIndex();
+    private final Duration window;
+    private final double minSimilarity;
+    private final double linkSimilarity;
+    private final int maxResults;
+
+    public DuplicateTicketDetector(EntityManager entityManager,
+                                   @Value("${search.duplicates.window-hours:72}") long windowHours,
+                                   @Value("${search.duplicates.min-similarity:0.6}") double minSimilarity,
+                                   @Value("${search.duplicates.link-similarity:0.85}") double linkSimilarity,
+                                   @Value("${search.duplicates.max-results:5}") int maxResults) {
+        this.entityManager = entityManager;
+        this.window = Duration.ofHours(windowHours);
+        this.minSimilarity = minSimilarity;
+        this.linkSimilarity = linkSimilarity;
+        this.maxResults = maxResults;
+    }
+
+    public List<DuplicateTicketIndex.Match> findDuplicates(String title, String description) {
+        return index.findSimilar(title, description, minSimilarity, maxResults);
+    }
+
+    public boolean isLinkable(DuplicateTicketIndex.Match match) {
+        return match.getSimilarity() >= linkSimilarity;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void bootstrap() {
+        long started = System.nanoTime();
+        LocalDateTime since = LocalDateTime.now().minus(window);
+        long lastId = 0;
+        List<Object[]> rows;
+        do {
+            rows = entityManager.createQuery(
+                    "SELECT t.id, t.title, t.description, t.createdAt FROM Ticket t "
+                            + "WHERE t.id > :lastId AND t.createdAt >= :since "
+                            + "AND t.status IN (com.ticketing.entity.Status.OPEN, "
+                            + "com.ticketing.entity.Status.IN_PROGRESS) ORDER BY t.id", Object[].class)
+                    .setParameter("lastId", lastId)
+                    .setParameter("since", since)
+                    .setMaxResults(BOOTSTRAP_BATCH_SIZE)
+                    .getResultList();
+            for (Object[] row : rows) {
+                index.index((Long) row[0], (String) row[1], (String) row[2], toEpochMillis((LocalDateTime) row[3]));
+                lastId = (Long) row[0];
+            }
+            entityManager.clear();
+        } while (rows.size() == BOOTSTRAP_BATCH_SIZE);
+
+        logger.info("Duplicate index built: {} tickets in {} ms",
+                index.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketChanged(TicketChangedEvent event) {
+        if (event.getStatus() == Status.OPEN || event.getStatus() == Status.IN_PROGRESS) {
+            index.index(event.getTicketId(), event.getTitle(), event.getDescription(), System.currentTimeMillis());
+        } else {
+            index.remove(event.getTicketId());
+        }
+    }
+
+    @Scheduled(cron = "${search.duplicates.compaction-cron:0 30 2 * * *}")
+    public void compact() {
+        int removed = index.compact(System.currentTimeMillis() - window.toMillis());
+        logger.info("Duplicate index compacted: {} expired, {} tickets in {} buckets",
+                removed, index.size(), index.bucketCount());
+    }
+
+    private long toEpochMillis(LocalDateTime value) {
+        return Timestamp.valueOf(value).getTime();
+    }
+}
@@ -0,0 +1,295 @@
+package com.ticketing.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class DuplicateTicketIndex {
+    static final int BANDS = 16;
+    static final int ROWS = 4;
+    static final int SIGNATURE_SIZE = BANDS * ROWS;
+    private static final int MAX_BUCKET_SIZE = 64;
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long[] SEEDS = new long[SIGNATURE_SIZE];
+
+    static {
+        long seed = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            seed += 0x9E3779B97F4A7C15L;
+            SEEDS[i] = mix(seed);
+        }
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<Long, Bucket> buckets = new HashMap<>();
+
+    public void index(long ticketId, String title, String description, long indexedAt) {
+        int[] signature = signature(title, description);
+        if (signature == null) {
+            remove(ticketId);
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.get(ticketId);
+            if (previous != null && Arrays.equals(previous.signature, signature)) {
+                return;
+            }
+            long timestamp = indexedAt;
+            if (previous != null) {
+                unindex(previous);
+                timestamp = previous.indexedAt;
+            }
+            documents.put(ticketId, new Document(ticketId, signature, timestamp));
+            for (int band = 0; band < BANDS; band++) {
+                buckets.computeIfAbsent(bandKey(signature, band), key -> new Bucket()).add(ticketId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long ticketId) {
+        lock.writeLock().lock();
+        try {
+            Document removed = documents.remove(ticketId);
+            if (removed != null) {
+                unindex(removed);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Match> findSimilar(String title, String description, double minSimilarity, int limit) {
+        int[] signature = signature(title, description);
+        if (signature == null) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Set<Long> seen = new HashSet<>();
+            List<Match> matches = new ArrayList<>();
+            for (int band = 0; band < BANDS; band++) {
+                Bucket bucket = buckets.get(bandKey(signature, band));
+                if (bucket == null) {
+                    continue;
+                }
+                for (int i = 0; i < bucket.size; i++) {
+                    long candidate = bucket.ids[i];
+                    if (!seen.add(candidate)) {
+                        continue;
+                    }
+                    Document document = documents.get(candidate);
+                    if (document == null) {
+                        continue;
+                    }
+                    double similarity = similarity(signature, document.signature);
+                    if (similarity >= minSimilarity) {
+                        matches.add(new Match(candidate, similarity));
+                    }
+                }
+            }
+            matches.sort((a, b) -> a.similarity != b.similarity
+                    ? Double.compare(b.similarity, a.similarity) : Long.compare(a.ticketId, b.ticketId));
+            return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int compact(long olderThan) {
+        lock.writeLock().lock();
+        try {
+            int removed = 0;
+            for (Iterator<Document> it = documents.values().iterator(); it.hasNext();) {
+                if (it.next().indexedAt < olderThan) {
+                    it.remove();
+                    removed++;
+                }
+            }
+
+            buckets.clear();
+            for (Document document : documents.values()) {
+                for (int band = 0; band < BANDS; band++) {
+                    buckets.computeIfAbsent(bandKey(document.signature, band), key -> new Bucket())
+                            .add(document.ticketId);
+                }
+            }
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int bucketCount() {
+        lock.readLock().lock();
+        try {
+            return buckets.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void unindex(Document document) {
+        for (int band = 0; band < BANDS; band++) {
+            long key = bandKey(document.signature, band);
+            Bucket bucket = buckets.get(key);
+            if (bucket != null && bucket.remove(document.ticketId) && bucket.size == 0) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+    static int[] signature(String title, String description) {
+        int[] signature = new int[SIGNATURE_SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int shingles = shingle(title, signature) + shingle(description, signature);
+        return shingles > 0 ? signature : null;
+    }
+
+    private static int shingle(String text, int[] signature) {
+        if (text == null) {
+            return 0;
+        }
+        int shingles = 0;
+        long previous = 0;
+        long h = FNV_OFFSET;
+        int length = 0;
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                h = (h ^ Character.toLowerCase(c)) * FNV_PRIME;
+                length++;
+                continue;
+            }
+            if (length >= MIN_TOKEN_LENGTH) {
+                update(signature, h);
+                if (previous != 0) {
+                    update(signature, previous * FNV_PRIME ^ h);
+                }
+                previous = h;
+                shingles++;
+            }
+            h = FNV_OFFSET;
+            length = 0;
+        }
+        return shingles;
+    }
+
+    private static void update(int[] signature, long shingle) {
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            int value = (int) mix(shingle ^ SEEDS[i]);
+            if (value < signature[i]) {
+                signature[i] = value;
+            }
+        }
+    }
+
+    private static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return equal / (double) SIGNATURE_SIZE;
+    }
+
+    private static long bandKey(int[] signature, int band) {
+        long h = band;
+        for (int row = 0; row < ROWS; row++) {
+            h = h * 0x100000001b3L + signature[band * ROWS + row];
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static final class Document {
+        private final long ticketId;
+        private final int[] signature;
+        private final long indexedAt;
+
+        private Document(long ticketId, int[] signature, long indexedAt) {
+            this.ticketId = ticketId;
+            this.signature = signature;
+            this.indexedAt = indexedAt;
+        }
+    }
+
+    private static final class Bucket {
+        private long[] ids = new long[2];
+        private int size;
+
+        private void add(long ticketId) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == ticketId) {
+                    return;
+                }
+            }
+            if (size == MAX_BUCKET_SIZE) {
+                System.arraycopy(ids, 1, ids, 0, size - 1);
+                size--;
+            } else if (size == ids.length) {
+                ids = Arrays.copyOf(ids, Math.min(MAX_BUCKET_SIZE, ids.length * 2));
+            }
+            ids[size++] = ticketId;
+        }
+
+        private boolean remove(long ticketId) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == ticketId) {
+                    System.arraycopy(ids, i + 1, ids, i, size - i - 1);
+                    size--;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    public static final class Match {
+        private final long ticketId;
+        private final double similarity;
+
+        Match(long ticketId, double similarity) {
+            this.ticketId = ticketId;
+            this.similarity = similarity;
+        }
+
+        public long getTicketId() {
+            return ticketId;
+        }
+
+        public double getSimilarity() {
+            return similarity;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.ticketing.search;
+
+import java.util.Arrays;
+
+final class PostingsList {
+    private byte[] data = new byte[8];
+    private int length;
+    private int size;
+    private int lastDocId = -1;
+
+    void add(int docId) {
+        if (docId <= lastDocId) {
+            throw new IllegalArgumentException("Doc ids must be added in increasing order");
+        }
+        writeVarInt(docId - lastDocId);
+        lastDocId = docId;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int lastDocId() {
+        return lastDocId;
+    }
+
+    int[] toArray() {
+        int[] docIds = new int[size];
+        int position = 0;
+        int docId = -1;
+        for (int i = 0; i < size; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            docId += delta;
+            docIds[i] = docId;
+        }
+        return docIds;
+    }
+
+    int sizeInBytes() {
+        return length;
+    }
+
+    private void writeVarInt(int value) {
+        if (length + 5 > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + 5));
+        }
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+}
@@ -0,0 +1,36 @@
+package com.ticketing.search;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+final class SearchTokenizer {
+    private static final int MIN_TOKEN_LENGTH = 2;
+
+    private SearchTokenizer() {
+    }
+
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(Character.toLowerCase(c));
+            } else if (current.length() > 0) {
+                addToken(tokens, current);
+            }
+        }
+        addToken(tokens, current);
+        return tokens;
+    }
+
+    private static void addToken(Set<String> tokens, StringBuilder current) {
+        if (current.length() >= MIN_TOKEN_LENGTH) {
+            tokens.add(current.toString());
+        }
+        current.setLength(0);
+    }
+}
@@ -0,0 +1,66 @@
+package com.ticketing.search;
+
+import com.ticketing.entity.Priority;
+import com.ticketing.entity.Status;
+import com.ticketing.entity.Ticket;
+
+public class TicketChangedEvent {
+    private final Long ticketId;
+    private final String title;
+    private final String description;
+    private final Status status;
+    private final Priority priority;
+    private final Long ownerId;
+    private final Long assigneeId;
+
+    public TicketChangedEvent(Long ticketId, String title, String description, Status status,
+                              Priority priority, Long ownerId, Long assigneeId) {
+        this.ticketId = ticketId;
+        this.title = title;
+        this.description = description;
+        this.status = status;
+        this.priority = priority;
+        this.ownerId = ownerId;
+        this.assigneeId = assigneeId;
+    }
+
+    public static TicketChangedEvent of(Ticket ticket) {
+        return new TicketChangedEvent(
+                ticket.getId(),
+                ticket.getTitle(),
+                ticket.getDescription(),
+                ticket.getStatus(),
+                ticket.getPriority(),
+                ticket.getOwner().getId(),
+                ticket.getAssignee() != null ? ticket.getAssignee().getId() : null
+        );
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+}
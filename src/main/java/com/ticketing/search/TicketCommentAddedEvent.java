@@ -0,0 +1,19 @@
+package com.ticketing.search;
+
+public class TicketCommentAddedEvent {
+    private final Long ticketId;
+    private final String content;
+
+    public TicketCommentAddedEvent(Long ticketId, String content) {
+        this.ticketId = ticketId;
+        this.content = content;
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public String getContent() {
+        return content;
+    }
+}
@@ -0,0 +1,366 @@
+package com.ticketing.search;
+
+import com.ticketing.entity.Priority;
+import com.ticketing.entity.Status;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class TicketSearchIndex {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MIN_DEAD_DOCS_FOR_COMPACTION = 1024;
+    private static final int[] NO_TERMS = new int[0];
+    private static final long NO_ASSIGNEE = 0L;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<PostingsList> postings = new ArrayList<>();
+    private final Map<Long, Integer> docByTicket = new HashMap<>();
+
+    private long[] ticketIds = new long[INITIAL_CAPACITY];
+    private long[] ownerIds = new long[INITIAL_CAPACITY];
+    private long[] assigneeIds = new long[INITIAL_CAPACITY];
+    private byte[] statuses = new byte[INITIAL_CAPACITY];
+    private byte[] priorities = new byte[INITIAL_CAPACITY];
+    private byte[][] textDigests = new byte[INITIAL_CAPACITY][];
+    private int[][] textTerms = new int[INITIAL_CAPACITY][];
+    private int[][] commentTerms = new int[INITIAL_CAPACITY][];
+    private BitSet live = new BitSet(INITIAL_CAPACITY);
+    private int nextDocId;
+    private int deadCount;
+
+    public void index(TicketChangedEvent ticket) {
+        lock.writeLock().lock();
+        try {
+            byte[] textDigest = digest(ticket.getTitle(), ticket.getDescription());
+            Integer existing = docByTicket.get(ticket.getTicketId());
+            if (existing != null && Arrays.equals(textDigests[existing], textDigest)) {
+                setMetadata(existing, ticket);
+                return;
+            }
+
+            int[] comments = NO_TERMS;
+            if (existing != null) {
+                comments = commentTerms[existing];
+                markDead(existing);
+            }
+
+            Set<String> tokens = SearchTokenizer.tokenize(ticket.getTitle());
+            tokens.addAll(SearchTokenizer.tokenize(ticket.getDescription()));
+            int docId = addDocument(ticket.getTicketId(), toTermIds(tokens), comments);
+            textDigests[docId] = textDigest;
+            setMetadata(docId, ticket);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addComment(Long ticketId, String content) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = docByTicket.get(ticketId);
+            if (existing == null) {
+                return;
+            }
+
+            int[] added = toTermIds(SearchTokenizer.tokenize(content));
+            int[] comments = union(commentTerms[existing], added);
+            if (comments.length == commentTerms[existing].length) {
+                return;
+            }
+
+            int[] text = textTerms[existing];
+            byte[] textDigest = textDigests[existing];
+            long ownerId = ownerIds[existing];
+            long assigneeId = assigneeIds[existing];
+            byte status = statuses[existing];
+            byte priority = priorities[existing];
+            markDead(existing);
+
+            int docId = addDocument(ticketId, text, comments);
+            textDigests[docId] = textDigest;
+            ownerIds[docId] = ownerId;
+            assigneeIds[docId] = assigneeId;
+            statuses[docId] = status;
+            priorities[docId] = priority;
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Hits search(String q, Status status, Priority priority, Long assigneeId, Long ownerId,
+                       int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            int[] candidates = null;
+            Set<String> tokens = SearchTokenizer.tokenize(q);
+            if (!tokens.isEmpty()) {
+                candidates = matchAll(tokens);
+                if (candidates.length == 0) {
+                    return Hits.EMPTY;
+                }
+            }
+
+            int statusFilter = status != null ? status.ordinal() : -1;
+            int priorityFilter = priority != null ? priority.ordinal() : -1;
+            long[] matches = new long[candidates != null ? candidates.length : live.cardinality()];
+            int count = 0;
+            int bound = candidates != null ? candidates.length : nextDocId;
+            for (int i = 0; i < bound; i++) {
+                int docId = candidates != null ? candidates[i] : i;
+                if (!live.get(docId)) {
+                    continue;
+                }
+                if (statusFilter >= 0 && statuses[docId] != statusFilter) {
+                    continue;
+                }
+                if (priorityFilter >= 0 && priorities[docId] != priorityFilter) {
+                    continue;
+                }
+                if (assigneeId != null && assigneeIds[docId] != assigneeId) {
+                    continue;
+                }
+                if (ownerId != null && ownerIds[docId] != ownerId) {
+                    continue;
+                }
+                matches[count++] = ticketIds[docId];
+            }
+
+            Arrays.sort(matches, 0, count);
+            int from = Math.max(0, count - offset - limit);
+            int to = Math.max(0, count - offset);
+            long[] page = new long[to - from];
+            for (int i = 0; i < page.length; i++) {
+                page[i] = matches[to - 1 - i];
+            }
+            return new Hits(page, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByTicket.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long postingsSizeInBytes() {
+        lock.readLock().lock();
+        try {
+            long total = 0;
+            for (PostingsList list : postings) {
+                total += list.sizeInBytes();
+            }
+            return total;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] matchAll(Set<String> tokens) {
+        int[][] lists = new int[tokens.size()][];
+        int i = 0;
+        for (String token : tokens) {
+            Integer termId = termIds.get(token);
+            if (termId == null) {
+                return NO_TERMS;
+            }
+            lists[i++] = postings.get(termId).toArray();
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+
+        int[] result = lists[0];
+        for (int j = 1; j < lists.length && result.length > 0; j++) {
+            result = intersect(result, lists[j]);
+        }
+        return result;
+    }
+
+    private int addDocument(long ticketId, int[] text, int[] comments) {
+        ensureCapacity(nextDocId + 1);
+        int docId = nextDocId++;
+        ticketIds[docId] = ticketId;
+        textTerms[docId] = text;
+        commentTerms[docId] = comments;
+        live.set(docId);
+        docByTicket.put(ticketId, docId);
+
+        for (int termId : union(text, comments)) {
+            postings.get(termId).add(docId);
+        }
+        return docId;
+    }
+
+    private void setMetadata(int docId, TicketChangedEvent ticket) {
+        ownerIds[docId] = ticket.getOwnerId();
+        assigneeIds[docId] = ticket.getAssigneeId() != null ? ticket.getAssigneeId() : NO_ASSIGNEE;
+        statuses[docId] = (byte) ticket.getStatus().ordinal();
+        priorities[docId] = (byte) ticket.getPriority().ordinal();
+    }
+
+    private void markDead(int docId) {
+        live.clear(docId);
+        textTerms[docId] = null;
+        commentTerms[docId] = null;
+        deadCount++;
+    }
+
+    private void compactIfNeeded() {
+        if (deadCount < MIN_DEAD_DOCS_FOR_COMPACTION || deadCount < docByTicket.size()) {
+            return;
+        }
+
+        for (int termId = 0; termId < postings.size(); termId++) {
+            postings.set(termId, new PostingsList());
+        }
+
+        int target = 0;
+        for (int docId = live.nextSetBit(0); docId >= 0; docId = live.nextSetBit(docId + 1)) {
+            ticketIds[target] = ticketIds[docId];
+            ownerIds[target] = ownerIds[docId];
+            assigneeIds[target] = assigneeIds[docId];
+            statuses[target] = statuses[docId];
+            priorities[target] = priorities[docId];
+            textDigests[target] = textDigests[docId];
+            textTerms[target] = textTerms[docId];
+            commentTerms[target] = commentTerms[docId];
+            docByTicket.put(ticketIds[target], target);
+            for (int termId : union(textTerms[target], commentTerms[target])) {
+                postings.get(termId).add(target);
+            }
+            target++;
+        }
+
+        Arrays.fill(textDigests, target, nextDocId, null);
+        Arrays.fill(textTerms, target, nextDocId, null);
+        Arrays.fill(commentTerms, target, nextDocId, null);
+        live = new BitSet(ticketIds.length);
+        live.set(0, target);
+        nextDocId = target;
+        deadCount = 0;
+    }
+
+    private int[] toTermIds(Set<String> tokens) {
+        int[] ids = new int[tokens.size()];
+        int i = 0;
+        for (String token : tokens) {
+            Integer termId = termIds.get(token);
+            if (termId == null) {
+                termId = postings.size();
+                termIds.put(token, termId);
+                postings.add(new PostingsList());
+            }
+            ids[i++] = termId;
+        }
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    private static byte[] digest(String title, String description) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.valueOf(title).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(description).getBytes(StandardCharsets.UTF_8));
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ticketIds.length) {
+            return;
+        }
+        int capacity = Math.max(required, ticketIds.length * 2);
+        ticketIds = Arrays.copyOf(ticketIds, capacity);
+        ownerIds = Arrays.copyOf(ownerIds, capacity);
+        assigneeIds = Arrays.copyOf(assigneeIds, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        priorities = Arrays.copyOf(priorities, capacity);
+        textDigests = Arrays.copyOf(textDigests, capacity);
+        textTerms = Arrays.copyOf(textTerms, capacity);
+        commentTerms = Arrays.copyOf(commentTerms, capacity);
+    }
+
+    static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, k);
+    }
+
+    static int[] union(int[] a, int[] b) {
+        if (b.length == 0) {
+            return a;
+        }
+        if (a.length == 0) {
+            return b;
+        }
+        int[] result = new int[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length || j < b.length) {
+            if (j >= b.length || (i < a.length && a[i] < b[j])) {
+                result[k++] = a[i++];
+            } else if (i >= a.length || b[j] < a[i]) {
+                result[k++] = b[j++];
+            } else {
+                result[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, k);
+    }
+
+    public static final class Hits {
+        static final Hits EMPTY = new Hits(new long[0], 0);
+
+        private final long[] ticketIds;
+        private final long total;
+
+        Hits(long[] ticketIds, long total) {
+            this.ticketIds = ticketIds;
+            this.total = total;
+        }
+
+        public long[] getTicketIds() {
+            return ticketIds;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.ticketing.search;
+
+import com.ticketing.entity.Priority;
+import com.ticketing.entity.Status;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+@Component
+@ConditionalOnProperty(prefix = "search.index", name = "enabled", havingValue = "true")
+public class TicketSearchIndexManager {
+    private static final Logger logger = LoggerFactory.getLogger(TicketSearchIndexManager.class);
+    private static final int BOOTSTRAP_BATCH_SIZE = 1000;
+
+    private final EntityManager entityManager;
+    private final Queue<Object> pendingEvents = new ConcurrentLinkedQueue<>();
+    private volatile TicketSearchIndex index;
+
+    public TicketSearchIndexManager(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public boolean isReady() {
+        return index != null;
+    }
+
+    public TicketSearchIndex.Hits search(String q, Status status, Priority priority, Long assigneeId,
+                                         Long ownerId, int offset, int limit) {
+        TicketSearchIndex current = index;
+        if (current == null) {
+            throw new IllegalStateException("Search index is not ready");
+        }
+        return current.search(q, status, priority, assigneeId, ownerId, offset, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long started = System.nanoTime();
+        TicketSearchIndex rebuilt = new TicketSearchIndex();
+
+        long lastId = 0;
+        List<Object[]> rows;
+        do {
+            rows = entityManager.createQuery(
+                    "SELECT t.id, t.title, t.description, t.status, t.priority, t.owner.id, t.assignee.id "
+                            + "FROM Ticket t WHERE t.id > :lastId ORDER BY t.id", Object[].class)
+                    .setParameter("lastId", lastId)
+                    .setMaxResults(BOOTSTRAP_BATCH_SIZE)
+                    .getResultList();
+            for (Object[] row : rows) {
+                rebuilt.index(new TicketChangedEvent((Long) row[0], (String) row[1], (String) row[2],
+                        (Status) row[3], (Priority) row[4], (Long) row[5], (Long) row[6]));
+                lastId = (Long) row[0];
+            }
+            entityManager.clear();
+        } while (rows.size() == BOOTSTRAP_BATCH_SIZE);
+
+        lastId = 0;
+        do {
+            rows = entityManager.createQuery(
+                    "SELECT c.id, c.ticket.id, c.content FROM Comment c WHERE c.id > :lastId ORDER BY c.id",
+                    Object[].class)
+                    .setParameter("lastId", lastId)
+                    .setMaxResults(BOOTSTRAP_BATCH_SIZE)
+                    .getResultList();
+            for (Object[] row : rows) {
+                rebuilt.addComment((Long) row[1], (String) row[2]);
+                lastId = (Long) row[0];
+            }
+            entityManager.clear();
+        } while (rows.size() == BOOTSTRAP_BATCH_SIZE);
+
+        synchronized (this) {
+            Object event;
+            while ((event = pendingEvents.poll()) != null) {
+                apply(rebuilt, event);
+            }
+            index = rebuilt;
+        }
+
+        logger.info("Search index built: {} tickets, {} KB of postings in {} ms",
+                rebuilt.size(), rebuilt.postingsSizeInBytes() / 1024, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketChanged(TicketChangedEvent event) {
+        dispatch(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentAdded(TicketCommentAddedEvent event) {
+        dispatch(event);
+    }
+
+    private void dispatch(Object event) {
+        TicketSearchIndex current = index;
+        if (current != null) {
+            apply(current, event);
+            return;
+        }
+        synchronized (this) {
+            if (index != null) {
+                apply(index, event);
+            } else {
+                pendingEvents.add(event);
+            }
+        }
+    }
+
+    private void apply(TicketSearchIndex target, Object event) {
+        if (event instanceof TicketChangedEvent changed) {
+            target.index(changed);
+        } else if (event instanceof TicketCommentAddedEvent comment) {
+            target.addComment(comment.getTicketId(), comment.getContent());
+        }
+    }
+}
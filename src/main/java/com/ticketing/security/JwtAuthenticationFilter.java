@@ -1,13 +1,12 @@
 package com.ticketing.security;
 
+import com.ticketing.config.JwtProperties;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.lang.NonNull;
@@ -18,11 +17,16 @@ import java.io.IOException;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider tokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationList revocationList;
+    private final boolean stateless;
 
-    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, PrincipalCache principalCache,
+                                   TokenRevocationList revocationList, JwtProperties jwtProperties) {
         this.tokenProvider = tokenProvider;
-        this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
+        this.revocationList = revocationList;
+        this.stateless = jwtProperties.isStateless();
     }
 
     @Override
@@ -32,17 +36,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             try {
-                String username = tokenProvider.getUsernameFromToken(token);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-                if (tokenProvider.validateToken(token, userDetails)) {
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    logger.debug("Successfully authenticated user: " + username);
+                VerifiedToken verified = tokenProvider.verify(token);
+                if (revocationList.isRevoked(verified.getSubject(), verified.getIssuedAt())) {
+                    logger.debug("Token revoked for user: " + verified.getSubject());
+                } else if (stateless) {
+                    authenticateFromClaims(verified, request);
                 } else {
-                    logger.debug("Token validation failed for user: " + username);
+                    String username = verified.getSubject();
+                    UserPrincipal principal = principalCache.get(username);
+
+                    if (username.equals(principal.getUsername())) {
+                        setAuthentication(principal, request);
+                        logger.debug("Successfully authenticated user: " + username);
+                    } else {
+                        logger.debug("Token validation failed for user: " + username);
+                    }
                 }
             } catch (Exception e) {
                 logger.debug("Cannot set user authentication: " + e.getMessage());
@@ -56,6 +64,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private void authenticateFromClaims(VerifiedToken verified, HttpServletRequest request) {
+        UserPrincipal principal = verified.toPrincipal();
+        if (principal == null) {
+            logger.debug("Token carries no user claims: " + verified.getSubject());
+            return;
+        }
+        setAuthentication(principal, request);
+        logger.debug("Successfully authenticated user from token claims: " + principal.getUsername());
+    }
+
+    private void setAuthentication(UserPrincipal principal, HttpServletRequest request) {
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
     private String getTokenFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
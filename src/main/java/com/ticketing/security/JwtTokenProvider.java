@@ -1,7 +1,10 @@
 package com.ticketing.security;
 
 import com.ticketing.config.JwtProperties;
+import com.ticketing.entity.Role;
+import com.ticketing.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -9,23 +12,50 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.function.Function;
 
 @Component
 public class JwtTokenProvider {
+    static final String USER_ID_CLAIM = "uid";
+    static final String ROLE_CLAIM = "role";
+    static final String NAME_CLAIM = "name";
+    static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
+
     private final JwtProperties jwtProperties;
-    private SecretKey secretKey;
+    private final SecretKey secretKey;
+    private final JwtParser parser;
+    private final int verifiedCacheSize;
+    private final Map<String, VerifiedToken> verifiedTokens;
 
     public JwtTokenProvider(JwtProperties jwtProperties) {
         this.jwtProperties = jwtProperties;
         this.secretKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedCacheSize = jwtProperties.getVerifiedTokenCacheSize();
+        this.verifiedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > verifiedCacheSize;
+            }
+        };
     }
 
     public String generateAccessToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof UserPrincipal principal) {
+            User user = principal.getUser();
+            claims.put(USER_ID_CLAIM, user.getId());
+            claims.put(ROLE_CLAIM, user.getRole().name());
+            claims.put(NAME_CLAIM, user.getFullName());
+        }
         return createToken(claims, userDetails.getUsername(), jwtProperties.getAccessTokenExpiration());
     }
 
@@ -40,6 +70,7 @@ public class JwtTokenProvider {
 
         return Jwts.builder()
                 .claims(claims)
+                .claim(ISSUED_AT_MILLIS_CLAIM, now.getTime())
                 .subject(subject)
                 .issuedAt(now)
                 .expiration(expiryDate)
@@ -47,35 +78,68 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        return getClaimFromToken(token, Claims::getSubject);
+    public VerifiedToken verify(String token) {
+        String key = verifiedCacheSize > 0 ? hash(token) : null;
+        if (key != null) {
+            synchronized (verifiedTokens) {
+                VerifiedToken cached = verifiedTokens.get(key);
+                if (cached != null) {
+                    if (!cached.isExpired(System.currentTimeMillis())) {
+                        return cached;
+                    }
+                    verifiedTokens.remove(key);
+                }
+            }
+        }
+
+        VerifiedToken verified = toVerifiedToken(getAllClaimsFromToken(token));
+        if (key != null) {
+            synchronized (verifiedTokens) {
+                verifiedTokens.put(key, verified);
+            }
+        }
+        return verified;
     }
 
-    public Date getExpirationDateFromToken(String token) {
-        return getClaimFromToken(token, Claims::getExpiration);
+    public String getUsernameFromToken(String token) {
+        return verify(token).getSubject();
     }
 
-    public <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = getAllClaimsFromToken(token);
-        return claimsResolver.apply(claims);
+    public Date getExpirationDateFromToken(String token) {
+        return verify(token).getExpiration();
     }
 
     private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = getUsernameFromToken(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        VerifiedToken verified = verify(token);
+        return verified.getSubject().equals(userDetails.getUsername())
+                && !verified.isExpired(System.currentTimeMillis());
     }
 
-    private Boolean isTokenExpired(String token) {
-        final Date expiration = getExpirationDateFromToken(token);
-        return expiration.before(new Date());
+    int verifiedCacheSize() {
+        synchronized (verifiedTokens) {
+            return verifiedTokens.size();
+        }
+    }
+
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        String role = claims.get(ROLE_CLAIM, String.class);
+        Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+        Date issuedAt = issuedAtMillis != null ? new Date(issuedAtMillis) : claims.getIssuedAt();
+        return new VerifiedToken(claims.getSubject(), issuedAt, claims.getExpiration(),
+                claims.get(USER_ID_CLAIM, Long.class), role != null ? Role.valueOf(role) : null,
+                claims.get(NAME_CLAIM, String.class));
     }
-}
 
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.ticketing.security;
+
+import com.ticketing.service.UserChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class PrincipalCache {
+    private final UserDetailsService userDetailsService;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Map<String, Entry> entries;
+    private long invalidations;
+
+    public PrincipalCache(UserDetailsService userDetailsService,
+                          @Value("${security.principal-cache.ttl-ms:60000}") long ttlMillis,
+                          @Value("${security.principal-cache.max-entries:10000}") int maxEntries) {
+        this.userDetailsService = userDetailsService;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > PrincipalCache.this.maxEntries;
+            }
+        };
+    }
+
+    public UserPrincipal get(String email) {
+        long now = System.currentTimeMillis();
+        long generation;
+        synchronized (entries) {
+            Entry entry = entries.get(email);
+            if (entry != null && entry.expiresAt > now) {
+                return entry.principal;
+            }
+            generation = invalidations;
+        }
+
+        UserPrincipal principal = (UserPrincipal) userDetailsService.loadUserByUsername(email);
+        if (ttlMillis > 0 && maxEntries > 0 && !TransactionSynchronizationManager.isActualTransactionActive()) {
+            synchronized (entries) {
+                if (generation == invalidations) {
+                    entries.put(email, new Entry(principal, now + ttlMillis));
+                }
+            }
+        }
+        return principal;
+    }
+
+    public void invalidate(String email) {
+        synchronized (entries) {
+            entries.remove(email);
+            invalidations++;
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(event.getEmail());
+    }
+
+    private static final class Entry {
+        private final UserPrincipal principal;
+        private final long expiresAt;
+
+        private Entry(UserPrincipal principal, long expiresAt) {
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.ticketing.security;
+
+import com.ticketing.config.JwtProperties;
+import com.ticketing.service.UserChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class TokenRevocationList {
+    private final long retentionMillis;
+    private final Map<String, Long> revokedAt = new ConcurrentHashMap<>();
+    private volatile long nextPruneAt;
+
+    public TokenRevocationList(JwtProperties jwtProperties) {
+        this.retentionMillis = Math.max(jwtProperties.getAccessTokenExpiration(),
+                jwtProperties.getRefreshTokenExpiration());
+    }
+
+    public void revoke(String email) {
+        long now = System.currentTimeMillis();
+        revokedAt.put(email, now);
+        if (now >= nextPruneAt) {
+            nextPruneAt = now + retentionMillis;
+            revokedAt.values().removeIf(revoked -> revoked + retentionMillis < now);
+        }
+    }
+
+    public boolean isRevoked(String email, Date issuedAt) {
+        Long revoked = revokedAt.get(email);
+        if (revoked == null) {
+            return false;
+        }
+        if (revoked + retentionMillis < System.currentTimeMillis()) {
+            revokedAt.remove(email, revoked);
+            return false;
+        }
+        return issuedAt == null || issuedAt.getTime() <= revoked;
+    }
+
+    public int size() {
+        return revokedAt.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        revoke(event.getEmail());
+    }
+}
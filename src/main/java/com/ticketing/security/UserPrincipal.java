@@ -0,0 +1,40 @@
+package com.ticketing.security;
+
+import com.ticketing.entity.Role;
+import com.ticketing.entity.User;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collections;
+
+public class UserPrincipal extends org.springframework.security.core.userdetails.User {
+    private final User user;
+    private final boolean fromToken;
+
+    public UserPrincipal(User user) {
+        this(user, user.getPasswordHash(), false);
+    }
+
+    private UserPrincipal(User user, String password, boolean fromToken) {
+        super(user.getEmail(), password,
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole().name())));
+        this.user = user;
+        this.fromToken = fromToken;
+    }
+
+    public static UserPrincipal fromToken(Long id, String email, String fullName, Role role) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        user.setFullName(fullName);
+        user.setRole(role);
+        return new UserPrincipal(user, "", true);
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public boolean isFromToken() {
+        return fromToken;
+    }
+}
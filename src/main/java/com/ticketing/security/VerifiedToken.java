@@ -0,0 +1,62 @@
+package com.ticketing.security;
+
+import com.ticketing.entity.Role;
+
+import java.util.Date;
+
+public class VerifiedToken {
+    private final String subject;
+    private final Date issuedAt;
+    private final Date expiration;
+    private final Long userId;
+    private final Role role;
+    private final String fullName;
+
+    public VerifiedToken(String subject, Date issuedAt, Date expiration, Long userId, Role role, String fullName) {
+        this.subject = subject;
+        this.issuedAt = issuedAt;
+        this.expiration = expiration;
+        this.userId = userId;
+        this.role = role;
+        this.fullName = fullName;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public Date getIssuedAt() {
+        return issuedAt;
+    }
+
+    public Date getExpiration() {
+        return expiration;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public boolean hasUserClaims() {
+        return userId != null && role != null;
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return expiration != null && expiration.getTime() <= nowMillis;
+    }
+
+    public UserPrincipal toPrincipal() {
+        if (!hasUserClaims()) {
+            return null;
+        }
+        return UserPrincipal.fromToken(userId, subject, fullName, role);
+    }
+}
@@ -2,66 +2,259 @@ package com.ticketing.service;
 
 import com.ticketing.dto.AdminStatsResponse;
 import com.ticketing.entity.Status;
-import com.ticketing.entity.Ticket;
 import com.ticketing.repository.TicketRepository;
-import com.ticketing.repository.TicketRatingRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 @Service
 public class AdminStatsService {
+    private static final Logger logger = LoggerFactory.getLogger(AdminStatsService.class);
+
     private final TicketRepository ticketRepository;
-    private final TicketRatingRepository ratingRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate snapshotTransaction;
+    private final long slaBreachCacheMillis;
+
+    private final ReentrantLock resyncLock = new ReentrantLock();
+    private final Counters totals = new Counters();
+    private Map<Long, Counters> pending;
+    private volatile boolean initialized;
+
+    private volatile long cachedSlaBreaches;
+    private volatile long slaBreachesExpireAt;
 
-    public AdminStatsService(TicketRepository ticketRepository, TicketRatingRepository ratingRepository) {
+    public AdminStatsService(TicketRepository ticketRepository, EntityManager entityManager,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${admin.stats.sla-breach-cache-ms:5000}") long slaBreachCacheMillis) {
         this.ticketRepository = ticketRepository;
-        this.ratingRepository = ratingRepository;
+        this.entityManager = entityManager;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTransaction.setReadOnly(true);
+        this.slaBreachCacheMillis = slaBreachCacheMillis;
     }
 
     public AdminStatsResponse getStats() {
-        List<Ticket> allTickets = ticketRepository.findAll();
-
-        long openCount = allTickets.stream()
-            .filter(t -> t.getStatus() == Status.OPEN || t.getStatus() == Status.IN_PROGRESS)
-            .count();
-
-        List<Ticket> resolvedTickets = allTickets.stream()
-            .filter(t -> t.getResolvedAt() != null)
-            .toList();
+        long open;
+        long resolved;
+        long resolutionHours;
+        long rated;
+        long ratingSum;
+        if (!initialized) {
+            resyncLock.lock();
+            try {
+                if (!initialized) {
+                    resync();
+                }
+            } finally {
+                resyncLock.unlock();
+            }
+        }
+        synchronized (this) {
+            open = totals.openCount;
+            resolved = totals.resolvedCount;
+            resolutionHours = totals.totalResolutionHours;
+            rated = totals.ratedCount;
+            ratingSum = totals.totalRating;
+        }
 
         BigDecimal avgResolutionTime = BigDecimal.ZERO;
-        if (!resolvedTickets.isEmpty()) {
-            double totalHours = resolvedTickets.stream()
-                .mapToDouble(t -> {
-                    Duration duration = Duration.between(t.getCreatedAt(), t.getResolvedAt());
-                    return duration.toHours();
-                })
-                .sum();
-            avgResolutionTime = BigDecimal.valueOf(totalHours / resolvedTickets.size())
+        if (resolved > 0) {
+            avgResolutionTime = BigDecimal.valueOf(resolutionHours / (double) resolved)
                 .setScale(2, RoundingMode.HALF_UP);
         }
 
-        long slaBreaches = allTickets.stream()
-            .filter(t -> t.getSlaDueAt() != null && t.getStatus() != Status.CLOSED)
-            .filter(t -> LocalDateTime.now().isAfter(t.getSlaDueAt()))
-            .count();
-
         BigDecimal avgRating = BigDecimal.ZERO;
-        long ratedCount = ratingRepository.count();
-        if (ratedCount > 0) {
-            double totalRating = ratingRepository.findAll().stream()
-                .mapToInt(r -> r.getRating())
-                .sum();
-            avgRating = BigDecimal.valueOf(totalRating / (double) ratedCount)
+        if (rated > 0) {
+            avgRating = BigDecimal.valueOf(ratingSum / (double) rated)
                 .setScale(2, RoundingMode.HALF_UP);
         }
 
-        return new AdminStatsResponse(openCount, avgResolutionTime, slaBreaches, avgRating);
+        return new AdminStatsResponse(open, avgResolutionTime, countSlaBreaches(), avgRating);
     }
-}
 
+    @EventListener
+    public void onStatusChanged(TicketStatusChangedEvent event) {
+        afterCommit(counters -> counters.apply(event));
+    }
+
+    @EventListener
+    public void onTicketRated(TicketRatedEvent event) {
+        afterCommit(counters -> counters.apply(event));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${admin.stats.resync-interval-ms:600000}",
+               initialDelayString = "${admin.stats.resync-interval-ms:600000}")
+    public void resync() {
+        resyncLock.lock();
+        try {
+            synchronized (this) {
+                pending = new HashMap<>();
+            }
+            try {
+                snapshotTransaction.executeWithoutResult(status -> {
+                    Snapshot snapshot = Snapshot.parse((String) entityManager.createNativeQuery(
+                            "SELECT CAST(pg_current_snapshot() AS text)").getSingleResult());
+                    Object[] tickets = (Object[]) entityManager.createNativeQuery(
+                            "SELECT COUNT(*) FILTER (WHERE status IN ('OPEN', 'IN_PROGRESS')), "
+                                    + "COUNT(resolved_at), "
+                                    + "COALESCE(SUM(FLOOR(EXTRACT(EPOCH FROM (resolved_at - created_at)) / 3600)), 0) "
+                                    + "FROM tickets")
+                            .getSingleResult();
+                    Object[] ratings = (Object[]) entityManager.createNativeQuery(
+                            "SELECT COUNT(*), COALESCE(SUM(rating), 0) FROM ticket_ratings")
+                            .getSingleResult();
+
+                    synchronized (this) {
+                        totals.openCount = ((Number) tickets[0]).longValue();
+                        totals.resolvedCount = ((Number) tickets[1]).longValue();
+                        totals.totalResolutionHours = ((Number) tickets[2]).longValue();
+                        totals.ratedCount = ((Number) ratings[0]).longValue();
+                        totals.totalRating = ((Number) ratings[1]).longValue();
+                        pending.forEach((transactionId, delta) -> {
+                            if (!snapshot.sawCommitOf(transactionId)) {
+                                totals.add(delta);
+                            }
+                        });
+                        initialized = true;
+                        logger.debug("Admin stats resynced: {} open, {} resolved, {} rated",
+                                totals.openCount, totals.resolvedCount, totals.ratedCount);
+                    }
+                });
+            } finally {
+                synchronized (this) {
+                    pending = null;
+                }
+            }
+        } finally {
+            resyncLock.unlock();
+        }
+    }
+
+    private void afterCommit(Consumer<Counters> change) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            record(null, change);
+            return;
+        }
+        Long transactionId = Long.valueOf((String) entityManager.createNativeQuery(
+                "SELECT CAST(pg_current_xact_id() AS text)").getSingleResult());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(transactionId, change);
+            }
+        });
+    }
+
+    private synchronized void record(Long transactionId, Consumer<Counters> change) {
+        if (initialized) {
+            change.accept(totals);
+        }
+        if (pending != null) {
+            change.accept(pending.computeIfAbsent(transactionId, id -> new Counters()));
+        }
+    }
+
+    private long countSlaBreaches() {
+        long now = System.currentTimeMillis();
+        if (now >= slaBreachesExpireAt) {
+            cachedSlaBreaches = ticketRepository.countSlaBreaches(LocalDateTime.now());
+            slaBreachesExpireAt = now + slaBreachCacheMillis;
+        }
+        return cachedSlaBreaches;
+    }
+
+    private static boolean isOpen(Status status) {
+        return status == Status.OPEN || status == Status.IN_PROGRESS;
+    }
+
+    private static final class Counters {
+        private long openCount;
+        private long resolvedCount;
+        private long totalResolutionHours;
+        private long ratedCount;
+        private long totalRating;
+
+        private void apply(TicketStatusChangedEvent event) {
+            if (isOpen(event.getPreviousStatus())) {
+                openCount--;
+            }
+            if (isOpen(event.getNewStatus())) {
+                openCount++;
+            }
+            if (event.isNewlyResolved()) {
+                resolvedCount++;
+                totalResolutionHours += event.getResolutionHours();
+            }
+        }
+
+        private void add(Counters other) {
+            openCount += other.openCount;
+            resolvedCount += other.resolvedCount;
+            totalResolutionHours += other.totalResolutionHours;
+            ratedCount += other.ratedCount;
+            totalRating += other.totalRating;
+        }
+
+        private void apply(TicketRatedEvent event) {
+            if (event.getPreviousRating() == null) {
+                ratedCount++;
+                totalRating += event.getRating();
+            } else {
+                totalRating += event.getRating() - event.getPreviousRating();
+            }
+        }
+    }
+
+    private static final class Snapshot {
+        private final long xmin;
+        private final long xmax;
+        private final Set<Long> inProgress;
+
+        private Snapshot(long xmin, long xmax, Set<Long> inProgress) {
+            this.xmin = xmin;
+            this.xmax = xmax;
+            this.inProgress = inProgress;
+        }
+
+        private static Snapshot parse(String text) {
+            String[] parts = text.split(":", -1);
+            Set<Long> inProgress = new HashSet<>();
+            for (String xid : parts[2].split(",")) {
+                if (!xid.isEmpty()) {
+                    inProgress.add(Long.parseLong(xid));
+                }
+            }
+            return new Snapshot(Long.parseLong(parts[0]), Long.parseLong(parts[1]), inProgress);
+        }
+
+        private boolean sawCommitOf(Long transactionId) {
+            if (transactionId == null) {
+                return false;
+            }
+            return transactionId < xmin || (transactionId < xmax && !inProgress.contains(transactionId));
+        }
+    }
+}
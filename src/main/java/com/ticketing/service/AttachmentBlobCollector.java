@@ -0,0 +1,59 @@
+package com.ticketing.service;
+
+import com.ticketing.entity.AttachmentBlob;
+import com.ticketing.repository.AttachmentBlobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+public class AttachmentBlobCollector {
+    private static final Logger logger = LoggerFactory.getLogger(AttachmentBlobCollector.class);
+
+    private final AttachmentBlobRepository blobRepository;
+    private final FileUploadService fileUploadService;
+    private final Duration retention;
+
+    public AttachmentBlobCollector(AttachmentBlobRepository blobRepository,
+                                   FileUploadService fileUploadService,
+                                   @Value("${file.blobs.retention-minutes:60}") long retentionMinutes) {
+        this.blobRepository = blobRepository;
+        this.fileUploadService = fileUploadService;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+    }
+
+    @Scheduled(fixedDelayString = "${file.blobs.collect-interval-ms:3600000}",
+               initialDelayString = "${file.blobs.collect-interval-ms:3600000}")
+    public int collect() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int removed = 0;
+        List<AttachmentBlob> candidates;
+        do {
+            candidates = blobRepository.findTop100ByRefCountAndLastReferencedAtBefore(0, cutoff);
+            int before = removed;
+            for (AttachmentBlob blob : candidates) {
+                try {
+                    if (fileUploadService.deleteBlob(blob.getSha256(), cutoff)) {
+                        removed++;
+                    }
+                } catch (RuntimeException e) {
+                    logger.warn("Could not remove unreferenced blob {}: {}", blob.getSha256(), e.getMessage());
+                }
+            }
+            if (removed == before) {
+                break;
+            }
+        } while (candidates.size() == 100);
+
+        if (removed > 0) {
+            logger.info("Removed {} unreferenced attachment blobs", removed);
+        }
+        return removed;
+    }
+}
@@ -7,6 +7,7 @@ import com.ticketing.entity.Ticket;
 import com.ticketing.entity.User;
 import com.ticketing.repository.AttachmentRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -21,6 +22,7 @@ public class AttachmentService {
         this.ticketService = ticketService;
     }
 
+    @Transactional(readOnly = true)
     public List<AttachmentResponse> getAttachmentsByTicket(Long ticketId, User currentUser) {
         Ticket ticket = ticketService.findById(ticketId);
 
@@ -42,6 +44,9 @@ public class AttachmentService {
         response.setTicketId(attachment.getTicket().getId());
         response.setFilename(attachment.getFilename());
         response.setUrl("/api/files/" + attachment.getId());
+        response.setContentType(attachment.getContentType());
+        response.setSizeBytes(attachment.getSizeBytes());
+        response.setSha256(attachment.getContentSha256());
         response.setUploadedById(attachment.getUploadedBy().getId());
         response.setUploadedByName(attachment.getUploadedBy().getFullName());
         response.setCreatedAt(attachment.getCreatedAt());
@@ -0,0 +1,64 @@
+package com.ticketing.service;
+
+import com.ticketing.entity.AttachmentBlob;
+import com.ticketing.repository.AttachmentBlobRepository;
+import com.ticketing.storage.AttachmentStore;
+import com.ticketing.storage.TieredAttachmentStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+
+@Component
+public class AttachmentTierMigrator {
+    private static final Logger logger = LoggerFactory.getLogger(AttachmentTierMigrator.class);
+    private static final String BLOB_PREFIX = "blobs/";
+
+    private final AttachmentStore store;
+    private final AttachmentBlobRepository blobRepository;
+    private final Duration hotPeriod;
+    private final int batchSize;
+
+    public AttachmentTierMigrator(AttachmentStore store,
+                                  AttachmentBlobRepository blobRepository,
+                                  @Value("${file.store.tiered.hot-days:7}") long hotDays,
+                                  @Value("${file.store.tiered.migrate-batch-size:500}") int batchSize) {
+        this.store = store;
+        this.blobRepository = blobRepository;
+        this.hotPeriod = Duration.ofDays(hotDays);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${file.store.tiered.migrate-interval-ms:900000}",
+               initialDelayString = "${file.store.tiered.migrate-interval-ms:900000}")
+    public int migrate() {
+        if (!(store instanceof TieredAttachmentStore tiered)) {
+            return 0;
+        }
+        try {
+            int migrated = tiered.migrateColdObjects(Instant.now().minus(hotPeriod), this::contentTypeOf, batchSize);
+            if (migrated > 0) {
+                logger.info("Moved {} attachments older than {} days to cold storage", migrated, hotPeriod.toDays());
+            }
+            return migrated;
+        } catch (IOException e) {
+            logger.warn("Attachment tier migration failed: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    private String contentTypeOf(String key) {
+        if (key.startsWith(BLOB_PREFIX)) {
+            String sha256 = key.substring(key.lastIndexOf('/') + 1);
+            return blobRepository.findById(sha256)
+                    .map(AttachmentBlob::getContentType)
+                    .orElse("application/octet-stream");
+        }
+        return FileUploadService.contentTypeFor(key);
+    }
+}
@@ -0,0 +1,216 @@
+package com.ticketing.service;
+
+import com.ticketing.dto.AttachmentUploadRequest;
+import com.ticketing.dto.AttachmentUploadResponse;
+import com.ticketing.entity.Attachment;
+import com.ticketing.entity.AttachmentUpload;
+import com.ticketing.entity.Ticket;
+import com.ticketing.entity.User;
+import com.ticketing.repository.AttachmentUploadRepository;
+import com.ticketing.storage.AttachmentStore;
+import com.ticketing.storage.PresignedUpload;
+import com.ticketing.storage.StoredObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+public class AttachmentUploadService {
+    private static final Logger logger = LoggerFactory.getLogger(AttachmentUploadService.class);
+    private static final String STAGING_PREFIX = "staging/";
+
+    private final AttachmentUploadRepository uploadRepository;
+    private final FileUploadService fileUploadService;
+    private final TicketService ticketService;
+    private final AttachmentStore store;
+    private final Duration urlExpiration;
+    private final Duration retention;
+
+    public AttachmentUploadService(AttachmentUploadRepository uploadRepository,
+                                   FileUploadService fileUploadService,
+                                   TicketService ticketService,
+                                   AttachmentStore store,
+                                   @Value("${file.direct-upload.url-expiration-minutes:15}") long urlExpirationMinutes,
+                                   @Value("${file.direct-upload.retention-minutes:60}") long retentionMinutes) {
+        this.uploadRepository = uploadRepository;
+        this.fileUploadService = fileUploadService;
+        this.ticketService = ticketService;
+        this.store = store;
+        this.urlExpiration = Duration.ofMinutes(urlExpirationMinutes);
+        this.retention = Duration.ofMinutes(retentionMinutes);
+    }
+
+    public AttachmentUploadResponse createUpload(Long ticketId, AttachmentUploadRequest request, User user) {
+        Ticket ticket = ticketService.findById(ticketId);
+        String filename = fileUploadService.validateFilename(request.getFilename(), request.getContentType());
+        if (request.getSizeBytes() > FileUploadService.MAX_FILE_SIZE) {
+            throw new RuntimeException("File size exceeds 10MB limit");
+        }
+
+        AttachmentUpload upload = new AttachmentUpload();
+        upload.setId(UUID.randomUUID().toString());
+        upload.setTicket(ticket);
+        upload.setUser(user);
+        upload.setFilename(filename);
+        upload.setContentType(FileUploadService.contentTypeFor(filename));
+        upload.setSizeBytes(request.getSizeBytes());
+        upload.setSha256(request.getSha256().toLowerCase());
+        upload.setStagingKey(STAGING_PREFIX + upload.getId());
+        upload.setExpiresAt(LocalDateTime.now().plus(urlExpiration));
+        uploadRepository.save(upload);
+
+        PresignedUpload presigned = store.presignPut(upload.getStagingKey(), upload.getContentType(),
+                        upload.getSizeBytes(), upload.getSha256(), urlExpiration)
+                .orElseGet(() -> new PresignedUpload("/api/files/uploads/" + upload.getId(),
+                        Map.of(HttpHeaders.CONTENT_TYPE, upload.getContentType())));
+
+        AttachmentUploadResponse response = new AttachmentUploadResponse();
+        response.setUploadId(upload.getId());
+        response.setMethod("PUT");
+        response.setExpiresAt(upload.getExpiresAt());
+        response.setUrl(presigned.getUrl());
+        response.setHeaders(presigned.getHeaders());
+        return response;
+    }
+
+    public void receive(String uploadId, InputStream content, User user) {
+        AttachmentUpload upload = findUpload(uploadId, user);
+        if (upload.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new RuntimeException("Upload URL has expired");
+        }
+
+        UploadInputStream in = new UploadInputStream(content, upload.getSizeBytes(), upload.getContentType());
+        try {
+            Path spool = store.createSpoolFile();
+            try {
+                Files.copy(in, spool, StandardCopyOption.REPLACE_EXISTING);
+                in.finish();
+                if (in.getSize() != upload.getSizeBytes() || !in.getSha256().equals(upload.getSha256())) {
+                    throw new RuntimeException("Uploaded content does not match the declared size and SHA-256");
+                }
+                store.put(upload.getStagingKey(), spool, upload.getContentType());
+            } finally {
+                Files.deleteIfExists(spool);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to save file", e);
+        }
+    }
+
+    public Attachment confirm(Long ticketId, String uploadId, User user) {
+        AttachmentUpload upload = findUpload(uploadId, user);
+        if (!upload.getTicket().getId().equals(ticketId)) {
+            throw new RuntimeException("Upload not found");
+        }
+
+        StoredObject object;
+        try {
+            object = store.stat(upload.getStagingKey());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to save file", e);
+        }
+        if (object == null) {
+            throw new RuntimeException("File has not been uploaded yet");
+        }
+        if (uploadRepository.claim(upload.getId()) == 0) {
+            throw new RuntimeException("Upload not found");
+        }
+
+        String storageKey;
+        try {
+            try {
+                verify(upload, object);
+            } catch (RuntimeException e) {
+                store.delete(upload.getStagingKey());
+                throw e;
+            }
+            storageKey = fileUploadService.storeStagedBlob(upload.getStagingKey(), upload.getSha256(),
+                    upload.getSizeBytes(), upload.getContentType());
+        } catch (IOException e) {
+            uploadRepository.save(upload);
+            throw new RuntimeException("Failed to save file", e);
+        }
+
+        return fileUploadService.saveAttachment(upload.getTicket(), upload.getFilename(),
+                upload.getContentType(), upload.getSizeBytes(), upload.getSha256(), storageKey, user);
+    }
+
+    @Scheduled(fixedDelayString = "${file.direct-upload.purge-interval-ms:900000}",
+               initialDelayString = "${file.direct-upload.purge-interval-ms:900000}")
+    public int purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int purged = 0;
+        List<AttachmentUpload> expired;
+        do {
+            expired = uploadRepository.findTop100ByExpiresAtBefore(cutoff);
+            for (AttachmentUpload upload : expired) {
+                try {
+                    discard(upload);
+                    purged++;
+                } catch (IOException | RuntimeException e) {
+                    logger.warn("Could not purge abandoned upload {}: {}", upload.getId(), e.getMessage());
+                    return purged;
+                }
+            }
+        } while (!expired.isEmpty());
+
+        if (purged > 0) {
+            logger.info("Purged {} abandoned direct uploads", purged);
+        }
+        return purged;
+    }
+
+    private void verify(AttachmentUpload upload, StoredObject object) throws IOException {
+        if (object.getSize() != upload.getSizeBytes()) {
+            throw new RuntimeException("Uploaded file size does not match the declared size");
+        }
+        String sha256 = object.getSha256();
+        if (sha256 == null) {
+            sha256 = hashStaged(upload);
+        } else {
+            byte[] header = store.readPrefix(upload.getStagingKey(), UploadInputStream.SNIFF_BYTES);
+            if (!upload.getContentType().equals(UploadInputStream.sniff(header, header.length))) {
+                throw new RuntimeException("File content does not match its " + upload.getContentType()
+                        + " extension");
+            }
+        }
+        if (!sha256.equals(upload.getSha256())) {
+            throw new RuntimeException("Uploaded content does not match the declared SHA-256");
+        }
+    }
+
+    private String hashStaged(AttachmentUpload upload) throws IOException {
+        try (UploadInputStream in = new UploadInputStream(store.open(upload.getStagingKey()),
+                upload.getSizeBytes(), upload.getContentType())) {
+            in.transferTo(OutputStream.nullOutputStream());
+            in.finish();
+            return in.getSha256();
+        }
+    }
+
+    private void discard(AttachmentUpload upload) throws IOException {
+        store.delete(upload.getStagingKey());
+        uploadRepository.delete(upload);
+    }
+
+    private AttachmentUpload findUpload(String uploadId, User user) {
+        return uploadRepository.findWithTicketAndUserById(uploadId)
+                .filter(upload -> upload.getUser().getId().equals(user.getId()))
+                .orElseThrow(() -> new RuntimeException("Upload not found"));
+    }
+}
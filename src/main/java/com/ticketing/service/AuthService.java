@@ -8,6 +8,8 @@ import com.ticketing.entity.Role;
 import com.ticketing.entity.User;
 import com.ticketing.repository.UserRepository;
 import com.ticketing.security.JwtTokenProvider;
+import com.ticketing.security.TokenRevocationList;
+import com.ticketing.security.VerifiedToken;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -23,15 +25,17 @@ public class AuthService {
     private final JwtTokenProvider tokenProvider;
     private final AuthenticationManager authenticationManager;
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationList revocationList;
 
     public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder,
                       JwtTokenProvider tokenProvider, AuthenticationManager authenticationManager,
-                      UserDetailsService userDetailsService) {
+                      UserDetailsService userDetailsService, TokenRevocationList revocationList) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.tokenProvider = tokenProvider;
         this.authenticationManager = authenticationManager;
         this.userDetailsService = userDetailsService;
+        this.revocationList = revocationList;
     }
 
     @Transactional
@@ -69,12 +73,12 @@ public class AuthService {
 
     public AuthResponse refreshToken(RefreshTokenRequest request) {
         try {
-            String username = tokenProvider.getUsernameFromToken(request.getRefreshToken());
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-            if (!tokenProvider.validateToken(request.getRefreshToken(), userDetails)) {
+            VerifiedToken verified = tokenProvider.verify(request.getRefreshToken());
+            if (verified.isExpired(System.currentTimeMillis())
+                    || revocationList.isRevoked(verified.getSubject(), verified.getIssuedAt())) {
                 throw new RuntimeException("Invalid refresh token");
             }
+            UserDetails userDetails = userDetailsService.loadUserByUsername(verified.getSubject());
 
             String accessToken = tokenProvider.generateAccessToken(userDetails);
             String refreshToken = tokenProvider.generateRefreshToken(userDetails);
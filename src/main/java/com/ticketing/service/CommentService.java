@@ -6,6 +6,8 @@ import com.ticketing.entity.Comment;
 import com.ticketing.entity.Ticket;
 import com.ticketing.entity.User;
 import com.ticketing.repository.CommentRepository;
+import com.ticketing.search.TicketCommentAddedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,10 +18,13 @@ import java.util.stream.Collectors;
 public class CommentService {
     private final CommentRepository commentRepository;
     private final TicketService ticketService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public CommentService(CommentRepository commentRepository, TicketService ticketService) {
+    public CommentService(CommentRepository commentRepository, TicketService ticketService,
+                          ApplicationEventPublisher eventPublisher) {
         this.commentRepository = commentRepository;
         this.ticketService = ticketService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -32,9 +37,11 @@ public class CommentService {
         comment.setContent(request.getContent());
 
         comment = commentRepository.save(comment);
+        eventPublisher.publishEvent(new TicketCommentAddedEvent(ticketId, comment.getContent()));
         return toResponse(comment);
     }
 
+    @Transactional(readOnly = true)
     public List<CommentResponse> getCommentsByTicket(Long ticketId) {
         Ticket ticket = ticketService.findById(ticketId);
         return commentRepository.findByTicketOrderByCreatedAtAsc(ticket).stream()
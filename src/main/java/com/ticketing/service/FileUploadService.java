@@ -1,149 +1,165 @@
 package com.ticketing.service;
 
+import com.ticketing.dto.AttachmentDescriptor;
 import com.ticketing.entity.Attachment;
+import com.ticketing.entity.AttachmentBlob;
 import com.ticketing.entity.Role;
 import com.ticketing.entity.Ticket;
 import com.ticketing.entity.User;
+import com.ticketing.repository.AttachmentBlobRepository;
 import com.ticketing.repository.AttachmentRepository;
-import org.springframework.beans.factory.annotation.Value;
+import com.ticketing.storage.AttachmentStore;
+import com.ticketing.storage.ObjectDownload;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import software.amazon.awssdk.services.s3.presigner.S3Presigner;
-import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
-import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
-import java.util.UUID;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class FileUploadService {
-    private static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
+    private static final Logger logger = LoggerFactory.getLogger(FileUploadService.class);
+    public static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
     private static final List<String> ALLOWED_EXTENSIONS = Arrays.asList(".png", ".jpg", ".jpeg", ".pdf", ".txt");
     private static final List<String> ALLOWED_MIME_TYPES = Arrays.asList(
         "image/png", "image/jpeg", "application/pdf", "text/plain"
     );
 
     private final AttachmentRepository attachmentRepository;
+    private final AttachmentBlobRepository blobRepository;
     private final TicketService ticketService;
-    private final Path uploadDir;
-    private final S3Client s3Client;
-    private final S3Presigner s3Presigner;
-    private final String s3Bucket;
-    private final boolean useS3;
+    private final AttachmentStore store;
 
     public FileUploadService(
             AttachmentRepository attachmentRepository,
+            AttachmentBlobRepository blobRepository,
             TicketService ticketService,
-            @Value("${file.upload-dir:./uploads}") String uploadDir,
-            @Value("${aws.s3.bucket:}") String s3Bucket,
-            @Value("${aws.s3.enabled:false}") boolean s3Enabled) {
+            AttachmentStore store) {
         this.attachmentRepository = attachmentRepository;
+        this.blobRepository = blobRepository;
         this.ticketService = ticketService;
-        this.uploadDir = Paths.get(uploadDir).toAbsolutePath().normalize();
-        this.useS3 = s3Enabled && s3Bucket != null && !s3Bucket.isEmpty();
-        this.s3Bucket = s3Bucket;
-
-        if (useS3) {
-            this.s3Client = S3Client.builder().build();
-            this.s3Presigner = S3Presigner.builder().build();
-        } else {
-            this.s3Client = null;
-            this.s3Presigner = null;
-            try {
-                Files.createDirectories(this.uploadDir);
-            } catch (IOException e) {
-                throw new RuntimeException("Could not create upload directory", e);
-            }
-        }
+        this.store = store;
     }
 
-    @Transactional
-    public Attachment uploadFile(Long ticketId, MultipartFile file, User user) {
+    public Attachment uploadFile(Long ticketId, String filename, String contentType, InputStream content,
+                                 User user) {
         Ticket ticket = ticketService.findById(ticketId);
-
-        validateFile(file);
-
-        String originalFilename = sanitizeFilename(file.getOriginalFilename());
-        String fileExtension = getFileExtension(originalFilename);
-        validateFileExtension(fileExtension);
-
-        String uniqueFilename = UUID.randomUUID().toString() + fileExtension;
-        String fileUrl;
+        String originalFilename = validateFilename(filename, contentType);
+        String storedContentType = contentTypeFor(originalFilename);
+        UploadInputStream upload = new UploadInputStream(content, MAX_FILE_SIZE, storedContentType);
+        String storageKey;
 
         try {
-            if (useS3) {
-                fileUrl = uploadToS3(uniqueFilename, file);
-            } else {
-                fileUrl = uploadToLocal(uniqueFilename, file);
-            }
+            storageKey = storeBlob(upload, storedContentType);
         } catch (IOException e) {
             throw new RuntimeException("Failed to save file", e);
         }
 
+        return saveAttachment(ticket, originalFilename, storedContentType, upload.getSize(), upload.getSha256(),
+                storageKey, user);
+    }
+
+    Attachment saveAttachment(Ticket ticket, String filename, String contentType, long size, String sha256,
+                              String storageKey, User user) {
         Attachment attachment = new Attachment();
         attachment.setTicket(ticket);
-        attachment.setFilename(originalFilename);
-        attachment.setUrl(fileUrl);
+        attachment.setFilename(filename);
+        attachment.setUrl("/api/files/" + storageKey);
+        attachment.setContentType(contentType);
+        attachment.setSizeBytes(size);
+        attachment.setContentSha256(sha256);
+        attachment.setBlob(blobRepository.getReferenceById(sha256));
         attachment.setUploadedBy(user);
 
-        return attachmentRepository.save(attachment);
+        try {
+            return attachmentRepository.save(attachment);
+        } catch (RuntimeException e) {
+            blobRepository.release(sha256, LocalDateTime.now());
+            throw e;
+        }
+    }
+
+    String validateFilename(String filename, String contentType) {
+        validateContentType(contentType);
+        String sanitized = sanitizeFilename(filename);
+        validateFileExtension(getFileExtension(sanitized));
+        return sanitized;
     }
 
-    public InputStream getFileStream(Long attachmentId, User currentUser) {
-        Attachment attachment = attachmentRepository.findById(attachmentId)
+    public AttachmentDescriptor getDescriptor(Long attachmentId, User currentUser) {
+        AttachmentDescriptor descriptor = attachmentRepository.findDescriptorById(attachmentId)
                 .orElseThrow(() -> new RuntimeException("Attachment not found"));
 
-        Ticket ticket = attachment.getTicket();
-        if (!hasAccess(ticket, currentUser)) {
+        if (!hasAccess(descriptor, currentUser)) {
             throw new RuntimeException("Access denied");
         }
+        return descriptor;
+    }
 
+    public InputStream getFileStream(Long attachmentId, User currentUser) {
+        return openStream(getDescriptor(attachmentId, currentUser));
+    }
+
+    public InputStream openStream(AttachmentDescriptor descriptor) {
         try {
-            if (useS3) {
-                return getFileFromS3(attachment.getUrl());
-            } else {
-                return getFileFromLocal(attachment.getUrl());
-            }
+            return store.open(descriptor.getStorageKey());
         } catch (IOException e) {
             throw new RuntimeException("Failed to read file", e);
         }
     }
 
-    public String getOriginalFilename(Long attachmentId) {
-        Attachment attachment = attachmentRepository.findById(attachmentId)
-                .orElseThrow(() -> new RuntimeException("Attachment not found"));
-        return attachment.getFilename();
+    public Path getLocalFile(AttachmentDescriptor descriptor) {
+        return store.findLocal(descriptor.getStorageKey());
     }
 
-    public String getAttachmentUrl(Long attachmentId) {
-        Attachment attachment = attachmentRepository.findById(attachmentId)
-                .orElseThrow(() -> new RuntimeException("Attachment not found"));
-        return attachment.getUrl();
+    public CompletableFuture<ObjectDownload> downloadRemote(AttachmentDescriptor descriptor, String range,
+                                                            String ifNoneMatch) {
+        return store.download(descriptor.getStorageKey(), range, ifNoneMatch);
     }
 
-    private void validateFile(MultipartFile file) {
-        if (file.isEmpty()) {
-            throw new RuntimeException("File is empty");
+    @Transactional
+    public boolean deleteBlob(String sha256, LocalDateTime cutoff) {
+        AttachmentBlob blob = blobRepository.lockUnreferenced(sha256, cutoff).orElse(null);
+        if (blob == null) {
+            return false;
         }
 
-        if (file.getSize() > MAX_FILE_SIZE) {
-            throw new RuntimeException("File size exceeds 10MB limit");
+        blobRepository.delete(blob);
+        blobRepository.flush();
+        try {
+            store.delete(blob.getStorageKey());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to delete blob " + sha256, e);
         }
+        return true;
+    }
+
+    public static String contentTypeFor(String filename) {
+        String lower = filename.toLowerCase();
+        if (lower.endsWith(".png")) {
+            return "image/png";
+        } else if (lower.endsWith(".jpg") || lower.endsWith(".jpeg")) {
+            return "image/jpeg";
+        } else if (lower.endsWith(".pdf")) {
+            return "application/pdf";
+        } else if (lower.endsWith(".txt")) {
+            return "text/plain";
+        }
+        return "application/octet-stream";
+    }
 
-        String contentType = file.getContentType();
+    private void validateContentType(String contentType) {
         if (contentType != null && !ALLOWED_MIME_TYPES.contains(contentType.toLowerCase())) {
             throw new RuntimeException("File type not allowed. Allowed types: PNG, JPG, PDF, TXT");
         }
@@ -174,76 +190,54 @@ public class FileUploadService {
         return sanitized;
     }
 
-    private String uploadToLocal(String uniqueFilename, MultipartFile file) throws IOException {
-        Path targetPath = uploadDir.resolve(uniqueFilename);
-        
-        if (!targetPath.normalize().startsWith(uploadDir)) {
-            throw new RuntimeException("Path traversal detected");
-        }
+    private String storeBlob(UploadInputStream upload, String contentType) throws IOException {
+        Path spool = store.createSpoolFile();
 
-        Files.copy(file.getInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
-        return "/api/files/" + uniqueFilename;
-    }
-
-    private String uploadToS3(String uniqueFilename, MultipartFile file) throws IOException {
         try {
-            PutObjectRequest putRequest = PutObjectRequest.builder()
-                    .bucket(s3Bucket)
-                    .key(uniqueFilename)
-                    .contentType(file.getContentType())
-                    .build();
-
-            s3Client.putObject(putRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
-            return uniqueFilename;
-        } catch (Exception e) {
-            throw new IOException("Failed to upload to S3", e);
+            Files.copy(upload, spool, StandardCopyOption.REPLACE_EXISTING);
+            upload.finish();
+
+            String sha256 = upload.getSha256();
+            String storageKey = blobKey(sha256);
+            if (blobRepository.acquire(sha256, LocalDateTime.now()) > 0) {
+                logger.debug("Upload matches stored blob {}, skipping storage write", sha256);
+                return storageKey;
+            }
+
+            store.put(storageKey, spool, contentType);
+            blobRepository.insertOrAcquire(sha256, storageKey, upload.getSize(), contentType, LocalDateTime.now());
+            return storageKey;
+        } finally {
+            Files.deleteIfExists(spool);
         }
     }
 
-    private InputStream getFileFromLocal(String url) throws IOException {
-        String filename = url.replace("/api/files/", "");
-        Path filePath = uploadDir.resolve(filename).normalize();
-        
-        if (!filePath.startsWith(uploadDir)) {
-            throw new RuntimeException("Path traversal detected");
+    String storeStagedBlob(String stagingKey, String sha256, long size, String contentType) throws IOException {
+        String storageKey = blobKey(sha256);
+        if (blobRepository.acquire(sha256, LocalDateTime.now()) > 0) {
+            logger.debug("Staged upload matches stored blob {}, discarding it", sha256);
+            store.delete(stagingKey);
+            return storageKey;
         }
 
-        return Files.newInputStream(filePath);
+        store.move(stagingKey, storageKey);
+        blobRepository.insertOrAcquire(sha256, storageKey, size, contentType, LocalDateTime.now());
+        return storageKey;
     }
 
-    private InputStream getFileFromS3(String key) {
-        GetObjectRequest getRequest = GetObjectRequest.builder()
-                .bucket(s3Bucket)
-                .key(key)
-                .build();
-        return s3Client.getObject(getRequest);
+    static String blobKey(String sha256) {
+        return "blobs/" + sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256;
     }
 
-    public String getPresignedUrl(String key, Duration expiration) {
-        if (!useS3) {
-            return null;
-        }
-
-        GetObjectRequest getRequest = GetObjectRequest.builder()
-                .bucket(s3Bucket)
-                .key(key)
-                .build();
-
-        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                .signatureDuration(expiration)
-                .getObjectRequest(getRequest)
-                .build();
-
-        PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(presignRequest);
-        return presignedRequest.url().toString();
+    public Optional<String> getPresignedUrl(String key, Duration expiration) {
+        return store.presignGet(key, expiration);
     }
 
-    private boolean hasAccess(Ticket ticket, User user) {
+    private boolean hasAccess(AttachmentDescriptor descriptor, User user) {
         if (user.getRole() == Role.ADMIN || user.getRole() == Role.AGENT) {
             return true;
         }
-        return ticket.getOwner().getId().equals(user.getId()) ||
-               (ticket.getAssignee() != null && ticket.getAssignee().getId().equals(user.getId()));
+        return descriptor.getOwnerId().equals(user.getId()) || user.getId().equals(descriptor.getAssigneeId());
     }
 
     private String getFileExtension(String filename) {
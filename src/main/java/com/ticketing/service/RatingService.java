@@ -7,6 +7,7 @@ import com.ticketing.entity.TicketRating;
 import com.ticketing.entity.User;
 import com.ticketing.repository.TicketRatingRepository;
 import com.ticketing.repository.TicketRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,10 +17,13 @@ import java.time.LocalDateTime;
 public class RatingService {
     private final TicketRatingRepository ratingRepository;
     private final TicketRepository ticketRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public RatingService(TicketRatingRepository ratingRepository, TicketRepository ticketRepository) {
+    public RatingService(TicketRatingRepository ratingRepository, TicketRepository ticketRepository,
+                         ApplicationEventPublisher eventPublisher) {
         this.ratingRepository = ratingRepository;
         this.ticketRepository = ticketRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -37,6 +41,7 @@ public class RatingService {
 
         TicketRating rating = ratingRepository.findByTicket(ticket)
                 .orElse(new TicketRating());
+        Integer previousRating = rating.getRating();
 
         rating.setTicket(ticket);
         rating.setRating(request.getRating());
@@ -45,10 +50,17 @@ public class RatingService {
         ratingRepository.save(rating);
 
         ticket.setRating(request.getRating());
-        if (ticket.getResolvedAt() == null) {
+        boolean newlyResolved = ticket.getResolvedAt() == null;
+        if (newlyResolved) {
             ticket.setResolvedAt(LocalDateTime.now());
         }
         ticketRepository.save(ticket);
+
+        eventPublisher.publishEvent(new TicketRatedEvent(previousRating, request.getRating()));
+        if (newlyResolved) {
+            eventPublisher.publishEvent(TicketStatusChangedEvent.resolved(ticket.getStatus(), ticket.getCreatedAt(),
+                    ticket.getResolvedAt()));
+        }
     }
 }
 
@@ -0,0 +1,184 @@
+package com.ticketing.service;
+
+import com.ticketing.dto.StatsGranularity;
+import com.ticketing.dto.StatsTrendPoint;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class StatsRollupService {
+    private static final Logger logger = LoggerFactory.getLogger(StatsRollupService.class);
+
+    static final int MAX_HOUR_BUCKETS = 24 * 31;
+    static final int MAX_DAY_BUCKETS = 366;
+    private static final int DEFAULT_HOUR_BUCKETS = 48;
+    private static final int DEFAULT_DAY_BUCKETS = 30;
+
+    private static final String REFRESH_SQL =
+            "WITH buckets AS ("
+            + "  SELECT generate_series(date_trunc('%1$s', CAST(:since AS timestamp)), "
+            + "         date_trunc('%1$s', CAST(:now AS timestamp)), interval '1 %1$s') AS bucket_start"
+            + "), opened AS ("
+            + "  SELECT date_trunc('%1$s', created_at) AS bucket_start, COUNT(*) AS n FROM tickets"
+            + "  WHERE created_at >= date_trunc('%1$s', CAST(:since AS timestamp)) GROUP BY 1"
+            + "), resolved AS ("
+            + "  SELECT date_trunc('%1$s', resolved_at) AS bucket_start, COUNT(*) AS n,"
+            + "         SUM(FLOOR(EXTRACT(EPOCH FROM (resolved_at - created_at)) / 3600)) AS hours FROM tickets"
+            + "  WHERE resolved_at >= date_trunc('%1$s', CAST(:since AS timestamp)) GROUP BY 1"
+            + "), breached AS ("
+            + "  SELECT date_trunc('%1$s', sla_due_at) AS bucket_start, COUNT(*) AS n FROM tickets"
+            + "  WHERE sla_due_at >= date_trunc('%1$s', CAST(:since AS timestamp)) AND sla_due_at < :now"
+            + "    AND (resolved_at IS NULL OR resolved_at > sla_due_at) GROUP BY 1"
+            + "), rated AS ("
+            + "  SELECT date_trunc('%1$s', created_at) AS bucket_start, COUNT(*) AS n, SUM(rating) AS total"
+            + "  FROM ticket_ratings"
+            + "  WHERE created_at >= date_trunc('%1$s', CAST(:since AS timestamp)) GROUP BY 1"
+            + ") "
+            + "INSERT INTO ticket_stats_rollup (granularity, bucket_start, opened_count, resolved_count, "
+            + "sla_breach_count, resolution_hours_sum, rated_count, rating_sum, refreshed_at) "
+            + "SELECT :granularity, b.bucket_start, COALESCE(o.n, 0), COALESCE(r.n, 0), COALESCE(s.n, 0), "
+            + "COALESCE(r.hours, 0), COALESCE(g.n, 0), COALESCE(g.total, 0), :now "
+            + "FROM buckets b "
+            + "LEFT JOIN opened o ON o.bucket_start = b.bucket_start "
+            + "LEFT JOIN resolved r ON r.bucket_start = b.bucket_start "
+            + "LEFT JOIN breached s ON s.bucket_start = b.bucket_start "
+            + "LEFT JOIN rated g ON g.bucket_start = b.bucket_start "
+            + "ON CONFLICT (granularity, bucket_start) DO UPDATE SET "
+            + "opened_count = EXCLUDED.opened_count, resolved_count = EXCLUDED.resolved_count, "
+            + "sla_breach_count = EXCLUDED.sla_breach_count, "
+            + "resolution_hours_sum = EXCLUDED.resolution_hours_sum, rated_count = EXCLUDED.rated_count, "
+            + "rating_sum = EXCLUDED.rating_sum, refreshed_at = EXCLUDED.refreshed_at";
+
+    private final EntityManager entityManager;
+    private final Duration lookback;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    public StatsRollupService(EntityManager entityManager,
+                              @Value("${admin.stats.rollup.lookback-hours:48}") long lookbackHours) {
+        this.entityManager = entityManager;
+        this.lookback = Duration.ofHours(lookbackHours);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${admin.stats.rollup.refresh-interval-ms:300000}",
+               initialDelayString = "${admin.stats.rollup.refresh-interval-ms:300000}")
+    @Transactional
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            for (StatsGranularity granularity : StatsGranularity.values()) {
+                LocalDateTime since = refreshStart(granularity, now);
+                if (since == null) {
+                    continue;
+                }
+                int buckets = entityManager.createNativeQuery(String.format(REFRESH_SQL, unit(granularity)))
+                        .setParameter("granularity", granularity.name())
+                        .setParameter("since", since)
+                        .setParameter("now", now)
+                        .executeUpdate();
+                logger.debug("Refreshed {} {} stats buckets since {}", buckets, granularity, since);
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<StatsTrendPoint> getTrends(StatsGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        StatsGranularity bucketSize = granularity != null ? granularity : StatsGranularity.DAY;
+        ChronoUnit unit = bucketSize == StatsGranularity.HOUR ? ChronoUnit.HOURS : ChronoUnit.DAYS;
+        int maxBuckets = bucketSize == StatsGranularity.HOUR ? MAX_HOUR_BUCKETS : MAX_DAY_BUCKETS;
+        int defaultBuckets = bucketSize == StatsGranularity.HOUR ? DEFAULT_HOUR_BUCKETS : DEFAULT_DAY_BUCKETS;
+
+        LocalDateTime end = (to != null ? to : LocalDateTime.now()).truncatedTo(unit);
+        LocalDateTime start = from != null ? from.truncatedTo(unit) : end.minus(defaultBuckets - 1, unit);
+        if (start.isAfter(end)) {
+            throw new RuntimeException("Trend range start must not be after its end");
+        }
+        if (unit.between(start, end) >= maxBuckets) {
+            throw new RuntimeException("Trend range exceeds " + maxBuckets + " "
+                    + bucketSize.name().toLowerCase() + " buckets");
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(
+                "SELECT bucket_start, opened_count, resolved_count, sla_breach_count, resolution_hours_sum, "
+                        + "rated_count, rating_sum FROM ticket_stats_rollup "
+                        + "WHERE granularity = :granularity AND bucket_start BETWEEN :start AND :end "
+                        + "ORDER BY bucket_start")
+                .setParameter("granularity", bucketSize.name())
+                .setParameter("start", start)
+                .setParameter("end", end)
+                .getResultList();
+
+        List<StatsTrendPoint> points = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            points.add(toPoint(row));
+        }
+        return points;
+    }
+
+    private LocalDateTime refreshStart(StatsGranularity granularity, LocalDateTime now) {
+        Object lastRefresh = entityManager.createNativeQuery(
+                "SELECT MAX(refreshed_at) FROM ticket_stats_rollup WHERE granularity = :granularity")
+                .setParameter("granularity", granularity.name())
+                .getSingleResult();
+        if (lastRefresh != null) {
+            LocalDateTime refreshedAt = toLocalDateTime(lastRefresh);
+            LocalDateTime window = now.minus(lookback);
+            return refreshedAt.isBefore(window) ? refreshedAt : window;
+        }
+
+        Object firstTicket = entityManager.createNativeQuery("SELECT MIN(created_at) FROM tickets")
+                .getSingleResult();
+        return firstTicket != null ? toLocalDateTime(firstTicket) : null;
+    }
+
+    private StatsTrendPoint toPoint(Object[] row) {
+        StatsTrendPoint point = new StatsTrendPoint();
+        point.setBucketStart(toLocalDateTime(row[0]));
+        point.setOpenedCount(((Number) row[1]).longValue());
+        point.setResolvedCount(((Number) row[2]).longValue());
+        point.setSlaBreachCount(((Number) row[3]).longValue());
+        point.setAvgResolutionTime(average(((Number) row[4]).doubleValue(), point.getResolvedCount()));
+        point.setRatedCount(((Number) row[5]).longValue());
+        point.setAvgRating(average(((Number) row[6]).doubleValue(), point.getRatedCount()));
+        return point;
+    }
+
+    private BigDecimal average(double sum, long count) {
+        if (count == 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(sum / count).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private String unit(StatsGranularity granularity) {
+        return granularity == StatsGranularity.HOUR ? "hour" : "day";
+    }
+
+    private LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
@@ -0,0 +1,163 @@
+package com.ticketing.service;
+
+import com.ticketing.dto.TicketResponse;
+import com.ticketing.dto.TicketSearchRequest;
+import com.ticketing.dto.TicketSearchResponse;
+import com.ticketing.dto.TicketSearchResult;
+import com.ticketing.entity.Priority;
+import com.ticketing.entity.Role;
+import com.ticketing.entity.Status;
+import com.ticketing.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class TicketFullTextSearchService {
+    static final int MIN_QUERY_LENGTH = 3;
+    static final int MIN_FULLTEXT_QUERY_LENGTH = 4;
+
+    private static final String HEADLINE_OPTIONS =
+            "StartSel=<mark>, StopSel=</mark>, MaxWords=35, MinWords=10, MaxFragments=2";
+
+    private final EntityManager entityManager;
+
+    public TicketFullTextSearchService(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Transactional(readOnly = true)
+    public TicketSearchResponse search(TicketSearchRequest request, User currentUser) {
+        String q = request.getQ() != null ? request.getQ().trim() : "";
+        if (q.isEmpty()) {
+            throw new RuntimeException("Search query is required for full-text mode");
+        }
+        if (q.length() < MIN_QUERY_LENGTH) {
+            throw new RuntimeException("Search query must be at least " + MIN_QUERY_LENGTH + " characters");
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        String filters = buildFilters(request, currentUser, params);
+
+        boolean useTrigram = q.length() < MIN_FULLTEXT_QUERY_LENGTH;
+        String matchSql;
+        String rankSql;
+        String snippetSql;
+        if (useTrigram) {
+            params.put("pattern", "%" + escapeLike(q) + "%");
+            matchSql = "(t.title ILIKE :pattern OR t.description ILIKE :pattern)";
+            rankSql = "similarity(t.title, :q)";
+            snippetSql = "NULL";
+        } else {
+            matchSql = "t.search_vector @@ websearch_to_tsquery('english', :q)";
+            rankSql = "ts_rank(t.search_vector, websearch_to_tsquery('english', :q))";
+            snippetSql = "ts_headline('english', t.description, websearch_to_tsquery('english', :q), '"
+                    + HEADLINE_OPTIONS + "')";
+        }
+
+        String pageSql = "SELECT t.id AS id, " + rankSql + " AS rank FROM tickets t "
+                + "WHERE " + matchSql + filters
+                + " ORDER BY rank DESC, t.id DESC LIMIT :limit OFFSET :offset";
+
+        String contentSql = "SELECT t.id, t.title, t.description, t.priority, t.status, "
+                + "o.id, o.full_name, a.id, a.full_name, t.created_at, t.updated_at, t.sla_due_at, "
+                + "t.urgency_score, ranked.rank, " + snippetSql + " "
+                + "FROM (" + pageSql + ") ranked "
+                + "JOIN tickets t ON t.id = ranked.id "
+                + "JOIN users o ON o.id = t.owner_id "
+                + "LEFT JOIN users a ON a.id = t.assignee_id "
+                + "ORDER BY ranked.rank DESC, t.id DESC";
+
+        Query contentQuery = entityManager.createNativeQuery(contentSql);
+        params.forEach(contentQuery::setParameter);
+        contentQuery.setParameter("q", q);
+        contentQuery.setParameter("limit", request.getSize());
+        contentQuery.setParameter("offset", request.getPage() * request.getSize());
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = contentQuery.getResultList();
+        List<TicketResponse> content = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            content.add(toResult(row));
+        }
+
+        Query countQuery = entityManager.createNativeQuery(
+                "SELECT count(*) FROM tickets t WHERE " + matchSql + filters);
+        params.forEach(countQuery::setParameter);
+        if (!useTrigram) {
+            countQuery.setParameter("q", q);
+        }
+        long total = ((Number) countQuery.getSingleResult()).longValue();
+
+        return new TicketSearchResponse(content, request.getPage(), request.getSize(), total);
+    }
+
+    private String buildFilters(TicketSearchRequest request, User currentUser, Map<String, Object> params) {
+        StringBuilder filters = new StringBuilder();
+
+        if (currentUser.getRole() != Role.ADMIN && currentUser.getRole() != Role.AGENT) {
+            filters.append(" AND t.owner_id = :ownerId");
+            params.put("ownerId", currentUser.getId());
+        }
+
+        if (request.getStatus() != null) {
+            filters.append(" AND t.status = :status");
+            params.put("status", request.getStatus().name());
+        }
+
+        if (request.getPriority() != null) {
+            filters.append(" AND t.priority = :priority");
+            params.put("priority", request.getPriority().name());
+        }
+
+        if (request.getAssignee() != null) {
+            filters.append(" AND t.assignee_id = :assigneeId");
+            params.put("assigneeId", request.getAssignee());
+        }
+
+        return filters.toString();
+    }
+
+    private TicketSearchResult toResult(Object[] row) {
+        TicketSearchResult result = new TicketSearchResult();
+        result.setId(toLong(row[0]));
+        result.setTitle((String) row[1]);
+        result.setDescription((String) row[2]);
+        result.setPriority(Priority.valueOf((String) row[3]));
+        result.setStatus(Status.valueOf((String) row[4]));
+        result.setOwnerId(toLong(row[5]));
+        result.setOwnerName((String) row[6]);
+        result.setAssigneeId(toLong(row[7]));
+        result.setAssigneeName((String) row[8]);
+        result.setCreatedAt(toLocalDateTime(row[9]));
+        result.setUpdatedAt(toLocalDateTime(row[10]));
+        result.setSlaDueAt(toLocalDateTime(row[11]));
+        result.setUrgencyScore(row[12] != null ? ((Number) row[12]).intValue() : null);
+        result.setRank(row[13] != null ? ((Number) row[13]).doubleValue() : null);
+        result.setSnippet((String) row[14]);
+        return result;
+    }
+
+    private Long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : null;
+    }
+
+    private LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
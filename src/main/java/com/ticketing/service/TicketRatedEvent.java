@@ -0,0 +1,19 @@
+package com.ticketing.service;
+
+public class TicketRatedEvent {
+    private final Integer previousRating;
+    private final int rating;
+
+    public TicketRatedEvent(Integer previousRating, int rating) {
+        this.previousRating = previousRating;
+        this.rating = rating;
+    }
+
+    public Integer getPreviousRating() {
+        return previousRating;
+    }
+
+    public int getRating() {
+        return rating;
+    }
+}
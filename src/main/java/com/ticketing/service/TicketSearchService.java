@@ -1,81 +1,176 @@
 package com.ticketing.service;
 
+import com.ticketing.dto.SearchMode;
 import com.ticketing.dto.TicketResponse;
 import com.ticketing.dto.TicketSearchRequest;
 import com.ticketing.dto.TicketSearchResponse;
+import com.ticketing.entity.Role;
 import com.ticketing.entity.Ticket;
 import com.ticketing.entity.User;
-import com.ticketing.repository.TicketRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
+import com.ticketing.search.TicketSearchIndex;
+import com.ticketing.search.TicketSearchIndexManager;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import jakarta.persistence.criteria.Predicate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 public class TicketSearchService {
-    private final TicketRepository ticketRepository;
-    private final TicketService ticketService;
+    private final EntityManager entityManager;
+    private final TicketFullTextSearchService fullTextSearchService;
+    private final ObjectProvider<TicketSearchIndexManager> searchIndexManager;
 
-    public TicketSearchService(TicketRepository ticketRepository, TicketService ticketService) {
-        this.ticketRepository = ticketRepository;
-        this.ticketService = ticketService;
+    public TicketSearchService(EntityManager entityManager, TicketFullTextSearchService fullTextSearchService,
+                               ObjectProvider<TicketSearchIndexManager> searchIndexManager) {
+        this.entityManager = entityManager;
+        this.fullTextSearchService = fullTextSearchService;
+        this.searchIndexManager = searchIndexManager;
     }
 
+    @Transactional(readOnly = true)
     public TicketSearchResponse search(TicketSearchRequest request, User currentUser) {
-        Specification<Ticket> spec = buildSpecification(request, currentUser);
-        Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
-        Page<Ticket> page = ticketRepository.findAll(spec, pageable);
-
-        List<TicketResponse> content = page.getContent().stream()
-            .map(ticket -> {
-                try {
-                    return ticketService.getTicketById(ticket.getId(), currentUser);
-                } catch (Exception e) {
-                    return null;
-                }
-            })
-            .filter(t -> t != null)
-            .collect(Collectors.toList());
-
-        return new TicketSearchResponse(content, request.getPage(), request.getSize(), page.getTotalElements());
+        if (request.getMode() == SearchMode.FULLTEXT) {
+            return fullTextSearchService.search(request, currentUser);
+        }
+
+        if (request.getMode() == SearchMode.INDEX) {
+            TicketSearchIndexManager indexManager = searchIndexManager.getIfAvailable();
+            if (indexManager != null && indexManager.isReady()) {
+                return searchIndex(indexManager, request, currentUser);
+            }
+        }
+
+        List<TicketResponse> content = findContent(request, currentUser);
+        long total = countMatches(request, currentUser);
+        return new TicketSearchResponse(content, request.getPage(), request.getSize(), total);
     }
 
-    private Specification<Ticket> buildSpecification(TicketSearchRequest request, User currentUser) {
-        return (root, query, cb) -> {
-            List<Predicate> predicates = new ArrayList<>();
+    private TicketSearchResponse searchIndex(TicketSearchIndexManager indexManager, TicketSearchRequest request,
+                                             User currentUser) {
+        Long ownerId = isAdminOrAgent(currentUser) ? null : currentUser.getId();
+        TicketSearchIndex.Hits hits = indexManager.search(request.getQ(), request.getStatus(), request.getPriority(),
+                request.getAssignee(), ownerId, request.getPage() * request.getSize(), request.getSize());
 
-            if (currentUser.getRole() != com.ticketing.entity.Role.ADMIN &&
-                currentUser.getRole() != com.ticketing.entity.Role.AGENT) {
-                predicates.add(cb.equal(root.get("owner").get("id"), currentUser.getId()));
-            }
+        List<TicketResponse> content = findByIds(hits.getTicketIds());
+        return new TicketSearchResponse(content, request.getPage(), request.getSize(), hits.getTotal());
+    }
 
-            if (request.getQ() != null && !request.getQ().trim().isEmpty()) {
-                String searchTerm = "%" + request.getQ().toLowerCase() + "%";
-                Predicate titlePred = cb.like(cb.lower(root.get("title")), searchTerm);
-                Predicate descPred = cb.like(cb.lower(root.get("description")), searchTerm);
-                predicates.add(cb.or(titlePred, descPred));
-            }
+    private List<TicketResponse> findByIds(long[] ticketIds) {
+        if (ticketIds.length == 0) {
+            return new ArrayList<>();
+        }
 
-            if (request.getStatus() != null) {
-                predicates.add(cb.equal(root.get("status"), request.getStatus()));
-            }
+        List<Long> ids = new ArrayList<>(ticketIds.length);
+        for (long ticketId : ticketIds) {
+            ids.add(ticketId);
+        }
 
-            if (request.getPriority() != null) {
-                predicates.add(cb.equal(root.get("priority"), request.getPriority()));
-            }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TicketResponse> query = cb.createQuery(TicketResponse.class);
+        Root<Ticket> root = query.from(Ticket.class);
+        selectResponse(cb, query, root);
+        query.where(root.get("id").in(ids));
 
-            if (request.getAssignee() != null) {
-                predicates.add(cb.equal(root.get("assignee").get("id"), request.getAssignee()));
+        Map<Long, TicketResponse> byId = new HashMap<>();
+        for (TicketResponse response : entityManager.createQuery(query).getResultList()) {
+            byId.put(response.getId(), response);
+        }
+
+        List<TicketResponse> content = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            TicketResponse response = byId.get(id);
+            if (response != null) {
+                content.add(response);
             }
+        }
+        return content;
+    }
 
-            return cb.and(predicates.toArray(new Predicate[0]));
-        };
+    private List<TicketResponse> findContent(TicketSearchRequest request, User currentUser) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TicketResponse> query = cb.createQuery(TicketResponse.class);
+        Root<Ticket> root = query.from(Ticket.class);
+        selectResponse(cb, query, root);
+        query.where(buildPredicates(cb, root, request, currentUser));
+        query.orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(request.getPage() * request.getSize())
+                .setMaxResults(request.getSize())
+                .getResultList();
     }
-}
 
+    private void selectResponse(CriteriaBuilder cb, CriteriaQuery<TicketResponse> query, Root<Ticket> root) {
+        Join<Ticket, User> owner = root.join("owner");
+        Join<Ticket, User> assignee = root.join("assignee", JoinType.LEFT);
+
+        query.select(cb.construct(TicketResponse.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("description"),
+                root.get("priority"),
+                root.get("status"),
+                owner.get("id"),
+                owner.get("fullName"),
+                assignee.get("id"),
+                assignee.get("fullName"),
+                root.get("createdAt"),
+                root.get("updatedAt"),
+                root.get("slaDueAt"),
+                root.get("urgencyScore")));
+    }
+
+    private long countMatches(TicketSearchRequest request, User currentUser) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Ticket> root = query.from(Ticket.class);
+        query.select(cb.count(root));
+        query.where(buildPredicates(cb, root, request, currentUser));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private Predicate[] buildPredicates(CriteriaBuilder cb, Root<Ticket> root,
+                                        TicketSearchRequest request, User currentUser) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (!isAdminOrAgent(currentUser)) {
+            predicates.add(cb.equal(root.get("owner").get("id"), currentUser.getId()));
+        }
+
+        if (request.getQ() != null && !request.getQ().trim().isEmpty()) {
+            String searchTerm = "%" + request.getQ().toLowerCase() + "%";
+            Predicate titlePred = cb.like(cb.lower(root.get("title")), searchTerm);
+            Predicate descPred = cb.like(cb.lower(root.get("description")), searchTerm);
+            predicates.add(cb.or(titlePred, descPred));
+        }
+
+        if (request.getStatus() != null) {
+            predicates.add(cb.equal(root.get("status"), request.getStatus()));
+        }
+
+        if (request.getPriority() != null) {
+            predicates.add(cb.equal(root.get("priority"), request.getPriority()));
+        }
+
+        if (request.getAssignee() != null) {
+            predicates.add(cb.equal(root.get("assignee").get("id"), request.getAssignee()));
+        }
+
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    private boolean isAdminOrAgent(User user) {
+        return user.getRole() == Role.ADMIN || user.getRole() == Role.AGENT;
+    }
+}
@@ -1,6 +1,7 @@
 package com.ticketing.service;
 
 import com.ticketing.dto.AssignTicketRequest;
+import com.ticketing.dto.TicketPageResponse;
 import com.ticketing.dto.TicketRequest;
 import com.ticketing.dto.TicketResponse;
 import com.ticketing.dto.UpdateStatusRequest;
@@ -9,6 +10,13 @@ import com.ticketing.entity.Status;
 import com.ticketing.entity.Ticket;
 import com.ticketing.entity.User;
 import com.ticketing.repository.TicketRepository;
+import com.ticketing.search.DuplicateTicketDetector;
+import com.ticketing.search.DuplicateTicketIndex;
+import com.ticketing.search.TicketChangedEvent;
+import com.ticketing.triage.TicketTriagedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,22 +26,47 @@ import java.util.stream.Collectors;
 
 @Service
 public class TicketService {
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final TicketRepository ticketRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DuplicateTicketDetector duplicateDetector;
 
-    public TicketService(TicketRepository ticketRepository, UserService userService) {
+    public TicketService(TicketRepository ticketRepository, UserService userService,
+                         ApplicationEventPublisher eventPublisher, DuplicateTicketDetector duplicateDetector) {
         this.ticketRepository = ticketRepository;
         this.userService = userService;
+        this.eventPublisher = eventPublisher;
+        this.duplicateDetector = duplicateDetector;
     }
 
-    public List<TicketResponse> getAllTickets(User currentUser) {
+    public TicketPageResponse getTickets(User currentUser, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+        TicketCursor after = cursor != null && !cursor.isBlank() ? TicketCursor.decode(cursor) : null;
+
         List<Ticket> tickets;
         if (currentUser.getRole() == Role.ADMIN || currentUser.getRole() == Role.AGENT) {
-            tickets = ticketRepository.findAll();
+            tickets = after == null
+                    ? ticketRepository.findFirstPage(pageable)
+                    : ticketRepository.findPageAfter(after.getCreatedAt(), after.getId(), pageable);
         } else {
-            tickets = ticketRepository.findByOwner(currentUser);
+            tickets = after == null
+                    ? ticketRepository.findFirstPageByOwner(currentUser, pageable)
+                    : ticketRepository.findPageAfterByOwner(currentUser, after.getCreatedAt(), after.getId(), pageable);
         }
-        return tickets.stream().map(this::toResponse).collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (tickets.size() > pageSize) {
+            tickets = tickets.subList(0, pageSize);
+            Ticket last = tickets.get(pageSize - 1);
+            nextCursor = new TicketCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        List<TicketResponse> content = tickets.stream().map(this::toResponse).collect(Collectors.toList());
+        return new TicketPageResponse(content, nextCursor, pageSize);
     }
 
     @Transactional
@@ -49,8 +82,12 @@ public class TicketService {
         LocalDateTime slaDueAt = calculateSlaDueAt(request.getPriority());
         ticket.setSlaDueAt(slaDueAt);
 
+        List<DuplicateTicketIndex.Match> duplicates = linkDuplicates(ticket);
+
         ticket = ticketRepository.save(ticket);
-        return toResponse(ticket);
+        eventPublisher.publishEvent(TicketChangedEvent.of(ticket));
+        eventPublisher.publishEvent(TicketStatusChangedEvent.created(ticket.getStatus(), ticket.getCreatedAt()));
+        return toResponse(ticket, duplicates);
     }
 
     @Transactional
@@ -61,7 +98,8 @@ public class TicketService {
         ticket.setPriority(triage.getSuggestedPriority());
         ticket.setStatus(Status.OPEN);
         ticket.setOwner(owner);
-        ticket.setUrgencyScore(triage.getUrgencyScore().intValue());
+        ticket.setUrgencyScore(calculateUrgencyScore(triage.getSuggestedPriority()));
+        ticket.setTriageCategory(triage.getCategory());
 
         if (triage.getSuggestedAssigneeId() != null) {
             User assignee = userService.findById(triage.getSuggestedAssigneeId());
@@ -71,10 +109,18 @@ public class TicketService {
         LocalDateTime slaDueAt = calculateSlaDueAt(triage.getSuggestedPriority());
         ticket.setSlaDueAt(slaDueAt);
 
+        List<DuplicateTicketIndex.Match> duplicates = linkDuplicates(ticket);
+
         ticket = ticketRepository.save(ticket);
-        return toResponse(ticket);
+        eventPublisher.publishEvent(TicketChangedEvent.of(ticket));
+        eventPublisher.publishEvent(TicketStatusChangedEvent.created(ticket.getStatus(), ticket.getCreatedAt()));
+        eventPublisher.publishEvent(new TicketTriagedEvent(ticket.getId(), triage.getSuggestedAssigneeId(),
+                triage.getCategory()));
+
+        return toResponse(ticket, duplicates);
     }
 
+    @Transactional(readOnly = true)
     public TicketResponse getTicketById(Long id, User currentUser) {
         Ticket ticket = ticketRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Ticket not found"));
@@ -101,6 +147,7 @@ public class TicketService {
         ticket.setAssignee(assignee);
 
         ticket = ticketRepository.save(ticket);
+        eventPublisher.publishEvent(TicketChangedEvent.of(ticket));
         return toResponse(ticket);
     }
 
@@ -122,14 +169,19 @@ public class TicketService {
             }
         }
 
+        Status previousStatus = ticket.getStatus();
         ticket.setStatus(request.getStatus());
         
-        if ((request.getStatus() == Status.RESOLVED || request.getStatus() == Status.CLOSED) 
-            && ticket.getResolvedAt() == null) {
+        boolean newlyResolved = (request.getStatus() == Status.RESOLVED || request.getStatus() == Status.CLOSED) 
+            && ticket.getResolvedAt() == null;
+        if (newlyResolved) {
             ticket.setResolvedAt(LocalDateTime.now());
         }
 
         ticket = ticketRepository.save(ticket);
+        eventPublisher.publishEvent(TicketChangedEvent.of(ticket));
+        eventPublisher.publishEvent(new TicketStatusChangedEvent(previousStatus, ticket.getStatus(),
+                ticket.getCreatedAt(), newlyResolved ? ticket.getResolvedAt() : null));
         return toResponse(ticket);
     }
 
@@ -138,6 +190,25 @@ public class TicketService {
                 .orElseThrow(() -> new RuntimeException("Ticket not found"));
     }
 
+    private List<DuplicateTicketIndex.Match> linkDuplicates(Ticket ticket) {
+        List<DuplicateTicketIndex.Match> duplicates =
+                duplicateDetector.findDuplicates(ticket.getTitle(), ticket.getDescription());
+        if (!duplicates.isEmpty() && duplicateDetector.isLinkable(duplicates.get(0))) {
+            Long parentId = duplicates.get(0).getTicketId();
+            Long rootId = ticketRepository.findDuplicateOfId(parentId);
+            ticket.setDuplicateOfId(rootId != null ? rootId : parentId);
+        }
+        return duplicates;
+    }
+
+    private TicketResponse toResponse(Ticket ticket, List<DuplicateTicketIndex.Match> duplicates) {
+        TicketResponse response = toResponse(ticket);
+        response.setPossibleDuplicateIds(duplicates.stream()
+                .map(DuplicateTicketIndex.Match::getTicketId)
+                .collect(Collectors.toList()));
+        return response;
+    }
+
     private TicketResponse toResponse(Ticket ticket) {
         TicketResponse response = new TicketResponse();
         response.setId(ticket.getId());
@@ -155,9 +226,20 @@ public class TicketService {
         response.setUpdatedAt(ticket.getUpdatedAt());
         response.setSlaDueAt(ticket.getSlaDueAt());
         response.setUrgencyScore(ticket.getUrgencyScore());
+        response.setDuplicateOfId(ticket.getDuplicateOfId());
         return response;
     }
 
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1) {
+            throw new RuntimeException("Page size must be positive");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
     private Integer calculateUrgencyScore(com.ticketing.entity.Priority priority) {
         return switch (priority) {
             case LOW -> 1;
@@ -0,0 +1,54 @@
+package com.ticketing.service;
+
+import com.ticketing.entity.Status;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+public class TicketStatusChangedEvent {
+    private final Status previousStatus;
+    private final Status newStatus;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime resolvedAt;
+
+    public TicketStatusChangedEvent(Status previousStatus, Status newStatus,
+                                    LocalDateTime createdAt, LocalDateTime resolvedAt) {
+        this.previousStatus = previousStatus;
+        this.newStatus = newStatus;
+        this.createdAt = createdAt;
+        this.resolvedAt = resolvedAt;
+    }
+
+    public static TicketStatusChangedEvent created(Status status, LocalDateTime createdAt) {
+        return new TicketStatusChangedEvent(null, status, createdAt, null);
+    }
+
+    public static TicketStatusChangedEvent resolved(Status status, LocalDateTime createdAt,
+                                                    LocalDateTime resolvedAt) {
+        return new TicketStatusChangedEvent(status, status, createdAt, resolvedAt);
+    }
+
+    public Status getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public Status getNewStatus() {
+        return newStatus;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getResolvedAt() {
+        return resolvedAt;
+    }
+
+    public boolean isNewlyResolved() {
+        return resolvedAt != null;
+    }
+
+    public long getResolutionHours() {
+        return Duration.between(createdAt, resolvedAt).toHours();
+    }
+}
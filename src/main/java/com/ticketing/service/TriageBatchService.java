@@ -0,0 +1,124 @@
+package com.ticketing.service;
+
+import com.ticketing.dto.TriagePredictionRequest;
+import com.ticketing.dto.TriagePredictionResponse;
+import com.ticketing.entity.Priority;
+import com.ticketing.triage.AgentRoster;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class TriageBatchService {
+    private final TriageService triageService;
+    private final AgentRoster agentRoster;
+    private final ThreadPoolExecutor executor;
+    private final int maxBatchSize;
+    private final int minChunkSize;
+
+    public TriageBatchService(TriageService triageService, AgentRoster agentRoster,
+                              @Value("${triage.batch.max-size:1000}") int maxBatchSize,
+                              @Value("${triage.batch.threads:0}") int threads,
+                              @Value("${triage.batch.queue-capacity:256}") int queueCapacity,
+                              @Value("${triage.batch.min-chunk-size:32}") int minChunkSize) {
+        this.triageService = triageService;
+        this.agentRoster = agentRoster;
+        this.maxBatchSize = maxBatchSize;
+        this.minChunkSize = Math.max(1, minChunkSize);
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "triage-batch-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public List<TriagePredictionResponse> predictBatch(List<TriagePredictionRequest> requests, boolean log) {
+        validate(requests);
+
+        TriagePredictionResponse[] responses = new TriagePredictionResponse[requests.size()];
+        int chunkSize = Math.max(minChunkSize,
+                (requests.size() + executor.getMaximumPoolSize() - 1) / executor.getMaximumPoolSize());
+        List<Future<?>> chunks = new ArrayList<>();
+        for (int start = 0; start < requests.size(); start += chunkSize) {
+            int from = start;
+            int to = Math.min(requests.size(), start + chunkSize);
+            chunks.add(executor.submit(() -> {
+                for (int i = from; i < to; i++) {
+                    responses[i] = triageService.score(requests.get(i));
+                }
+            }));
+        }
+        awaitAll(chunks);
+
+        List<Priority> priorities = new ArrayList<>(responses.length);
+        List<String> categories = new ArrayList<>(responses.length);
+        for (TriagePredictionResponse response : responses) {
+            priorities.add(response.getSuggestedPriority());
+            categories.add(response.getCategory());
+        }
+        List<Long> assignees = agentRoster.selectAssignees(priorities, categories);
+        for (int i = 0; i < responses.length; i++) {
+            responses[i].setSuggestedAssigneeId(assignees.get(i));
+        }
+
+        List<TriagePredictionResponse> results = Arrays.asList(responses);
+        if (log) {
+            triageService.logPredictions(requests, results);
+        }
+        return results;
+    }
+
+    private void validate(List<TriagePredictionRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new RuntimeException("At least one triage request is required");
+        }
+        if (requests.size() > maxBatchSize) {
+            throw new RuntimeException("Batch size exceeds the maximum of " + maxBatchSize + " requests");
+        }
+        for (int i = 0; i < requests.size(); i++) {
+            TriagePredictionRequest request = requests.get(i);
+            if (request == null || isBlank(request.getTitle()) || isBlank(request.getDescription())) {
+                throw new RuntimeException("Title and description are required (request " + i + ")");
+            }
+        }
+    }
+
+    private void awaitAll(List<Future<?>> chunks) {
+        try {
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        } catch (InterruptedException e) {
+            chunks.forEach(chunk -> chunk.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Batch triage was interrupted");
+        } catch (ExecutionException e) {
+            chunks.forEach(chunk -> chunk.cancel(true));
+            throw new RuntimeException("Batch triage failed: " + e.getCause().getMessage());
+        }
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,59 @@
+package com.ticketing.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class TriageLogEntry {
+    private final Long ticketId;
+    private final String inputTitle;
+    private final String inputDescription;
+    private final String predictedPriority;
+    private final BigDecimal urgencyScore;
+    private final Long assigneeId;
+    private final BigDecimal confidence;
+    private final LocalDateTime createdAt;
+
+    public TriageLogEntry(Long ticketId, String inputTitle, String inputDescription, String predictedPriority,
+                          BigDecimal urgencyScore, Long assigneeId, BigDecimal confidence, LocalDateTime createdAt) {
+        this.ticketId = ticketId;
+        this.inputTitle = inputTitle;
+        this.inputDescription = inputDescription;
+        this.predictedPriority = predictedPriority;
+        this.urgencyScore = urgencyScore;
+        this.assigneeId = assigneeId;
+        this.confidence = confidence;
+        this.createdAt = createdAt;
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public String getInputTitle() {
+        return inputTitle;
+    }
+
+    public String getInputDescription() {
+        return inputDescription;
+    }
+
+    public String getPredictedPriority() {
+        return predictedPriority;
+    }
+
+    public BigDecimal getUrgencyScore() {
+        return urgencyScore;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public BigDecimal getConfidence() {
+        return confidence;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
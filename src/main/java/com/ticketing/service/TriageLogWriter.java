@@ -0,0 +1,181 @@
+package com.ticketing.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class TriageLogWriter {
+    private static final Logger logger = LoggerFactory.getLogger(TriageLogWriter.class);
+
+    private static final String INSERT_SQL = "INSERT INTO triage_logs (ticket_id, input_title, input_description, "
+            + "predicted_priority, urgency_score, assignee_id, confidence, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<TriageLogEntry> queue;
+    private final int flushSize;
+    private final long flushIntervalMillis;
+    private final long offerTimeoutMillis;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public TriageLogWriter(JdbcTemplate jdbcTemplate,
+                           @Value("${triage.log.queue-capacity:10000}") int queueCapacity,
+                           @Value("${triage.log.flush-size:500}") int flushSize,
+                           @Value("${triage.log.flush-interval-ms:1000}") long flushIntervalMillis,
+                           @Value("${triage.log.offer-timeout-ms:20}") long offerTimeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.flushSize = flushSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "triage-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.join(TimeUnit.SECONDS.toMillis(30));
+        }
+        flushRemaining();
+    }
+
+    public boolean submit(TriageLogEntry entry) {
+        if (queue.offer(entry)) {
+            enqueued.incrementAndGet();
+            return true;
+        }
+
+        throttled.incrementAndGet();
+        try {
+            if (running && queue.offer(entry, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                enqueued.incrementAndGet();
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (dropped.incrementAndGet() % 1000 == 1) {
+            logger.warn("Triage log queue full, {} entries dropped so far", dropped.get());
+        }
+        return false;
+    }
+
+    public int writeBatch(List<TriageLogEntry> entries) {
+        return write(entries) ? entries.size() : 0;
+    }
+
+    public Map<String, Long> getMetrics() {
+        Map<String, Long> metrics = new LinkedHashMap<>();
+        metrics.put("queued", (long) queue.size());
+        metrics.put("enqueued", enqueued.get());
+        metrics.put("written", written.get());
+        metrics.put("dropped", dropped.get());
+        metrics.put("throttled", throttled.get());
+        metrics.put("failed", failed.get());
+        return metrics;
+    }
+
+    void run() {
+        List<TriageLogEntry> batch = new ArrayList<>(flushSize);
+        while (running) {
+            try {
+                TriageLogEntry first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.currentTimeMillis() + flushIntervalMillis;
+                while (batch.size() < flushSize) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (queue.drainTo(batch, flushSize - batch.size()) == 0) {
+                        if (remaining <= 0) {
+                            break;
+                        }
+                        TriageLogEntry next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+                        if (next == null) {
+                            break;
+                        }
+                        batch.add(next);
+                    }
+                }
+            } catch (InterruptedException e) {
+                break;
+            }
+            write(batch);
+            batch.clear();
+        }
+        write(batch);
+    }
+
+    void flushRemaining() {
+        List<TriageLogEntry> batch = new ArrayList<>(flushSize);
+        while (queue.drainTo(batch, flushSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private boolean write(List<TriageLogEntry> batch) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, entry) -> {
+                if (entry.getTicketId() != null) {
+                    ps.setLong(1, entry.getTicketId());
+                } else {
+                    ps.setNull(1, Types.BIGINT);
+                }
+                ps.setString(2, entry.getInputTitle());
+                ps.setString(3, entry.getInputDescription());
+                ps.setString(4, entry.getPredictedPriority());
+                ps.setBigDecimal(5, entry.getUrgencyScore());
+                if (entry.getAssigneeId() != null) {
+                    ps.setLong(6, entry.getAssigneeId());
+                } else {
+                    ps.setNull(6, Types.BIGINT);
+                }
+                ps.setBigDecimal(7, entry.getConfidence());
+                ps.setTimestamp(8, Timestamp.valueOf(entry.getCreatedAt()));
+            });
+            written.addAndGet(batch.size());
+            return true;
+        } catch (Exception e) {
+            failed.addAndGet(batch.size());
+            logger.error("Failed to write {} triage log entries: {}", batch.size(), e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.ticketing.service;
+
+import com.ticketing.triage.NaiveBayesModel;
+import com.ticketing.triage.NaiveBayesTrainer;
+import com.ticketing.triage.TriageDictionaryManager;
+import com.ticketing.triage.TriageMatcher;
+import com.ticketing.triage.TriageModelManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class TriageTrainingService {
+    private static final Logger logger = LoggerFactory.getLogger(TriageTrainingService.class);
+
+    private static final String TRAINING_SQL =
+            "SELECT COALESCE(l.input_title, t.title), COALESCE(l.input_description, t.description), t.priority, "
+            + "COALESCE(t.resolved_at, t.updated_at) AS resolved_at "
+            + "FROM tickets t "
+            + "LEFT JOIN LATERAL (SELECT input_title, input_description FROM triage_logs "
+            + "  WHERE ticket_id = t.id ORDER BY id LIMIT 1) l ON true "
+            + "WHERE t.status IN ('RESOLVED', 'CLOSED') AND COALESCE(t.resolved_at, t.updated_at) > ? "
+            + "ORDER BY resolved_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TriageDictionaryManager dictionaryManager;
+    private final TriageModelManager modelManager;
+    private final int featureBits;
+    private final ReentrantLock trainingLock = new ReentrantLock();
+
+    public TriageTrainingService(JdbcTemplate jdbcTemplate, TriageDictionaryManager dictionaryManager,
+                                 TriageModelManager modelManager,
+                                 @Value("${triage.model.feature-bits:16}") int featureBits) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dictionaryManager = dictionaryManager;
+        this.modelManager = modelManager;
+        this.featureBits = featureBits;
+    }
+
+    @Scheduled(cron = "${triage.model.training-cron:-}")
+    public void trainIncrementally() {
+        try {
+            train(false);
+        } catch (RuntimeException e) {
+            logger.error("Scheduled triage model training failed: {}", e.getMessage());
+        }
+    }
+
+    public Map<String, Object> train(boolean full) {
+        trainingLock.lock();
+        try {
+            return doTrain(full);
+        } finally {
+            trainingLock.unlock();
+        }
+    }
+
+    private Map<String, Object> doTrain(boolean full) {
+        long started = System.nanoTime();
+        NaiveBayesModel existing = full || !Files.exists(modelManager.getModelPath())
+                ? null : NaiveBayesModel.load(modelManager.getModelPath());
+        if (existing != null && existing.getFeatureBits() != featureBits) {
+            existing = null;
+        }
+        NaiveBayesTrainer trainer = existing != null
+                ? NaiveBayesTrainer.from(existing) : new NaiveBayesTrainer(featureBits);
+        int previousSamples = trainer.getSampleCount();
+
+        TriageMatcher matcher = dictionaryManager.current().getMatcher();
+        jdbcTemplate.query(con -> {
+            var statement = con.prepareStatement(TRAINING_SQL);
+            statement.setFetchSize(1000);
+            statement.setTimestamp(1, Timestamp.from(trainer.getTrainedUntil()));
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            String title = rs.getString(1);
+            String description = rs.getString(2);
+            String category = matcher.scan(title, description).getCategory();
+            trainer.add(title, description, rs.getString(3), category != null ? category : "General",
+                    rs.getTimestamp(4).toInstant());
+        });
+
+        int added = trainer.getSampleCount() - previousSamples;
+        if (added > 0 || existing == null) {
+            trainer.writeTo(modelManager.getModelPath());
+        }
+        String classifier = modelManager.reload().getName();
+
+        logger.info("Triage model trained with {} new samples ({} total) in {} ms",
+                added, trainer.getSampleCount(), (System.nanoTime() - started) / 1_000_000);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("mode", existing != null ? "incremental" : "full");
+        result.put("samplesAdded", added);
+        result.put("trainingDataSize", trainer.getSampleCount());
+        result.put("trainedUntil", trainer.getTrainedUntil().equals(Instant.EPOCH)
+                ? null : trainer.getTrainedUntil().toString());
+        result.put("activeClassifier", classifier);
+        return result;
+    }
+}
@@ -0,0 +1,130 @@
+package com.ticketing.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+final class UploadInputStream extends InputStream {
+    static final int SNIFF_BYTES = 512;
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+    private static final byte[] JPEG_SIGNATURE = {(byte) 0xff, (byte) 0xd8, (byte) 0xff};
+    private static final byte[] PDF_SIGNATURE = {'%', 'P', 'D', 'F', '-'};
+
+    private final InputStream in;
+    private final long maxSize;
+    private final String expectedContentType;
+    private final MessageDigest digest;
+    private final byte[] header = new byte[SNIFF_BYTES];
+    private int headerLength;
+    private long size;
+    private boolean verified;
+    private String sha256;
+
+    UploadInputStream(InputStream in, long maxSize, String expectedContentType) {
+        this.in = in;
+        this.maxSize = maxSize;
+        this.expectedContentType = expectedContentType;
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = in.read();
+        if (b >= 0) {
+            update(new byte[] {(byte) b}, 0, 1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = in.read(b, off, len);
+        if (n > 0) {
+            update(b, off, n);
+        }
+        return n;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    void finish() {
+        if (size == 0) {
+            throw new RuntimeException("File is empty");
+        }
+        if (!verified) {
+            verify();
+        }
+        sha256 = HexFormat.of().formatHex(digest.digest());
+    }
+
+    long getSize() {
+        return size;
+    }
+
+    String getSha256() {
+        return sha256;
+    }
+
+    static String sniff(byte[] header, int length) {
+        if (startsWith(header, length, PNG_SIGNATURE)) {
+            return "image/png";
+        }
+        if (startsWith(header, length, JPEG_SIGNATURE)) {
+            return "image/jpeg";
+        }
+        if (startsWith(header, length, PDF_SIGNATURE)) {
+            return "application/pdf";
+        }
+        for (int i = 0; i < length; i++) {
+            if (header[i] == 0) {
+                return "application/octet-stream";
+            }
+        }
+        return "text/plain";
+    }
+
+    private void update(byte[] b, int off, int len) {
+        size += len;
+        if (size > maxSize) {
+            throw new RuntimeException("File size exceeds " + (maxSize / (1024 * 1024)) + "MB limit");
+        }
+        digest.update(b, off, len);
+        if (headerLength < SNIFF_BYTES) {
+            int n = Math.min(len, SNIFF_BYTES - headerLength);
+            System.arraycopy(b, off, header, headerLength, n);
+            headerLength += n;
+            if (headerLength == SNIFF_BYTES) {
+                verify();
+            }
+        }
+    }
+
+    private void verify() {
+        verified = true;
+        if (!expectedContentType.equals(sniff(header, headerLength))) {
+            throw new RuntimeException("File content does not match its " + expectedContentType + " extension");
+        }
+    }
+
+    private static boolean startsWith(byte[] header, int length, byte[] signature) {
+        if (length < signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if (header[i] != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,13 @@
+package com.ticketing.service;
+
+public class UserChangedEvent {
+    private final String email;
+
+    public UserChangedEvent(String email) {
+        this.email = email;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+}
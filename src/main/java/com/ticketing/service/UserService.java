@@ -2,8 +2,10 @@ package com.ticketing.service;
 
 import com.ticketing.dto.CreateUserRequest;
 import com.ticketing.dto.UserResponse;
+import com.ticketing.entity.Role;
 import com.ticketing.entity.User;
 import com.ticketing.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,10 +17,13 @@ import java.util.stream.Collectors;
 public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                       ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<UserResponse> getAllUsers() {
@@ -40,9 +45,24 @@ public class UserService {
         user.setRole(request.getRole());
 
         user = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getEmail()));
         return toResponse(user);
     }
 
+    @Transactional
+    public UserResponse updateRole(Long id, Role role) {
+        User user = findById(id);
+        user.setRole(role);
+        user = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getEmail()));
+        return toResponse(user);
+    }
+
+    public void revokeTokens(Long id) {
+        User user = findById(id);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getEmail()));
+    }
+
     public User findById(Long id) {
         return userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -0,0 +1,38 @@
+package com.ticketing.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+public interface AttachmentStore extends AutoCloseable {
+    String getType();
+
+    Path createSpoolFile() throws IOException;
+
+    void put(String key, Path spool, String contentType) throws IOException;
+
+    Path findLocal(String key);
+
+    InputStream open(String key) throws IOException;
+
+    CompletableFuture<ObjectDownload> download(String key, String range, String ifNoneMatch);
+
+    void delete(String key) throws IOException;
+
+    Optional<String> presignGet(String key, Duration expiration);
+
+    Optional<PresignedUpload> presignPut(String key, String contentType, long size, String sha256, Duration expiration);
+
+    StoredObject stat(String key) throws IOException;
+
+    byte[] readPrefix(String key, int length) throws IOException;
+
+    void move(String sourceKey, String targetKey) throws IOException;
+
+    @Override
+    default void close() {
+    }
+}
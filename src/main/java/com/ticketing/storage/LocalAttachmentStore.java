@@ -0,0 +1,112 @@
+package com.ticketing.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+public class LocalAttachmentStore implements AttachmentStore {
+    static final String SPOOL_SUFFIX = ".part";
+
+    private final Path root;
+
+    public LocalAttachmentStore(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(this.root);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not create upload directory", e);
+        }
+    }
+
+    @Override
+    public String getType() {
+        return "local";
+    }
+
+    @Override
+    public Path createSpoolFile() {
+        return resolve(UUID.randomUUID() + SPOOL_SUFFIX);
+    }
+
+    @Override
+    public void put(String key, Path spool, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Files.move(spool, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public Path findLocal(String key) {
+        Path path = resolve(key);
+        return Files.isRegularFile(path) ? path : null;
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public CompletableFuture<ObjectDownload> download(String key, String range, String ifNoneMatch) {
+        return CompletableFuture.failedFuture(new ObjectDownloadException(404, null));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public Optional<String> presignGet(String key, Duration expiration) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<PresignedUpload> presignPut(String key, String contentType, long size, String sha256,
+                                                Duration expiration) {
+        return Optional.empty();
+    }
+
+    @Override
+    public StoredObject stat(String key) throws IOException {
+        Path path = findLocal(key);
+        return path != null ? new StoredObject(Files.size(path), null) : null;
+    }
+
+    @Override
+    public byte[] readPrefix(String key, int length) throws IOException {
+        try (InputStream in = Files.newInputStream(resolve(key))) {
+            return in.readNBytes(length);
+        }
+    }
+
+    @Override
+    public void move(String sourceKey, String targetKey) throws IOException {
+        Path target = resolve(targetKey);
+        Files.createDirectories(target.getParent());
+        Files.move(resolve(sourceKey), target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    Path getRoot() {
+        return root;
+    }
+
+    String keyOf(Path path) {
+        return root.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/");
+    }
+
+    private Path resolve(String key) {
+        Path filePath = root.resolve(key).normalize();
+
+        if (!filePath.startsWith(root) || filePath.equals(root)) {
+            throw new RuntimeException("Path traversal detected");
+        }
+        return filePath;
+    }
+}
@@ -0,0 +1,43 @@
+package com.ticketing.storage;
+
+import org.reactivestreams.Publisher;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+public class ObjectDownload {
+    private final Long contentLength;
+    private final String contentRange;
+    private final String eTag;
+    private final Instant lastModified;
+    private final Publisher<ByteBuffer> body;
+
+    public ObjectDownload(Long contentLength, String contentRange, String eTag, Instant lastModified,
+                          Publisher<ByteBuffer> body) {
+        this.contentLength = contentLength;
+        this.contentRange = contentRange;
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+        this.body = body;
+    }
+
+    public Long getContentLength() {
+        return contentLength;
+    }
+
+    public String getContentRange() {
+        return contentRange;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
+    public Publisher<ByteBuffer> getBody() {
+        return body;
+    }
+}
@@ -0,0 +1,20 @@
+package com.ticketing.storage;
+
+public class ObjectDownloadException extends RuntimeException {
+    private final int status;
+    private final String contentRange;
+
+    public ObjectDownloadException(int status, String contentRange) {
+        super("Object download answered with status " + status);
+        this.status = status;
+        this.contentRange = contentRange;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getContentRange() {
+        return contentRange;
+    }
+}
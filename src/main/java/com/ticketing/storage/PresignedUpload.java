@@ -0,0 +1,21 @@
+package com.ticketing.storage;
+
+import java.util.Map;
+
+public class PresignedUpload {
+    private final String url;
+    private final Map<String, String> headers;
+
+    public PresignedUpload(String url, Map<String, String> headers) {
+        this.url = url;
+        this.headers = headers;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+}
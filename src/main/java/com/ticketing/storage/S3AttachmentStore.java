@@ -0,0 +1,84 @@
+package com.ticketing.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+public class S3AttachmentStore implements AttachmentStore {
+    private final S3TransferEngine engine;
+
+    public S3AttachmentStore(S3TransferEngine engine) {
+        this.engine = engine;
+    }
+
+    @Override
+    public String getType() {
+        return "s3";
+    }
+
+    @Override
+    public Path createSpoolFile() throws IOException {
+        return Files.createTempFile("upload-", LocalAttachmentStore.SPOOL_SUFFIX);
+    }
+
+    @Override
+    public void put(String key, Path spool, String contentType) throws IOException {
+        S3TransferEngine.await(engine.upload(key, spool, contentType));
+    }
+
+    @Override
+    public Path findLocal(String key) {
+        return null;
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return engine.openStream(key);
+    }
+
+    @Override
+    public CompletableFuture<ObjectDownload> download(String key, String range, String ifNoneMatch) {
+        return engine.download(key, range, ifNoneMatch);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        S3TransferEngine.await(engine.delete(key));
+    }
+
+    @Override
+    public Optional<String> presignGet(String key, Duration expiration) {
+        return Optional.of(engine.presignGet(key, expiration));
+    }
+
+    @Override
+    public Optional<PresignedUpload> presignPut(String key, String contentType, long size, String sha256,
+                                                Duration expiration) {
+        return Optional.of(engine.presignPut(key, contentType, size, sha256, expiration));
+    }
+
+    @Override
+    public StoredObject stat(String key) throws IOException {
+        return S3TransferEngine.await(engine.head(key));
+    }
+
+    @Override
+    public byte[] readPrefix(String key, int length) throws IOException {
+        return S3TransferEngine.await(engine.readRange(key, 0, length));
+    }
+
+    @Override
+    public void move(String sourceKey, String targetKey) throws IOException {
+        S3TransferEngine.await(engine.copy(sourceKey, targetKey));
+        S3TransferEngine.await(engine.delete(sourceKey));
+    }
+
+    @Override
+    public void close() {
+        engine.close();
+    }
+}
@@ -0,0 +1,344 @@
+package com.ticketing.storage;
+
+import com.ticketing.config.S3Properties;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.ResponsePublisher;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class S3TransferEngine implements AutoCloseable {
+    public static final long MIN_PART_SIZE = 5 * 1024 * 1024;
+    private static final Set<Integer> PASS_THROUGH_STATUSES = Set.of(304, 412, 416);
+
+    private final S3AsyncClient client;
+    private final S3Presigner presigner;
+    private final String bucket;
+    private final long multipartThreshold;
+    private final long partSize;
+    private final int maxConcurrentParts;
+
+    public S3TransferEngine(S3Properties properties) {
+        SdkAsyncHttpClient httpClient = NettyNioAsyncHttpClient.builder()
+                .maxConcurrency(properties.getMaxConnections())
+                .connectionAcquisitionTimeout(Duration.ofMillis(properties.getConnectionAcquireTimeoutMs()))
+                .connectionMaxIdleTime(Duration.ofMillis(properties.getConnectionMaxIdleMs()))
+                .tcpKeepAlive(true)
+                .build();
+        Region region = Region.of(properties.getRegion());
+        AwsCredentialsProvider credentials = credentials(properties);
+        S3Configuration serviceConfiguration = S3Configuration.builder()
+                .pathStyleAccessEnabled(properties.isPathStyleAccess())
+                .build();
+
+        S3AsyncClientBuilder clientBuilder = S3AsyncClient.builder()
+                .httpClient(httpClient)
+                .region(region)
+                .credentialsProvider(credentials)
+                .serviceConfiguration(serviceConfiguration);
+        S3Presigner.Builder presignerBuilder = S3Presigner.builder()
+                .region(region)
+                .credentialsProvider(credentials)
+                .serviceConfiguration(serviceConfiguration);
+        if (hasText(properties.getEndpoint())) {
+            URI endpoint = URI.create(properties.getEndpoint());
+            clientBuilder.endpointOverride(endpoint);
+            presignerBuilder.endpointOverride(endpoint);
+        }
+
+        this.client = clientBuilder.build();
+        this.presigner = presignerBuilder.build();
+        this.bucket = properties.getBucket();
+        this.partSize = Math.max(properties.getPartSizeBytes(), MIN_PART_SIZE);
+        this.multipartThreshold = Math.max(properties.getMultipartThresholdBytes(), partSize);
+        this.maxConcurrentParts = Math.max(properties.getMaxConcurrentParts(), 1);
+    }
+
+    public CompletableFuture<Void> upload(String key, Path file, String contentType) {
+        long size;
+        try {
+            size = Files.size(file);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        if (size < multipartThreshold) {
+            return client.putObject(request -> request.bucket(bucket).key(key).contentType(contentType)
+                            .contentLength(size), AsyncRequestBody.fromFile(file))
+                    .thenApply(response -> null);
+        }
+        return client.createMultipartUpload(request -> request.bucket(bucket).key(key).contentType(contentType))
+                .thenCompose(created -> uploadParts(key, created.uploadId(), file, size)
+                        .thenCompose(parts -> client.completeMultipartUpload(request -> request
+                                .bucket(bucket)
+                                .key(key)
+                                .uploadId(created.uploadId())
+                                .multipartUpload(upload -> upload.parts(parts))))
+                        .<Void>thenApply(response -> null)
+                        .exceptionallyCompose(error -> client.abortMultipartUpload(request -> request
+                                        .bucket(bucket).key(key).uploadId(created.uploadId()))
+                                .handle((response, abortError) -> null)
+                                .thenCompose(ignored -> CompletableFuture.failedFuture(error))));
+    }
+
+    public CompletableFuture<ObjectDownload> download(String key, String range, String ifNoneMatch) {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .range(range)
+                .ifNoneMatch(ifNoneMatch)
+                .build();
+        CompletableFuture<ResponsePublisher<GetObjectResponse>> response =
+                client.getObject(request, AsyncResponseTransformer.toPublisher());
+        CompletableFuture<ObjectDownload> download = new CompletableFuture<>();
+        response.whenComplete((publisher, error) -> {
+            if (error != null) {
+                download.completeExceptionally(downloadError(error));
+                return;
+            }
+            GetObjectResponse object = publisher.response();
+            if (!download.complete(new ObjectDownload(object.contentLength(), object.contentRange(), object.eTag(),
+                    object.lastModified(), publisher))) {
+                publisher.subscribe(new CancellingSubscriber());
+            }
+        });
+        download.whenComplete((result, error) -> {
+            if (download.isCancelled()) {
+                response.cancel(true);
+            }
+        });
+        return download;
+    }
+
+    public ResponseInputStream<GetObjectResponse> openStream(String key) throws IOException {
+        return await(client.getObject(request -> request.bucket(bucket).key(key),
+                AsyncResponseTransformer.toBlockingInputStream()));
+    }
+
+    public CompletableFuture<Void> delete(String key) {
+        return client.deleteObject(request -> request.bucket(bucket).key(key)).thenApply(response -> null);
+    }
+
+    public String presignGet(String key, Duration expiration) {
+        return presigner.presignGetObject(request -> request
+                        .signatureDuration(expiration)
+                        .getObjectRequest(get -> get.bucket(bucket).key(key)))
+                .url()
+                .toString();
+    }
+
+    public PresignedUpload presignPut(String key, String contentType, long size, String sha256,
+                                      Duration expiration) {
+        PresignedPutObjectRequest presigned = presigner.presignPutObject(request -> request
+                .signatureDuration(expiration)
+                .putObjectRequest(put -> put.bucket(bucket).key(key).contentType(contentType).contentLength(size)
+                        .checksumSHA256(Base64.getEncoder().encodeToString(HexFormat.of().parseHex(sha256)))));
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!name.equalsIgnoreCase("host")) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+        return new PresignedUpload(presigned.url().toString(), headers);
+    }
+
+    public CompletableFuture<StoredObject> head(String key) {
+        return client.headObject(request -> request.bucket(bucket).key(key).checksumMode(ChecksumMode.ENABLED))
+                .handle((response, error) -> {
+                    if (error == null) {
+                        String checksum = response.checksumSHA256();
+                        return new StoredObject(response.contentLength(), checksum != null
+                                ? HexFormat.of().formatHex(Base64.getDecoder().decode(checksum)) : null);
+                    }
+                    if (isNotFound(error)) {
+                        return null;
+                    }
+                    throw error instanceof CompletionException completion ? completion
+                            : new CompletionException(error);
+                });
+    }
+
+    public CompletableFuture<byte[]> readRange(String key, long offset, int length) {
+        return client.getObject(request -> request.bucket(bucket).key(key)
+                                .range("bytes=" + offset + "-" + (offset + length - 1)),
+                        AsyncResponseTransformer.toBytes())
+                .thenApply(ResponseBytes::asByteArray);
+    }
+
+    public CompletableFuture<Void> copy(String sourceKey, String targetKey) {
+        return client.copyObject(request -> request
+                        .sourceBucket(bucket).sourceKey(sourceKey)
+                        .destinationBucket(bucket).destinationKey(targetKey))
+                .thenApply(response -> null);
+    }
+
+    public long getPartSize() {
+        return partSize;
+    }
+
+    public long getMultipartThreshold() {
+        return multipartThreshold;
+    }
+
+    public static <T> T await(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for S3");
+        } catch (ExecutionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof SdkException || cause instanceof CancellationException) {
+                throw new IOException("S3 request failed: " + cause.getMessage(), cause);
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    @Override
+    public void close() {
+        client.close();
+        presigner.close();
+    }
+
+    private CompletableFuture<List<CompletedPart>> uploadParts(String key, String uploadId, Path file, long size) {
+        CompletedPart[] parts = new CompletedPart[(int) ((size + partSize - 1) / partSize)];
+        AtomicInteger nextPart = new AtomicInteger();
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[Math.min(maxConcurrentParts, parts.length)];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = uploadNextPart(key, uploadId, file, size, parts, nextPart);
+        }
+        return CompletableFuture.allOf(workers).thenApply(done -> Arrays.asList(parts));
+    }
+
+    private CompletableFuture<Void> uploadNextPart(String key, String uploadId, Path file, long size,
+                                                   CompletedPart[] parts, AtomicInteger nextPart) {
+        int index = nextPart.getAndIncrement();
+        if (index >= parts.length) {
+            return CompletableFuture.completedFuture(null);
+        }
+        int partNumber = index + 1;
+        long position = index * partSize;
+        long length = Math.min(partSize, size - position);
+
+        return client.uploadPart(request -> request.bucket(bucket).key(key).uploadId(uploadId)
+                                .partNumber(partNumber).contentLength(length),
+                        AsyncRequestBody.fromFile(body -> body.path(file).position(position).numBytesToRead(length)))
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        nextPart.set(parts.length);
+                    }
+                })
+                .thenCompose(response -> {
+                    parts[index] = CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build();
+                    return uploadNextPart(key, uploadId, file, size, parts, nextPart);
+                });
+    }
+
+    private static Throwable downloadError(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof NoSuchKeyException) {
+            return new ObjectDownloadException(404, null);
+        }
+        if (cause instanceof S3Exception s3 && PASS_THROUGH_STATUSES.contains(s3.statusCode())) {
+            String contentRange = s3.awsErrorDetails() != null && s3.awsErrorDetails().sdkHttpResponse() != null
+                    ? s3.awsErrorDetails().sdkHttpResponse().firstMatchingHeader("Content-Range").orElse(null)
+                    : null;
+            return new ObjectDownloadException(s3.statusCode(), contentRange);
+        }
+        return cause;
+    }
+
+    private static boolean isNotFound(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof NoSuchKeyException || cause instanceof S3Exception s3 && s3.statusCode() == 404;
+    }
+
+    private static AwsCredentialsProvider credentials(S3Properties properties) {
+        if (hasText(properties.getAccessKeyId()) && hasText(properties.getSecretAccessKey())) {
+            return StaticCredentialsProvider.create(
+                    AwsBasicCredentials.create(properties.getAccessKeyId(), properties.getSecretAccessKey()));
+        }
+        return DefaultCredentialsProvider.create();
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static final class CancellingSubscriber implements Subscriber<ByteBuffer> {
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscription.cancel();
+        }
+
+        @Override
+        public void onNext(ByteBuffer buffer) {
+        }
+
+        @Override
+        public void onError(Throwable error) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
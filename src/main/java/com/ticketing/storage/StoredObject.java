@@ -0,0 +1,19 @@
+package com.ticketing.storage;
+
+public class StoredObject {
+    private final long size;
+    private final String sha256;
+
+    public StoredObject(long size, String sha256) {
+        this.size = size;
+        this.sha256 = sha256;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+}
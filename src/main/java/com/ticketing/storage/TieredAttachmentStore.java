@@ -0,0 +1,138 @@
+package com.ticketing.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+public class TieredAttachmentStore implements AttachmentStore {
+    private static final Logger logger = LoggerFactory.getLogger(TieredAttachmentStore.class);
+
+    private final LocalAttachmentStore hot;
+    private final AttachmentStore cold;
+
+    public TieredAttachmentStore(LocalAttachmentStore hot, AttachmentStore cold) {
+        this.hot = hot;
+        this.cold = cold;
+    }
+
+    @Override
+    public String getType() {
+        return "tiered";
+    }
+
+    @Override
+    public Path createSpoolFile() throws IOException {
+        return hot.createSpoolFile();
+    }
+
+    @Override
+    public void put(String key, Path spool, String contentType) throws IOException {
+        hot.put(key, spool, contentType);
+    }
+
+    @Override
+    public Path findLocal(String key) {
+        return hot.findLocal(key);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return hot.findLocal(key) != null ? hot.open(key) : cold.open(key);
+    }
+
+    @Override
+    public CompletableFuture<ObjectDownload> download(String key, String range, String ifNoneMatch) {
+        return cold.download(key, range, ifNoneMatch);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        hot.delete(key);
+        cold.delete(key);
+    }
+
+    @Override
+    public Optional<String> presignGet(String key, Duration expiration) {
+        return hot.findLocal(key) != null ? Optional.empty() : cold.presignGet(key, expiration);
+    }
+
+    @Override
+    public Optional<PresignedUpload> presignPut(String key, String contentType, long size, String sha256,
+                                                Duration expiration) {
+        return cold.presignPut(key, contentType, size, sha256, expiration);
+    }
+
+    @Override
+    public StoredObject stat(String key) throws IOException {
+        return hot.findLocal(key) != null ? hot.stat(key) : cold.stat(key);
+    }
+
+    @Override
+    public byte[] readPrefix(String key, int length) throws IOException {
+        return hot.findLocal(key) != null ? hot.readPrefix(key, length) : cold.readPrefix(key, length);
+    }
+
+    @Override
+    public void move(String sourceKey, String targetKey) throws IOException {
+        if (hot.findLocal(sourceKey) != null) {
+            hot.move(sourceKey, targetKey);
+        } else {
+            cold.move(sourceKey, targetKey);
+        }
+    }
+
+    @Override
+    public void close() {
+        cold.close();
+    }
+
+    public int migrateColdObjects(Instant cutoff, Function<String, String> contentTypes, int limit)
+            throws IOException {
+        List<Path> candidates;
+        try (Stream<Path> files = Files.walk(hot.getRoot())) {
+            candidates = files
+                    .filter(Files::isRegularFile)
+                    .filter(path -> !path.getFileName().toString().endsWith(LocalAttachmentStore.SPOOL_SUFFIX))
+                    .filter(path -> isOlderThan(path, cutoff))
+                    .limit(limit)
+                    .toList();
+        }
+
+        int migrated = 0;
+        for (Path path : candidates) {
+            String key = hot.keyOf(path);
+            try {
+                cold.put(key, path, contentTypes.apply(key));
+                if (Files.exists(path)) {
+                    hot.delete(key);
+                    migrated++;
+                } else {
+                    cold.delete(key);
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Could not move {} to cold storage: {}", key, e.getMessage());
+            }
+        }
+        return migrated;
+    }
+
+    private static boolean isOlderThan(Path path, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(path).compareTo(FileTime.from(cutoff)) < 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.ticketing.triage;
+
+import com.ticketing.entity.Priority;
+import com.ticketing.entity.Role;
+import com.ticketing.entity.Status;
+import com.ticketing.entity.User;
+import com.ticketing.repository.TicketRepository;
+import com.ticketing.repository.UserRepository;
+import com.ticketing.search.TicketChangedEvent;
+import com.ticketing.service.UserChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class AgentRoster {
+    private static final Logger logger = LoggerFactory.getLogger(AgentRoster.class);
+    private static final double AFFINITY_WEIGHT = 0.5;
+    private static final List<Role> AGENT_ROLES = List.of(Role.AGENT, Role.ADMIN);
+
+    private final UserRepository userRepository;
+    private final TicketRepository ticketRepository;
+
+    private final Map<Long, Long> openAssignments = new HashMap<>();
+    private final Map<Long, AtomicInteger> openCounts = new ConcurrentHashMap<>();
+    private final Map<Long, Map<String, AtomicInteger>> categoryCounts = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicInteger> triagedCounts = new ConcurrentHashMap<>();
+    private final AtomicLong pickSequence = new AtomicLong();
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile List<Agent> agents;
+
+    public AgentRoster(UserRepository userRepository, TicketRepository ticketRepository) {
+        this.userRepository = userRepository;
+        this.ticketRepository = ticketRepository;
+    }
+
+    public Long selectAssignee(Priority priority, String category) {
+        return select(roster(), priority, category, Map.of());
+    }
+
+    public List<Long> selectAssignees(List<Priority> priorities, List<String> categories) {
+        List<Agent> roster = roster();
+        Map<Long, Integer> pending = new HashMap<>();
+        List<Long> assignees = new ArrayList<>(priorities.size());
+        for (int i = 0; i < priorities.size(); i++) {
+            Long assignee = select(roster, priorities.get(i), categories.get(i), pending);
+            if (assignee != null) {
+                pending.merge(assignee, 1, Integer::sum);
+            }
+            assignees.add(assignee);
+        }
+        return assignees;
+    }
+
+    private List<Agent> roster() {
+        List<Agent> roster = agents;
+        if (roster == null) {
+            reload();
+            roster = agents;
+        }
+        return roster;
+    }
+
+    private Long select(List<Agent> roster, Priority priority, String category, Map<Long, Integer> pending) {
+        if (roster.isEmpty()) {
+            return null;
+        }
+
+        boolean adminsOnly = (priority == Priority.CRITICAL || priority == Priority.HIGH)
+                && roster.stream().anyMatch(agent -> agent.role == Role.ADMIN);
+
+        Agent best = null;
+        double bestScore = Double.MAX_VALUE;
+        for (Agent agent : roster) {
+            if (adminsOnly && agent.role != Role.ADMIN) {
+                continue;
+            }
+            int load = openTicketCount(agent.id) + pending.getOrDefault(agent.id, 0);
+            double score = load / (1.0 + AFFINITY_WEIGHT * affinity(agent.id, category));
+            if (best == null || score < bestScore
+                    || (score == bestScore && agent.lastPicked.get() < best.lastPicked.get())) {
+                best = agent;
+                bestScore = score;
+            }
+        }
+
+        best.lastPicked.set(pickSequence.incrementAndGet());
+        return best.id;
+    }
+
+    public int openTicketCount(Long agentId) {
+        AtomicInteger count = openCounts.get(agentId);
+        return count != null ? count.get() : 0;
+    }
+
+    public double affinity(Long agentId, String category) {
+        AtomicInteger triaged = triagedCounts.get(agentId);
+        Map<String, AtomicInteger> categories = categoryCounts.get(agentId);
+        if (triaged == null || category == null || categories == null) {
+            return 0.0;
+        }
+        AtomicInteger matching = categories.get(category);
+        return matching != null ? matching.get() / (double) Math.max(1, triaged.get()) : 0.0;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${triage.roster.resync-interval-ms:600000}",
+               initialDelayString = "${triage.roster.resync-interval-ms:600000}")
+    public void reload() {
+        lock.lock();
+        try {
+            refreshAgents();
+
+            openAssignments.clear();
+            openCounts.clear();
+            for (Object[] row : ticketRepository.findOpenAssignments()) {
+                Long assigneeId = (Long) row[1];
+                openAssignments.put((Long) row[0], assigneeId);
+                openCounts.computeIfAbsent(assigneeId, id -> new AtomicInteger()).incrementAndGet();
+            }
+
+            categoryCounts.clear();
+            triagedCounts.clear();
+            for (Object[] row : ticketRepository.countTriagedCategoriesByAssignee()) {
+                Long assigneeId = (Long) row[0];
+                int count = ((Long) row[2]).intValue();
+                triagedCounts.computeIfAbsent(assigneeId, id -> new AtomicInteger()).addAndGet(count);
+                categoryCounts.computeIfAbsent(assigneeId, id -> new ConcurrentHashMap<>())
+                        .computeIfAbsent((String) row[1], category -> new AtomicInteger())
+                        .addAndGet(count);
+            }
+            logger.debug("Agent roster loaded: {} agents, {} open assignments, {} agents with triage history",
+                    agents.size(), openAssignments.size(), triagedCounts.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketChanged(TicketChangedEvent event) {
+        if (agents == null) {
+            return;
+        }
+        boolean open = event.getStatus() == Status.OPEN || event.getStatus() == Status.IN_PROGRESS;
+        Long current = open ? event.getAssigneeId() : null;
+        lock.lock();
+        try {
+            Long previous = current != null
+                    ? openAssignments.put(event.getTicketId(), current)
+                    : openAssignments.remove(event.getTicketId());
+            if (previous != null && !previous.equals(current)) {
+                openCounts.computeIfAbsent(previous, id -> new AtomicInteger()).decrementAndGet();
+            }
+            if (current != null && !current.equals(previous)) {
+                openCounts.computeIfAbsent(current, id -> new AtomicInteger()).incrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketTriaged(TicketTriagedEvent event) {
+        if (agents == null || event.getAssigneeId() == null || event.getCategory() == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            triagedCounts.computeIfAbsent(event.getAssigneeId(), id -> new AtomicInteger()).incrementAndGet();
+            categoryCounts.computeIfAbsent(event.getAssigneeId(), id -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(event.getCategory(), category -> new AtomicInteger())
+                    .incrementAndGet();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (agents == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            refreshAgents();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refreshAgents() {
+        Map<Long, Agent> existing = new HashMap<>();
+        if (agents != null) {
+            for (Agent agent : agents) {
+                existing.put(agent.id, agent);
+            }
+        }
+
+        List<Agent> refreshed = new ArrayList<>();
+        for (User user : userRepository.findByRoleIn(AGENT_ROLES)) {
+            Agent previous = existing.get(user.getId());
+            refreshed.add(previous != null && previous.role == user.getRole()
+                    ? previous : new Agent(user.getId(), user.getRole()));
+        }
+        agents = List.copyOf(refreshed);
+    }
+
+    private static final class Agent {
+        private final Long id;
+        private final Role role;
+        private final AtomicLong lastPicked = new AtomicLong();
+
+        private Agent(Long id, Role role) {
+            this.id = id;
+            this.role = role;
+        }
+    }
+}
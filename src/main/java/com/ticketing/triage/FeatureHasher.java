@@ -0,0 +1,55 @@
+package com.ticketing.triage;
+
+public final class FeatureHasher {
+    public static final int MAX_FEATURES = 1024;
+
+    private static final int FNV_OFFSET = 0x811c9dc5;
+    private static final int FNV_PRIME = 0x01000193;
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final ThreadLocal<int[]> SCRATCH = ThreadLocal.withInitial(() -> new int[MAX_FEATURES]);
+
+    private FeatureHasher() {
+    }
+
+    public static int[] scratch() {
+        return SCRATCH.get();
+    }
+
+    public static int hash(String title, String description, int mask, int[] out) {
+        return hash(description, mask, out, hash(title, mask, out, 0));
+    }
+
+    private static int hash(String text, int mask, int[] out, int count) {
+        if (text == null) {
+            return count;
+        }
+        int previous = 0;
+        int h = FNV_OFFSET;
+        int length = 0;
+        for (int i = 0; i <= text.length() && count < out.length; i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                h = (h ^ Character.toLowerCase(c)) * FNV_PRIME;
+                length++;
+                continue;
+            }
+            if (length >= MIN_TOKEN_LENGTH) {
+                out[count++] = mix(h) & mask;
+                if (previous != 0 && count < out.length) {
+                    out[count++] = mix(previous * FNV_PRIME ^ h) & mask;
+                }
+                previous = h;
+            }
+            h = FNV_OFFSET;
+            length = 0;
+        }
+        return count;
+    }
+
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        return h;
+    }
+}
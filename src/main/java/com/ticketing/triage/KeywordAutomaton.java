@@ -0,0 +1,155 @@
+package com.ticketing.triage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+public final class KeywordAutomaton {
+    private static final int[] NO_OUTPUTS = new int[0];
+    private static final int ASCII_LIMIT = 128;
+
+    private final int[] asciiIndex;
+    private final Map<Character, Integer> extendedIndex;
+    private final int alphabetSize;
+    private final int[] transitions;
+    private final int[][] outputs;
+    private final int[] lengths;
+
+    private KeywordAutomaton(int[] asciiIndex, Map<Character, Integer> extendedIndex, int alphabetSize,
+                             int[] transitions, int[][] outputs, int[] lengths) {
+        this.asciiIndex = asciiIndex;
+        this.extendedIndex = extendedIndex;
+        this.alphabetSize = alphabetSize;
+        this.transitions = transitions;
+        this.outputs = outputs;
+        this.lengths = lengths;
+    }
+
+    public static KeywordAutomaton compile(List<String> keywords) {
+        int[] asciiIndex = new int[ASCII_LIMIT];
+        Arrays.fill(asciiIndex, -1);
+        Map<Character, Integer> extendedIndex = new HashMap<>();
+        int alphabetSize = 0;
+        for (String keyword : keywords) {
+            for (int i = 0; i < keyword.length(); i++) {
+                char ch = Character.toLowerCase(keyword.charAt(i));
+                if (ch < ASCII_LIMIT) {
+                    if (asciiIndex[ch] < 0) {
+                        asciiIndex[ch] = alphabetSize++;
+                    }
+                } else if (!extendedIndex.containsKey(ch)) {
+                    extendedIndex.put(ch, alphabetSize++);
+                }
+            }
+        }
+
+        List<int[]> trie = new ArrayList<>();
+        List<int[]> stateOutputs = new ArrayList<>();
+        trie.add(newState(alphabetSize));
+        stateOutputs.add(NO_OUTPUTS);
+        int[] lengths = new int[keywords.size()];
+        for (int id = 0; id < keywords.size(); id++) {
+            String keyword = keywords.get(id);
+            lengths[id] = keyword.length();
+            if (keyword.isEmpty()) {
+                continue;
+            }
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                char ch = Character.toLowerCase(keyword.charAt(i));
+                int symbol = ch < ASCII_LIMIT ? asciiIndex[ch] : extendedIndex.get(ch);
+                int next = trie.get(state)[symbol];
+                if (next < 0) {
+                    next = trie.size();
+                    trie.get(state)[symbol] = next;
+                    trie.add(newState(alphabetSize));
+                    stateOutputs.add(NO_OUTPUTS);
+                }
+                state = next;
+            }
+            stateOutputs.set(state, append(stateOutputs.get(state), id));
+        }
+
+        int stateCount = trie.size();
+        int[] transitions = new int[stateCount * alphabetSize];
+        int[][] outputs = stateOutputs.toArray(new int[0][]);
+        int[] fail = new int[stateCount];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int symbol = 0; symbol < alphabetSize; symbol++) {
+            int child = trie.get(0)[symbol];
+            if (child > 0) {
+                transitions[symbol] = child;
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            outputs[state] = merge(outputs[state], outputs[fail[state]]);
+            for (int symbol = 0; symbol < alphabetSize; symbol++) {
+                int child = trie.get(state)[symbol];
+                int fallback = transitions[fail[state] * alphabetSize + symbol];
+                if (child > 0) {
+                    fail[child] = fallback;
+                    transitions[state * alphabetSize + symbol] = child;
+                    queue.add(child);
+                } else {
+                    transitions[state * alphabetSize + symbol] = fallback;
+                }
+            }
+        }
+
+        return new KeywordAutomaton(asciiIndex, extendedIndex, alphabetSize, transitions, outputs, lengths);
+    }
+
+    public int step(int state, char ch) {
+        char lower = Character.toLowerCase(ch);
+        int symbol;
+        if (lower < ASCII_LIMIT) {
+            symbol = asciiIndex[lower];
+        } else {
+            Integer mapped = extendedIndex.get(lower);
+            symbol = mapped != null ? mapped : -1;
+        }
+        return symbol < 0 ? 0 : transitions[state * alphabetSize + symbol];
+    }
+
+    public int[] outputs(int state) {
+        return outputs[state];
+    }
+
+    public int keywordLength(int id) {
+        return lengths[id];
+    }
+
+    public int stateCount() {
+        return outputs.length;
+    }
+
+    private static int[] newState(int alphabetSize) {
+        int[] children = new int[alphabetSize];
+        Arrays.fill(children, -1);
+        return children;
+    }
+
+    private static int[] append(int[] ids, int id) {
+        int[] result = Arrays.copyOf(ids, ids.length + 1);
+        result[ids.length] = id;
+        return result;
+    }
+
+    private static int[] merge(int[] own, int[] inherited) {
+        if (inherited.length == 0) {
+            return own;
+        }
+        if (own.length == 0) {
+            return inherited;
+        }
+        int[] result = Arrays.copyOf(own, own.length + inherited.length);
+        System.arraycopy(inherited, 0, result, own.length, inherited.length);
+        return result;
+    }
+}
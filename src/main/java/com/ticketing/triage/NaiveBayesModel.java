@@ -0,0 +1,171 @@
+package com.ticketing.triage;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+public final class NaiveBayesModel {
+    static final int MAGIC = 0x544E4231;
+    static final int FORMAT_VERSION = 1;
+
+    private final ByteBuffer buffer;
+    private final int featureBits;
+    private final Instant trainedAt;
+    private final Instant trainedUntil;
+    private final int sampleCount;
+    private final Head priorities;
+    private final Head categories;
+
+    private NaiveBayesModel(ByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+            throw new RuntimeException("Not a triage model file");
+        }
+        this.featureBits = buffer.getInt();
+        if (featureBits < 4 || featureBits > 20) {
+            throw new RuntimeException("Invalid triage model feature size: " + featureBits);
+        }
+        this.trainedAt = Instant.ofEpochMilli(buffer.getLong());
+        this.trainedUntil = Instant.EPOCH.plus(buffer.getLong(), ChronoUnit.MICROS);
+        this.sampleCount = buffer.getInt();
+        this.priorities = new Head(buffer, 1 << featureBits);
+        this.categories = new Head(buffer, 1 << featureBits);
+    }
+
+    public static NaiveBayesModel load(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new NaiveBayesModel(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot read triage model " + path + ": " + e.getMessage(), e);
+        } catch (IndexOutOfBoundsException | BufferUnderflowException | IllegalArgumentException e) {
+            throw new RuntimeException("Truncated triage model " + path, e);
+        }
+    }
+
+    static NaiveBayesModel wrap(ByteBuffer buffer) {
+        return new NaiveBayesModel(buffer);
+    }
+
+    public int getFeatureBits() {
+        return featureBits;
+    }
+
+    public int getFeatureMask() {
+        return (1 << featureBits) - 1;
+    }
+
+    public Instant getTrainedAt() {
+        return trainedAt;
+    }
+
+    public Instant getTrainedUntil() {
+        return trainedUntil;
+    }
+
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    public Head priorities() {
+        return priorities;
+    }
+
+    public Head categories() {
+        return categories;
+    }
+
+    public final class Head {
+        private final String[] labels;
+        private final int[] docCounts;
+        private final long[] tokenTotals;
+        private final double[] logPriors;
+        private final double[] logDenominators;
+        private final int countsOffset;
+        private final int dimension;
+
+        private Head(ByteBuffer buffer, int dimension) {
+            this.dimension = dimension;
+            int labelCount = buffer.getInt();
+            labels = new String[labelCount];
+            for (int i = 0; i < labelCount; i++) {
+                byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+                buffer.get(bytes);
+                labels[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            docCounts = new int[labelCount];
+            tokenTotals = new long[labelCount];
+            long totalDocs = 0;
+            for (int i = 0; i < labelCount; i++) {
+                docCounts[i] = buffer.getInt();
+                tokenTotals[i] = buffer.getLong();
+                totalDocs += docCounts[i];
+            }
+
+            logPriors = new double[labelCount];
+            logDenominators = new double[labelCount];
+            for (int i = 0; i < labelCount; i++) {
+                logPriors[i] = Math.log((docCounts[i] + 1.0) / (totalDocs + labelCount));
+                logDenominators[i] = Math.log(tokenTotals[i] + (double) dimension);
+            }
+
+            countsOffset = buffer.position();
+            buffer.position(countsOffset + labelCount * dimension * Integer.BYTES);
+        }
+
+        public int size() {
+            return labels.length;
+        }
+
+        public String label(int index) {
+            return labels[index];
+        }
+
+        int docCount(int label) {
+            return docCounts[label];
+        }
+
+        long tokenTotal(int label) {
+            return tokenTotals[label];
+        }
+
+        int count(int label, int feature) {
+            return buffer.getInt(countsOffset + (label * dimension + feature) * Integer.BYTES);
+        }
+
+        public int classify(int[] features, int featureCount, double[] posteriors) {
+            if (labels.length == 0) {
+                return -1;
+            }
+            int best = 0;
+            for (int label = 0; label < labels.length; label++) {
+                double score = logPriors[label] - featureCount * logDenominators[label];
+                int base = countsOffset + label * dimension * Integer.BYTES;
+                for (int i = 0; i < featureCount; i++) {
+                    score += Math.log(buffer.getInt(base + features[i] * Integer.BYTES) + 1.0);
+                }
+                posteriors[label] = score;
+                if (score > posteriors[best]) {
+                    best = label;
+                }
+            }
+
+            double max = posteriors[best];
+            double sum = 0.0;
+            for (int label = 0; label < labels.length; label++) {
+                posteriors[label] = Math.exp(posteriors[label] - max);
+                sum += posteriors[label];
+            }
+            for (int label = 0; label < labels.length; label++) {
+                posteriors[label] /= sum;
+            }
+            return best;
+        }
+    }
+}
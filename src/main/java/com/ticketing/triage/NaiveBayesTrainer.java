@@ -0,0 +1,151 @@
+package com.ticketing.triage;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class NaiveBayesTrainer {
+    private final int featureBits;
+    private final int mask;
+    private final int[] features = new int[FeatureHasher.MAX_FEATURES];
+    private final Counts priorities;
+    private final Counts categories;
+    private int sampleCount;
+    private Instant trainedUntil;
+
+    public NaiveBayesTrainer(int featureBits) {
+        if (featureBits < 4 || featureBits > 20) {
+            throw new RuntimeException("Feature bits must be between 4 and 20");
+        }
+        this.featureBits = featureBits;
+        this.mask = (1 << featureBits) - 1;
+        this.priorities = new Counts(1 << featureBits);
+        this.categories = new Counts(1 << featureBits);
+        this.trainedUntil = Instant.EPOCH;
+    }
+
+    public static NaiveBayesTrainer from(NaiveBayesModel model) {
+        NaiveBayesTrainer trainer = new NaiveBayesTrainer(model.getFeatureBits());
+        trainer.priorities.copy(model.priorities());
+        trainer.categories.copy(model.categories());
+        trainer.sampleCount = model.getSampleCount();
+        trainer.trainedUntil = model.getTrainedUntil();
+        return trainer;
+    }
+
+    public void add(String title, String description, String priority, String category, Instant resolvedAt) {
+        int count = FeatureHasher.hash(title, description, mask, features);
+        priorities.add(priority, features, count);
+        categories.add(category, features, count);
+        sampleCount++;
+        if (resolvedAt != null && resolvedAt.isAfter(trainedUntil)) {
+            trainedUntil = resolvedAt;
+        }
+    }
+
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    public Instant getTrainedUntil() {
+        return trainedUntil;
+    }
+
+    public void writeTo(Path path) {
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+                out.writeInt(NaiveBayesModel.MAGIC);
+                out.writeInt(NaiveBayesModel.FORMAT_VERSION);
+                out.writeInt(featureBits);
+                out.writeLong(Instant.now().toEpochMilli());
+                out.writeLong(ChronoUnit.MICROS.between(Instant.EPOCH, trainedUntil));
+                out.writeInt(sampleCount);
+                priorities.writeTo(out);
+                categories.writeTo(out);
+            } catch (IOException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot write triage model " + path + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static final class Counts {
+        private final int dimension;
+        private final Map<String, Integer> labelIndex = new HashMap<>();
+        private final List<String> labels = new ArrayList<>();
+        private final List<int[]> counts = new ArrayList<>();
+        private final List<int[]> docCounts = new ArrayList<>();
+        private final List<long[]> tokenTotals = new ArrayList<>();
+
+        private Counts(int dimension) {
+            this.dimension = dimension;
+        }
+
+        private int label(String label) {
+            return labelIndex.computeIfAbsent(label, key -> {
+                labels.add(key);
+                counts.add(new int[dimension]);
+                docCounts.add(new int[1]);
+                tokenTotals.add(new long[1]);
+                return labels.size() - 1;
+            });
+        }
+
+        private void add(String label, int[] features, int featureCount) {
+            int index = label(label);
+            int[] row = counts.get(index);
+            for (int i = 0; i < featureCount; i++) {
+                row[features[i]]++;
+            }
+            docCounts.get(index)[0]++;
+            tokenTotals.get(index)[0] += featureCount;
+        }
+
+        private void copy(NaiveBayesModel.Head head) {
+            for (int label = 0; label < head.size(); label++) {
+                int index = label(head.label(label));
+                int[] row = counts.get(index);
+                for (int feature = 0; feature < dimension; feature++) {
+                    row[feature] = head.count(label, feature);
+                }
+                docCounts.get(index)[0] = head.docCount(label);
+                tokenTotals.get(index)[0] = head.tokenTotal(label);
+            }
+        }
+
+        private void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(labels.size());
+            for (String label : labels) {
+                byte[] bytes = label.getBytes(StandardCharsets.UTF_8);
+                out.writeShort(bytes.length);
+                out.write(bytes);
+            }
+            for (int i = 0; i < labels.size(); i++) {
+                out.writeInt(docCounts.get(i)[0]);
+                out.writeLong(tokenTotals.get(i)[0]);
+            }
+            for (int[] row : counts) {
+                for (int value : row) {
+                    out.writeInt(value);
+                }
+            }
+        }
+    }
+}
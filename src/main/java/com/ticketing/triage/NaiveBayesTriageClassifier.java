@@ -0,0 +1,53 @@
+package com.ticketing.triage;
+
+import com.ticketing.entity.Priority;
+
+public class NaiveBayesTriageClassifier implements TriageClassifier {
+    private final NaiveBayesModel model;
+    private final RuleBasedTriageClassifier rules;
+    private final Priority[] priorities;
+
+    public NaiveBayesTriageClassifier(NaiveBayesModel model, RuleBasedTriageClassifier rules) {
+        this.model = model;
+        this.rules = rules;
+        this.priorities = new Priority[model.priorities().size()];
+        for (int i = 0; i < priorities.length; i++) {
+            priorities[i] = Priority.valueOf(model.priorities().label(i));
+        }
+    }
+
+    @Override
+    public TriageClassification classify(String title, String description, TriageFeatures features) {
+        int[] hashed = FeatureHasher.scratch();
+        int count = FeatureHasher.hash(title, description, model.getFeatureMask(), hashed);
+
+        double[] posteriors = new double[Math.max(model.priorities().size(), model.categories().size())];
+        int priority = model.priorities().classify(hashed, count, posteriors);
+        double confidence = priority >= 0 ? posteriors[priority] : 0.0;
+        int category = model.categories().classify(hashed, count, posteriors);
+
+        TriageClassification fallback = null;
+        if (priority < 0 || category < 0) {
+            fallback = rules.classify(title, description, features);
+        }
+        return new TriageClassification(
+                priority >= 0 ? priorities[priority] : fallback.getPriority(),
+                category >= 0 ? model.categories().label(category) : fallback.getCategory(),
+                rules.urgencyScore(features),
+                priority >= 0 ? confidence : fallback.getConfidence());
+    }
+
+    @Override
+    public String getName() {
+        return "Multinomial Naive Bayes (hashed features)";
+    }
+
+    @Override
+    public int getTrainingDataSize() {
+        return model.getSampleCount();
+    }
+
+    public NaiveBayesModel getModel() {
+        return model;
+    }
+}
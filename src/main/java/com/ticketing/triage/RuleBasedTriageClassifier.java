@@ -0,0 +1,60 @@
+package com.ticketing.triage;
+
+import com.ticketing.entity.Priority;
+
+public class RuleBasedTriageClassifier implements TriageClassifier {
+    static final String DEFAULT_CATEGORY = "General";
+
+    @Override
+    public TriageClassification classify(String title, String description, TriageFeatures features) {
+        double urgencyScore = urgencyScore(features);
+        return new TriageClassification(determinePriority(urgencyScore), determineCategory(features),
+                urgencyScore, calculateConfidence(features, urgencyScore));
+    }
+
+    @Override
+    public String getName() {
+        return "Rule-based + Heuristics";
+    }
+
+    @Override
+    public int getTrainingDataSize() {
+        return 0;
+    }
+
+    double urgencyScore(TriageFeatures features) {
+        double punctuationBoost = Math.min(0.2,
+            (features.getExclamationCount() * 0.05) + (features.getQuestionCount() * 0.02));
+
+        return Math.min(1.0, features.getMaxUrgency() + punctuationBoost);
+    }
+
+    private Priority determinePriority(double urgencyScore) {
+        if (urgencyScore >= 0.8) {
+            return Priority.CRITICAL;
+        } else if (urgencyScore >= 0.6) {
+            return Priority.HIGH;
+        } else if (urgencyScore >= 0.4) {
+            return Priority.MEDIUM;
+        } else {
+            return Priority.LOW;
+        }
+    }
+
+    static String determineCategory(TriageFeatures features) {
+        return features.getCategory() != null ? features.getCategory() : DEFAULT_CATEGORY;
+    }
+
+    private double calculateConfidence(TriageFeatures features, double urgencyScore) {
+        double keywordConfidence = 0.0;
+        int keywordCount = features.getUrgencyKeywords().size();
+
+        if (keywordCount > 0) {
+            keywordConfidence = features.getUrgencyWeightSum() / keywordCount;
+        }
+
+        double lengthConfidence = Math.min(1.0, features.getTextLength() / 200.0);
+
+        return (urgencyScore * 0.6) + (keywordConfidence * 0.3) + (lengthConfidence * 0.1);
+    }
+}
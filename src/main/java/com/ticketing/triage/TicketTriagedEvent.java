@@ -0,0 +1,25 @@
+package com.ticketing.triage;
+
+public class TicketTriagedEvent {
+    private final Long ticketId;
+    private final Long assigneeId;
+    private final String category;
+
+    public TicketTriagedEvent(Long ticketId, Long assigneeId, String category) {
+        this.ticketId = ticketId;
+        this.assigneeId = assigneeId;
+        this.category = category;
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+}
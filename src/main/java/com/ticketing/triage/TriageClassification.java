@@ -0,0 +1,33 @@
+package com.ticketing.triage;
+
+import com.ticketing.entity.Priority;
+
+public final class TriageClassification {
+    private final Priority priority;
+    private final String category;
+    private final double urgencyScore;
+    private final double confidence;
+
+    public TriageClassification(Priority priority, String category, double urgencyScore, double confidence) {
+        this.priority = priority;
+        this.category = category;
+        this.urgencyScore = urgencyScore;
+        this.confidence = confidence;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public double getUrgencyScore() {
+        return urgencyScore;
+    }
+
+    public double getConfidence() {
+        return confidence;
+    }
+}
@@ -0,0 +1,9 @@
+package com.ticketing.triage;
+
+public interface TriageClassifier {
+    TriageClassification classify(String title, String description, TriageFeatures features);
+
+    String getName();
+
+    int getTrainingDataSize();
+}
@@ -0,0 +1,33 @@
+package com.ticketing.triage;
+
+import java.time.LocalDateTime;
+
+public final class TriageDictionary {
+    private final String version;
+    private final String checksum;
+    private final LocalDateTime compiledAt;
+    private final TriageMatcher matcher;
+
+    TriageDictionary(String version, String checksum, LocalDateTime compiledAt, TriageMatcher matcher) {
+        this.version = version;
+        this.checksum = checksum;
+        this.compiledAt = compiledAt;
+        this.matcher = matcher;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public LocalDateTime getCompiledAt() {
+        return compiledAt;
+    }
+
+    public TriageMatcher getMatcher() {
+        return matcher;
+    }
+}
@@ -0,0 +1,130 @@
+package com.ticketing.triage;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class TriageDictionaryManager {
+    private static final Logger logger = LoggerFactory.getLogger(TriageDictionaryManager.class);
+
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+    private final String location;
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile TriageDictionary active;
+
+    public TriageDictionaryManager(ResourceLoader resourceLoader, ObjectMapper objectMapper,
+                                   @Value("${triage.dictionary.location:classpath:triage/dictionary.json}")
+                                   String location) {
+        this.resourceLoader = resourceLoader;
+        this.objectMapper = objectMapper;
+        this.location = location;
+        reload();
+    }
+
+    public TriageDictionary current() {
+        return active;
+    }
+
+    public TriageDictionary reload() {
+        reloadLock.lock();
+        try {
+            byte[] content = read();
+            String checksum = checksum(content);
+            TriageDictionary current = active;
+            if (current != null && current.getChecksum().equals(checksum)) {
+                return current;
+            }
+
+            TriageDictionary compiled = compile(content, checksum);
+            active = compiled;
+            logger.info("Triage dictionary {} compiled from {} ({} keywords)",
+                    compiled.getVersion(), location, compiled.getMatcher().keywordCount());
+            return compiled;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${triage.dictionary.reload-interval-ms:30000}",
+               initialDelayString = "${triage.dictionary.reload-interval-ms:30000}")
+    public void reloadIfChanged() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            logger.warn("Keeping triage dictionary {}: {}", active.getVersion(), e.getMessage());
+        }
+    }
+
+    private byte[] read() {
+        Resource resource = resourceLoader.getResource(location);
+        try (InputStream in = resource.getInputStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot read triage dictionary from " + location, e);
+        }
+    }
+
+    private TriageDictionary compile(byte[] content, String checksum) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(content);
+        } catch (IOException e) {
+            throw new RuntimeException("Invalid triage dictionary: " + e.getMessage(), e);
+        }
+
+        String version = root.path("version").asText("");
+        if (version.isBlank()) {
+            throw new RuntimeException("Triage dictionary version is required");
+        }
+
+        Map<String, Double> urgency = new LinkedHashMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> it = root.path("urgency").fields(); it.hasNext();) {
+            Map.Entry<String, JsonNode> entry = it.next();
+            double weight = entry.getValue().asDouble(Double.NaN);
+            if (entry.getKey().isBlank() || !(weight >= 0.0 && weight <= 1.0)) {
+                throw new RuntimeException("Invalid urgency weight for keyword '" + entry.getKey() + "'");
+            }
+            urgency.put(entry.getKey(), weight);
+        }
+
+        Map<String, String> categories = new LinkedHashMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> it = root.path("categories").fields(); it.hasNext();) {
+            Map.Entry<String, JsonNode> entry = it.next();
+            String category = entry.getValue().asText("");
+            if (entry.getKey().isBlank() || category.isBlank()) {
+                throw new RuntimeException("Invalid category for keyword '" + entry.getKey() + "'");
+            }
+            categories.put(entry.getKey(), category);
+        }
+
+        return new TriageDictionary(version, checksum, LocalDateTime.now(),
+                TriageMatcher.compile(urgency, categories));
+    }
+
+    private String checksum(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
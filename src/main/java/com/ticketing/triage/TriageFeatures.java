@@ -0,0 +1,52 @@
+package com.ticketing.triage;
+
+import java.util.List;
+
+public final class TriageFeatures {
+    private final List<String> urgencyKeywords;
+    private final double maxUrgency;
+    private final double urgencyWeightSum;
+    private final String category;
+    private final int exclamationCount;
+    private final int questionCount;
+    private final int textLength;
+
+    TriageFeatures(List<String> urgencyKeywords, double maxUrgency, double urgencyWeightSum, String category,
+                   int exclamationCount, int questionCount, int textLength) {
+        this.urgencyKeywords = urgencyKeywords;
+        this.maxUrgency = maxUrgency;
+        this.urgencyWeightSum = urgencyWeightSum;
+        this.category = category;
+        this.exclamationCount = exclamationCount;
+        this.questionCount = questionCount;
+        this.textLength = textLength;
+    }
+
+    public List<String> getUrgencyKeywords() {
+        return urgencyKeywords;
+    }
+
+    public double getMaxUrgency() {
+        return maxUrgency;
+    }
+
+    public double getUrgencyWeightSum() {
+        return urgencyWeightSum;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public int getExclamationCount() {
+        return exclamationCount;
+    }
+
+    public int getQuestionCount() {
+        return questionCount;
+    }
+
+    public int getTextLength() {
+        return textLength;
+    }
+}
@@ -0,0 +1,123 @@
+package com.ticketing.triage;
+
+public final class TriageFingerprint {
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final int MIN_TOKEN_LENGTH = 2;
+
+    private final long value;
+    private final int tokenCount;
+    private final int exclamationCount;
+    private final int questionCount;
+
+    private TriageFingerprint(long value, int tokenCount, int exclamationCount, int questionCount) {
+        this.value = value;
+        this.tokenCount = tokenCount;
+        this.exclamationCount = exclamationCount;
+        this.questionCount = questionCount;
+    }
+
+    public static TriageFingerprint of(String title, String description) {
+        int[] weights = new int[Long.SIZE];
+        int tokens = accumulate(title, weights) + accumulate(description, weights);
+        long value = 0;
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            if (weights[bit] > 0) {
+                value |= 1L << bit;
+            }
+        }
+        return new TriageFingerprint(value, tokens, count(title, '!') + count(description, '!'),
+                count(title, '?') + count(description, '?'));
+    }
+
+    public long getValue() {
+        return value;
+    }
+
+    public int getTokenCount() {
+        return tokenCount;
+    }
+
+    public int getExclamationCount() {
+        return exclamationCount;
+    }
+
+    public int getQuestionCount() {
+        return questionCount;
+    }
+
+    public boolean hasTokens() {
+        return tokenCount > 0;
+    }
+
+    public boolean samePunctuation(TriageFingerprint other) {
+        return exclamationCount == other.exclamationCount && questionCount == other.questionCount;
+    }
+
+    public int distance(TriageFingerprint other) {
+        return Long.bitCount(value ^ other.value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TriageFingerprint other)) {
+            return false;
+        }
+        return value == other.value && samePunctuation(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value) * 31 * 31 + exclamationCount * 31 + questionCount;
+    }
+
+    private static int count(String text, char target) {
+        if (text == null) {
+            return 0;
+        }
+        int count = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == target) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int accumulate(String text, int[] weights) {
+        if (text == null) {
+            return 0;
+        }
+        int tokens = 0;
+        long h = FNV_OFFSET;
+        int length = 0;
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                h = (h ^ Character.toLowerCase(c)) * FNV_PRIME;
+                length++;
+                continue;
+            }
+            if (length >= MIN_TOKEN_LENGTH) {
+                long mixed = mix(h);
+                for (int bit = 0; bit < Long.SIZE; bit++) {
+                    weights[bit] += ((mixed >>> bit) & 1L) != 0 ? 1 : -1;
+                }
+                tokens++;
+            }
+            h = FNV_OFFSET;
+            length = 0;
+        }
+        return tokens;
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,94 @@
+package com.ticketing.triage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class TriageMatcher {
+    private final KeywordAutomaton automaton;
+    private final String[] keywords;
+    private final double[] urgencyWeights;
+    private final String[] categories;
+
+    private TriageMatcher(KeywordAutomaton automaton, String[] keywords, double[] urgencyWeights, String[] categories) {
+        this.automaton = automaton;
+        this.keywords = keywords;
+        this.urgencyWeights = urgencyWeights;
+        this.categories = categories;
+    }
+
+    public static TriageMatcher compile(Map<String, Double> urgencyKeywords, Map<String, String> categoryKeywords) {
+        Map<String, Integer> ids = new LinkedHashMap<>();
+        for (String keyword : urgencyKeywords.keySet()) {
+            ids.putIfAbsent(keyword.toLowerCase(), ids.size());
+        }
+        for (String keyword : categoryKeywords.keySet()) {
+            ids.putIfAbsent(keyword.toLowerCase(), ids.size());
+        }
+
+        String[] keywords = ids.keySet().toArray(new String[0]);
+        double[] urgencyWeights = new double[keywords.length];
+        Arrays.fill(urgencyWeights, Double.NaN);
+        String[] categories = new String[keywords.length];
+        urgencyKeywords.forEach((keyword, weight) -> urgencyWeights[ids.get(keyword.toLowerCase())] = weight);
+        categoryKeywords.forEach((keyword, category) -> categories[ids.get(keyword.toLowerCase())] = category);
+
+        return new TriageMatcher(KeywordAutomaton.compile(Arrays.asList(keywords)), keywords, urgencyWeights,
+                categories);
+    }
+
+    public TriageFeatures scan(String title, String description) {
+        boolean[] seen = new boolean[keywords.length];
+        List<Integer> urgencyHits = new ArrayList<>();
+        String category = null;
+        int exclamations = 0;
+        int questions = 0;
+        int state = 0;
+
+        String first = title != null ? title : "";
+        String second = description != null ? description : "";
+        int split = first.length();
+        int length = split + 1 + second.length();
+        for (int i = 0; i < length; i++) {
+            char ch = i < split ? first.charAt(i) : i == split ? ' ' : second.charAt(i - split - 1);
+            if (ch == '!') {
+                exclamations++;
+            } else if (ch == '?') {
+                questions++;
+            }
+            state = automaton.step(state, ch);
+            for (int id : automaton.outputs(state)) {
+                if (seen[id]) {
+                    continue;
+                }
+                seen[id] = true;
+                if (!Double.isNaN(urgencyWeights[id])) {
+                    urgencyHits.add(id);
+                }
+                if (category == null && categories[id] != null) {
+                    category = categories[id];
+                }
+            }
+        }
+
+        urgencyHits.sort(Comparator.<Integer>comparingDouble(id -> urgencyWeights[id]).reversed()
+                .thenComparing(id -> keywords[id]));
+        List<String> matched = new ArrayList<>(urgencyHits.size());
+        double maxUrgency = 0.0;
+        double weightSum = 0.0;
+        for (int id : urgencyHits) {
+            matched.add(keywords[id]);
+            maxUrgency = Math.max(maxUrgency, urgencyWeights[id]);
+            weightSum += urgencyWeights[id];
+        }
+
+        return new TriageFeatures(matched, maxUrgency, weightSum, category, exclamations, questions, length);
+    }
+
+    public int keywordCount() {
+        return keywords.length;
+    }
+}
@@ -0,0 +1,78 @@
+package com.ticketing.triage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class TriageModelManager {
+    private static final Logger logger = LoggerFactory.getLogger(TriageModelManager.class);
+
+    public static final String RULES = "rules";
+    public static final String NAIVE_BAYES = "naive-bayes";
+
+    private final RuleBasedTriageClassifier rules = new RuleBasedTriageClassifier();
+    private final String strategy;
+    private final Path modelPath;
+    private final int minTrainingSize;
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile TriageClassifier active;
+
+    public TriageModelManager(@Value("${triage.model.strategy:rules}") String strategy,
+                              @Value("${triage.model.path:./models/triage-model.bin}") String modelPath,
+                              @Value("${triage.model.min-training-size:50}") int minTrainingSize) {
+        if (!RULES.equals(strategy) && !NAIVE_BAYES.equals(strategy)) {
+            throw new IllegalArgumentException("Unknown triage model strategy: " + strategy);
+        }
+        this.strategy = strategy;
+        this.modelPath = Path.of(modelPath);
+        this.minTrainingSize = minTrainingSize;
+        this.active = rules;
+        if (NAIVE_BAYES.equals(strategy) && Files.exists(this.modelPath)) {
+            try {
+                reload();
+            } catch (RuntimeException e) {
+                logger.warn("Using rule-based triage: {}", e.getMessage());
+            }
+        }
+    }
+
+    public TriageClassifier classifier() {
+        return active;
+    }
+
+    public Path getModelPath() {
+        return modelPath;
+    }
+
+    public NaiveBayesModel currentModel() {
+        TriageClassifier current = active;
+        return current instanceof NaiveBayesTriageClassifier learned ? learned.getModel() : null;
+    }
+
+    public TriageClassifier reload() {
+        reloadLock.lock();
+        try {
+            NaiveBayesModel model = NaiveBayesModel.load(modelPath);
+            if (NAIVE_BAYES.equals(strategy) && model.getSampleCount() >= minTrainingSize) {
+                active = new NaiveBayesTriageClassifier(model, rules);
+                logger.info("Triage model loaded from {} ({} samples, trained {})",
+                        modelPath, model.getSampleCount(), model.getTrainedAt());
+            } else {
+                active = rules;
+                if (NAIVE_BAYES.equals(strategy)) {
+                    logger.info("Triage model {} has {} samples, below the minimum of {}; using rules",
+                            modelPath, model.getSampleCount(), minTrainingSize);
+                }
+            }
+            return active;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.ticketing.triage;
+
+import com.ticketing.dto.TriagePredictionResponse;
+import com.ticketing.entity.Priority;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class TriagePredictionCache {
+    private static final int BANDS = 4;
+    private static final int BAND_BITS = Long.SIZE / BANDS;
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final int maxDistance;
+    private final int minTokensForNearMatch;
+
+    private final LinkedHashMap<TriageFingerprint, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, List<Entry>> bands = new HashMap<>();
+
+    private final AtomicLong exactHits = new AtomicLong();
+    private final AtomicLong nearHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public TriagePredictionCache(@Value("${triage.cache.max-entries:10000}") int maxEntries,
+                                 @Value("${triage.cache.ttl-ms:600000}") long ttlMillis,
+                                 @Value("${triage.cache.max-distance:3}") int maxDistance,
+                                 @Value("${triage.cache.min-tokens-for-near-match:4}") int minTokensForNearMatch) {
+        if (maxDistance < 0 || maxDistance >= BANDS) {
+            throw new IllegalArgumentException("triage.cache.max-distance must be between 0 and " + (BANDS - 1));
+        }
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.maxDistance = maxDistance;
+        this.minTokensForNearMatch = minTokensForNearMatch;
+    }
+
+    public TriagePredictionResponse lookup(TriageFingerprint fingerprint, TriageFeatures features,
+                                           Object dictionary, Object classifier) {
+        if (maxEntries <= 0 || !fingerprint.hasTokens()) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            Entry exact = entries.get(fingerprint);
+            if (exact != null && exact.isValid(dictionary, classifier, now, ttlMillis)
+                    && exact.sameFeatures(features)) {
+                exact.lastSeen = now;
+                exactHits.incrementAndGet();
+                return exact.toResponse();
+            }
+
+            Entry near = fingerprint.getTokenCount() >= minTokensForNearMatch
+                    ? findNear(fingerprint, features, dictionary, classifier, now) : null;
+            if (near == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+            near.lastSeen = now;
+            add(new Entry(fingerprint, features, near.clusterId, near.template, dictionary, classifier, now));
+            nearHits.incrementAndGet();
+            return near.toResponse();
+        }
+    }
+
+    public String put(TriageFingerprint fingerprint, TriageFeatures features, Object dictionary, Object classifier,
+                      TriagePredictionResponse response) {
+        if (!fingerprint.hasTokens()) {
+            return null;
+        }
+        String clusterId = Long.toHexString(fingerprint.getValue());
+        if (maxEntries <= 0) {
+            return clusterId;
+        }
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            Entry cluster = entries.get(fingerprint);
+            if (cluster == null || !cluster.isValid(dictionary, classifier, now, ttlMillis)) {
+                cluster = fingerprint.getTokenCount() >= minTokensForNearMatch
+                        ? findNear(fingerprint, null, dictionary, classifier, now) : null;
+            }
+            if (cluster != null) {
+                clusterId = cluster.clusterId;
+            }
+            add(new Entry(fingerprint, features, clusterId, Template.of(response), dictionary, classifier, now));
+        }
+        return clusterId;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        bands.clear();
+    }
+
+    public Map<String, Long> getMetrics() {
+        Map<String, Long> metrics = new LinkedHashMap<>();
+        synchronized (this) {
+            metrics.put("entries", (long) entries.size());
+        }
+        metrics.put("exactHits", exactHits.get());
+        metrics.put("nearHits", nearHits.get());
+        metrics.put("misses", misses.get());
+        return metrics;
+    }
+
+    private Entry findNear(TriageFingerprint fingerprint, TriageFeatures features, Object dictionary,
+                           Object classifier, long now) {
+        Entry best = null;
+        int bestDistance = maxDistance + 1;
+        for (int band = 0; band < BANDS; band++) {
+            List<Entry> candidates = bands.get(bandKey(fingerprint.getValue(), band));
+            if (candidates == null) {
+                continue;
+            }
+            for (Entry candidate : candidates) {
+                if (features != null && !candidate.sameFeatures(features)) {
+                    continue;
+                }
+                int distance = candidate.fingerprint.distance(fingerprint);
+                if (distance < bestDistance && candidate.isValid(dictionary, classifier, now, ttlMillis)) {
+                    best = candidate;
+                    bestDistance = distance;
+                }
+            }
+        }
+        return best;
+    }
+
+    private void add(Entry entry) {
+        Entry previous = entries.put(entry.fingerprint, entry);
+        if (previous != null) {
+            unindex(previous);
+        }
+        for (int band = 0; band < BANDS; band++) {
+            bands.computeIfAbsent(bandKey(entry.fingerprint.getValue(), band), key -> new ArrayList<>(2)).add(entry);
+        }
+
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            Entry evicted = eldest.next();
+            eldest.remove();
+            unindex(evicted);
+        }
+    }
+
+    private void unindex(Entry entry) {
+        for (int band = 0; band < BANDS; band++) {
+            long key = bandKey(entry.fingerprint.getValue(), band);
+            List<Entry> candidates = bands.get(key);
+            if (candidates != null) {
+                candidates.remove(entry);
+                if (candidates.isEmpty()) {
+                    bands.remove(key);
+                }
+            }
+        }
+    }
+
+    private static long bandKey(long fingerprint, int band) {
+        long bits = (fingerprint >>> (band * BAND_BITS)) & ((1L << BAND_BITS) - 1);
+        return ((long) band << BAND_BITS) | bits;
+    }
+
+    private static final class Entry {
+        private final TriageFingerprint fingerprint;
+        private final Set<String> urgencyKeywords;
+        private final String category;
+        private final int exclamationCount;
+        private final int questionCount;
+        private final String clusterId;
+        private final Template template;
+        private final Object dictionary;
+        private final Object classifier;
+        private long lastSeen;
+
+        private Entry(TriageFingerprint fingerprint, TriageFeatures features, String clusterId, Template template,
+                      Object dictionary, Object classifier, long now) {
+            this.fingerprint = fingerprint;
+            this.urgencyKeywords = Set.copyOf(features.getUrgencyKeywords());
+            this.category = features.getCategory();
+            this.exclamationCount = features.getExclamationCount();
+            this.questionCount = features.getQuestionCount();
+            this.clusterId = clusterId;
+            this.template = template;
+            this.dictionary = dictionary;
+            this.classifier = classifier;
+            this.lastSeen = now;
+        }
+
+        private boolean isValid(Object dictionary, Object classifier, long now, long ttlMillis) {
+            return this.dictionary == dictionary && this.classifier == classifier && now - lastSeen <= ttlMillis;
+        }
+
+        private boolean sameFeatures(TriageFeatures features) {
+            return exclamationCount == features.getExclamationCount()
+                    && questionCount == features.getQuestionCount()
+                    && Objects.equals(category, features.getCategory())
+                    && urgencyKeywords.equals(Set.copyOf(features.getUrgencyKeywords()));
+        }
+
+        private TriagePredictionResponse toResponse() {
+            TriagePredictionResponse response = new TriagePredictionResponse(template.category, template.priority,
+                    template.urgencyScore, null, template.confidence, new ArrayList<>(template.keywords));
+            response.setCached(true);
+            response.setDuplicateClusterId(clusterId);
+            return response;
+        }
+    }
+
+    private static final class Template {
+        private final String category;
+        private final Priority priority;
+        private final BigDecimal urgencyScore;
+        private final BigDecimal confidence;
+        private final List<String> keywords;
+
+        private Template(String category, Priority priority, BigDecimal urgencyScore, BigDecimal confidence,
+                         List<String> keywords) {
+            this.category = category;
+            this.priority = priority;
+            this.urgencyScore = urgencyScore;
+            this.confidence = confidence;
+            this.keywords = keywords;
+        }
+
+        private static Template of(TriagePredictionResponse response) {
+            return new Template(response.getCategory(), response.getSuggestedPriority(), response.getUrgencyScore(),
+                    response.getConfidence(), List.copyOf(response.getKeywords()));
+        }
+    }
+}
@@ -0,0 +1 @@
+ALTER TABLE attachments ADD COLUMN content_sha256 VARCHAR(64);
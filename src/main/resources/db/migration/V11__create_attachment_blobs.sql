@@ -0,0 +1,14 @@
+CREATE TABLE attachment_blobs (
+    sha256 VARCHAR(64) PRIMARY KEY,
+    storage_key VARCHAR(500) NOT NULL,
+    size_bytes BIGINT NOT NULL,
+    content_type VARCHAR(100) NOT NULL,
+    ref_count INTEGER NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    last_referenced_at TIMESTAMP NOT NULL
+);
+
+ALTER TABLE attachments ADD COLUMN blob_sha256 VARCHAR(64) REFERENCES attachment_blobs(sha256);
+
+CREATE INDEX idx_attachments_blob_sha256 ON attachments(blob_sha256) WHERE blob_sha256 IS NOT NULL;
+CREATE INDEX idx_attachment_blobs_unreferenced ON attachment_blobs(last_referenced_at) WHERE ref_count = 0;
@@ -0,0 +1,14 @@
+CREATE TABLE attachment_uploads (
+    id VARCHAR(36) PRIMARY KEY,
+    ticket_id BIGINT NOT NULL REFERENCES tickets(id),
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    filename VARCHAR(255) NOT NULL,
+    content_type VARCHAR(100) NOT NULL,
+    size_bytes BIGINT NOT NULL,
+    sha256 VARCHAR(64) NOT NULL,
+    staging_key VARCHAR(500) NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_attachment_uploads_expires_at ON attachment_uploads(expires_at);
@@ -0,0 +1 @@
+ALTER TABLE tickets ADD COLUMN triage_category VARCHAR(100);
@@ -0,0 +1,2 @@
+CREATE INDEX idx_tickets_created_at_id ON tickets(created_at DESC, id DESC);
+CREATE INDEX idx_tickets_owner_created_at_id ON tickets(owner_id, created_at DESC, id DESC);
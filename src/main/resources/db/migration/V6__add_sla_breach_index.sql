@@ -0,0 +1 @@
+CREATE INDEX idx_tickets_sla_due_not_closed ON tickets(sla_due_at) WHERE status <> 'CLOSED';
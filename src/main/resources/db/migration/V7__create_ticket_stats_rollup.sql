@@ -0,0 +1,16 @@
+CREATE TABLE ticket_stats_rollup (
+    granularity VARCHAR(10) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    opened_count BIGINT NOT NULL DEFAULT 0,
+    resolved_count BIGINT NOT NULL DEFAULT 0,
+    sla_breach_count BIGINT NOT NULL DEFAULT 0,
+    resolution_hours_sum DOUBLE PRECISION NOT NULL DEFAULT 0,
+    rated_count BIGINT NOT NULL DEFAULT 0,
+    rating_sum BIGINT NOT NULL DEFAULT 0,
+    refreshed_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (granularity, bucket_start)
+);
+
+CREATE INDEX idx_tickets_resolved_at ON tickets(resolved_at);
+CREATE INDEX idx_tickets_sla_due_at ON tickets(sla_due_at);
+CREATE INDEX idx_ticket_ratings_created_at ON ticket_ratings(created_at);
@@ -0,0 +1,3 @@
+ALTER TABLE tickets ADD COLUMN duplicate_of_id BIGINT REFERENCES tickets(id);
+
+CREATE INDEX idx_tickets_duplicate_of ON tickets(duplicate_of_id) WHERE duplicate_of_id IS NOT NULL;
@@ -0,0 +1,2 @@
+ALTER TABLE attachments ADD COLUMN content_type VARCHAR(100);
+ALTER TABLE attachments ADD COLUMN size_bytes BIGINT;
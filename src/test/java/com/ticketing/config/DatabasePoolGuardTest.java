@@ -0,0 +1,59 @@
+package com.ticketing.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DatabasePoolGuardTest {
+
+    @Test
+    void testPoolWithinBudgetIsAccepted() {
+        try (HikariDataSource pool = pool(10, 5000)) {
+            DatabasePoolGuard guard = new DatabasePoolGuard(pool, true, 50, 10000);
+
+            Map<String, Object> metrics = guard.getPoolMetrics();
+            assertEquals(10, metrics.get("maximumPoolSize"));
+            assertEquals(5000L, metrics.get("connectionTimeoutMs"));
+            assertEquals(DatabasePoolGuard.recommendedPoolSize(), metrics.get("recommendedPoolSize"));
+        }
+    }
+
+    @Test
+    void testPoolLargerThanBudgetFailsFast() {
+        try (HikariDataSource pool = pool(80, 5000)) {
+            IllegalStateException error = assertThrows(IllegalStateException.class,
+                    () -> new DatabasePoolGuard(pool, false, 50, 10000));
+            assertTrue(error.getMessage().contains("80"));
+        }
+    }
+
+    @Test
+    void testLongConnectionTimeoutRejectedOnlyForVirtualThreads() {
+        try (HikariDataSource pool = pool(10, 30000)) {
+            assertDoesNotThrow(() -> new DatabasePoolGuard(pool, false, 50, 10000));
+            assertThrows(IllegalStateException.class, () -> new DatabasePoolGuard(pool, true, 50, 10000));
+        }
+    }
+
+    @Test
+    void testNonHikariDataSourceIsIgnored() throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.isWrapperFor(HikariDataSource.class)).thenReturn(false);
+
+        DatabasePoolGuard guard = new DatabasePoolGuard(dataSource, true, 1, 1);
+
+        assertTrue(guard.getPoolMetrics().isEmpty());
+    }
+
+    private HikariDataSource pool(int size, long connectionTimeoutMs) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setMaximumPoolSize(size);
+        pool.setConnectionTimeout(connectionTimeoutMs);
+        return pool;
+    }
+}
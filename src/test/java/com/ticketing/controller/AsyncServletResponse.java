@@ -0,0 +1,76 @@
+package com.ticketing.controller;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+class AsyncServletResponse extends HttpServletResponseWrapper {
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    private final Output output = new Output();
+    private long failAfterBytes = Long.MAX_VALUE;
+
+    AsyncServletResponse() {
+        super(new MockHttpServletResponse());
+    }
+
+    void failAfter(long bytes) {
+        failAfterBytes = bytes;
+    }
+
+    byte[] body() {
+        return body.toByteArray();
+    }
+
+    MockHttpServletResponse mock() {
+        return (MockHttpServletResponse) getResponse();
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        return output;
+    }
+
+    static void awaitCompletion(MockHttpServletRequest request) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (request.isAsyncStarted()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Async response did not complete");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private final class Output extends ServletOutputStream {
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            try {
+                writeListener.onWritePossible();
+            } catch (IOException e) {
+                writeListener.onError(e);
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (body.size() + len > failAfterBytes) {
+                throw new IOException("Broken pipe");
+            }
+            body.write(b, off, len);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.ticketing.controller;
+
+import com.ticketing.config.S3Properties;
+import com.ticketing.dto.AttachmentDescriptor;
+import com.ticketing.entity.Role;
+import com.ticketing.entity.User;
+import com.ticketing.repository.AttachmentBlobRepository;
+import com.ticketing.repository.AttachmentRepository;
+import com.ticketing.repository.UserRepository;
+import com.ticketing.security.UserPrincipal;
+import com.ticketing.service.AttachmentUploadService;
+import com.ticketing.service.FileUploadService;
+import com.ticketing.service.TicketService;
+import com.ticketing.storage.LocalS3Server;
+import com.ticketing.storage.S3AttachmentStore;
+import com.ticketing.storage.S3TransferEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FileControllerTest {
+    private static final String BUCKET = "attachments";
+    private static final String KEY = "blobs/ab/cd/abcd";
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private AttachmentBlobRepository blobRepository;
+
+    @Mock
+    private TicketService ticketService;
+
+    @Mock
+    private AttachmentUploadService attachmentUploadService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private LocalS3Server server;
+    private S3AttachmentStore store;
+    private FileController controller;
+    private Authentication owner;
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new LocalS3Server();
+        S3Properties properties = new S3Properties();
+        properties.setEnabled(true);
+        properties.setBucket(BUCKET);
+        properties.setEndpoint(server.endpoint());
+        properties.setPathStyleAccess(true);
+        properties.setAccessKeyId("test");
+        properties.setSecretAccessKey("test");
+        store = new S3AttachmentStore(new S3TransferEngine(properties));
+        FileUploadService fileUploadService = new FileUploadService(attachmentRepository, blobRepository,
+                ticketService, store);
+        controller = new FileController(fileUploadService, attachmentUploadService, userRepository, properties);
+
+        content = new byte[256 * 1024];
+        new Random(7).nextBytes(content);
+        Path spool = tempDir.resolve("spool");
+        Files.write(spool, content);
+        store.put(KEY, spool, "application/pdf");
+
+        owner = authentication(5L, Role.USER);
+        when(attachmentRepository.findDescriptorById(1L)).thenReturn(Optional.of(new AttachmentDescriptor(1L,
+                "/api/files/" + KEY, "scan.pdf", "application/pdf", (long) content.length, 9L, 5L, null)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+        server.close();
+    }
+
+    @Test
+    void testFullDownloadStreamsObjectFromS3() throws Exception {
+        AsyncServletResponse response = get(owner, null, null);
+
+        assertEquals(200, response.getStatus());
+        assertArrayEquals(content, response.body());
+        assertEquals("application/pdf", response.getContentType());
+        assertEquals("bytes", response.getHeader("Accept-Ranges"));
+        assertEquals(content.length, response.mock().getContentLengthLong());
+        assertNotNull(response.getHeader("ETag"));
+    }
+
+    @Test
+    void testRangedDownloadReturnsPartialContent() throws Exception {
+        AsyncServletResponse response = get(owner, "bytes=1000-1999", null);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 1000-1999/" + content.length, response.getHeader("Content-Range"));
+        assertArrayEquals(Arrays.copyOfRange(content, 1000, 2000), response.body());
+    }
+
+    @Test
+    void testMatchingEtagIsNotModified() throws Exception {
+        String etag = get(owner, null, null).getHeader("ETag");
+
+        AsyncServletResponse response = get(owner, null, etag);
+
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.body().length);
+    }
+
+    @Test
+    void testOtherUsersAreForbidden() throws Exception {
+        AsyncServletResponse response = get(authentication(6L, Role.USER), null, null);
+
+        assertEquals(403, response.getStatus());
+        assertEquals(0, response.body().length);
+    }
+
+    private AsyncServletResponse get(Authentication authentication, String range, String ifNoneMatch)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/files/1");
+        request.setAsyncSupported(true);
+        if (range != null) {
+            request.addHeader("Range", range);
+        }
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        AsyncServletResponse response = new AsyncServletResponse();
+        controller.getFile(1L, authentication, request, response);
+        AsyncServletResponse.awaitCompletion(request);
+        return response;
+    }
+
+    private static Authentication authentication(Long id, Role role) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail("user" + id + "@example.com");
+        user.setPasswordHash("hash");
+        user.setRole(role);
+        UserPrincipal principal = new UserPrincipal(user);
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+}
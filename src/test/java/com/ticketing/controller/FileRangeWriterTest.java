@@ -0,0 +1,143 @@
+package com.ticketing.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileRangeWriterTest {
+    @TempDir
+    Path tempDir;
+
+    private Path file;
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        content = new byte[1000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        file = tempDir.resolve("report.pdf");
+        Files.write(file, content);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse("2024-03-01T10:00:00.500Z")));
+    }
+
+    @Test
+    void testFullDownloadHasLengthAndValidators() throws Exception {
+        MockHttpServletResponse response = write(new MockHttpServletRequest("GET", "/api/files/1"));
+
+        assertEquals(200, response.getStatus());
+        assertEquals(1000, response.getContentLength());
+        assertEquals("bytes", response.getHeader(HttpHeaders.ACCEPT_RANGES));
+        assertNotNull(response.getHeader(HttpHeaders.ETAG));
+        assertEquals(Instant.parse("2024-03-01T10:00:00Z").toEpochMilli(),
+                response.getDateHeader(HttpHeaders.LAST_MODIFIED));
+        assertEquals("attachment; filename=\"report.pdf\"", response.getHeader(HttpHeaders.CONTENT_DISPOSITION));
+        assertArrayEquals(content, response.getContentAsByteArray());
+    }
+
+    @Test
+    void testSingleRangeReturnsPartialContent() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/files/1");
+        request.addHeader(HttpHeaders.RANGE, "bytes=100-199");
+
+        MockHttpServletResponse response = write(request);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 100-199/1000", response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals(100, response.getContentLength());
+        assertArrayEquals(Arrays.copyOfRange(content, 100, 200), response.getContentAsByteArray());
+    }
+
+    @Test
+    void testSuffixAndOpenEndedRanges() throws Exception {
+        MockHttpServletRequest suffix = new MockHttpServletRequest("GET", "/api/files/1");
+        suffix.addHeader(HttpHeaders.RANGE, "bytes=-10");
+        assertEquals("bytes 990-999/1000", write(suffix).getHeader(HttpHeaders.CONTENT_RANGE));
+
+        MockHttpServletRequest openEnded = new MockHttpServletRequest("GET", "/api/files/1");
+        openEnded.addHeader(HttpHeaders.RANGE, "bytes=900-5000");
+        MockHttpServletResponse response = write(openEnded);
+        assertEquals("bytes 900-999/1000", response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals(100, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void testUnsatisfiableRange() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/files/1");
+        request.addHeader(HttpHeaders.RANGE, "bytes=1000-");
+
+        MockHttpServletResponse response = write(request);
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */1000", response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void testMatchingEtagReturnsNotModified() throws Exception {
+        String etag = write(new MockHttpServletRequest("GET", "/api/files/1")).getHeader(HttpHeaders.ETAG);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/files/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+
+        MockHttpServletResponse response = write(request);
+
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void testIfModifiedSinceReturnsNotModified() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/files/1");
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, Instant.parse("2024-03-01T10:00:00Z").toEpochMilli());
+
+        assertEquals(304, write(request).getStatus());
+    }
+
+    @Test
+    void testStaleIfRangeServesWholeFile() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/files/1");
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"stale\"");
+
+        MockHttpServletResponse response = write(request);
+
+        assertEquals(200, response.getStatus());
+        assertEquals(1000, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void testLargeFilesAreHandedToSendfile() throws Exception {
+        Path large = tempDir.resolve("large.pdf");
+        Files.write(large, new byte[(int) FileRangeWriter.MIN_SENDFILE_SIZE * 2]);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/files/1");
+        request.setAttribute(FileRangeWriter.SENDFILE_SUPPORT, Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=1024-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        FileRangeWriter.write(large, "large.pdf", "application/pdf", request, response);
+
+        assertEquals(206, response.getStatus());
+        assertEquals(large.toAbsolutePath().toString(), request.getAttribute(FileRangeWriter.SENDFILE_FILENAME));
+        assertEquals(1024L, request.getAttribute(FileRangeWriter.SENDFILE_START));
+        assertEquals(FileRangeWriter.MIN_SENDFILE_SIZE * 2, request.getAttribute(FileRangeWriter.SENDFILE_END));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    private MockHttpServletResponse write(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FileRangeWriter.write(file, "report.pdf", "application/pdf", request, response);
+        return response;
+    }
+}
@@ -0,0 +1,107 @@
+package com.ticketing.controller;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultipartStreamReaderTest {
+    private static final String BOUNDARY = "----formdata-boundary-7d93b2";
+    private static final String CONTENT_TYPE = "multipart/form-data; boundary=" + BOUNDARY;
+
+    @Test
+    void testReadsFieldAndFileParts() throws IOException {
+        byte[] file = new byte[100_000];
+        new Random(7).nextBytes(file);
+        byte[] body = body(
+                part("Content-Disposition: form-data; name=\"note\"", "hello".getBytes()),
+                part("Content-Disposition: form-data; name=\"file\"; filename=\"scan.pdf\"\r\n"
+                        + "Content-Type: application/pdf", file));
+
+        MultipartStreamReader reader = new MultipartStreamReader(new ByteArrayInputStream(body), CONTENT_TYPE);
+
+        MultipartStreamReader.Part note = reader.next();
+        assertEquals("note", note.getName());
+        assertNull(note.getFilename());
+        assertEquals("hello", new String(note.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+
+        MultipartStreamReader.Part upload = reader.next();
+        assertEquals("file", upload.getName());
+        assertEquals("scan.pdf", upload.getFilename());
+        assertEquals("application/pdf", upload.getContentType());
+        assertArrayEquals(file, upload.getInputStream().readAllBytes());
+
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testSkipsUnreadPartsAndSurvivesOneByteReads() throws IOException {
+        byte[] file = ("line one\r\n--" + BOUNDARY.substring(0, 10) + " not a boundary\r\n").getBytes();
+        byte[] body = body(
+                part("Content-Disposition: form-data; name=\"skipped\"", new byte[20_000]),
+                part("Content-Disposition: form-data; name=\"file\"; filename=\"notes.txt\"", file));
+
+        MultipartStreamReader reader = new MultipartStreamReader(new TrickleInputStream(body), CONTENT_TYPE);
+
+        assertEquals("skipped", reader.next().getName());
+        MultipartStreamReader.Part upload = reader.next();
+        assertEquals("notes.txt", upload.getFilename());
+        assertArrayEquals(file, upload.getInputStream().readAllBytes());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testTruncatedBodyIsRejected() throws IOException {
+        byte[] body = body(part("Content-Disposition: form-data; name=\"file\"; filename=\"a.txt\"",
+                "partial".getBytes()));
+        byte[] truncated = java.util.Arrays.copyOf(body, body.length - BOUNDARY.length() - 8);
+
+        MultipartStreamReader reader = new MultipartStreamReader(new ByteArrayInputStream(truncated), CONTENT_TYPE);
+        InputStream upload = reader.next().getInputStream();
+
+        assertThrows(RuntimeException.class, upload::readAllBytes);
+    }
+
+    @Test
+    void testNonMultipartRequestIsRejected() {
+        assertThrows(RuntimeException.class,
+                () -> new MultipartStreamReader(new ByteArrayInputStream(new byte[0]), "application/json"));
+        assertThrows(RuntimeException.class,
+                () -> new MultipartStreamReader(new ByteArrayInputStream(new byte[0]), "multipart/form-data"));
+    }
+
+    private static byte[] part(String headers, byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(("--" + BOUNDARY + "\r\n" + headers + "\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(content);
+        out.writeBytes("\r\n".getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+
+    private static byte[] body(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        out.writeBytes(("--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+
+    private static final class TrickleInputStream extends FilterInputStream {
+        TrickleInputStream(byte[] content) {
+            super(new ByteArrayInputStream(content));
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return super.read(b, off, Math.min(len, 1));
+        }
+    }
+}
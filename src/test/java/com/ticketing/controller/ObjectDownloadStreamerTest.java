@@ -0,0 +1,126 @@
+package com.ticketing.controller;
+
+import com.ticketing.storage.ObjectDownload;
+import com.ticketing.storage.ObjectDownloadException;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObjectDownloadStreamerTest {
+    private static final int CHUNK = 1024;
+
+    @Test
+    void testStreamsChunksWithObjectHeaders() throws Exception {
+        ChunkPublisher chunks = new ChunkPublisher(4);
+        MockHttpServletRequest request = asyncRequest();
+        AsyncServletResponse response = new AsyncServletResponse();
+
+        ObjectDownloadStreamer.stream(CompletableFuture.completedFuture(object(chunks)), "log.txt", "text/plain",
+                request, response, 10_000);
+        AsyncServletResponse.awaitCompletion(request);
+
+        assertEquals(200, response.getStatus());
+        assertEquals(4 * CHUNK, response.body().length);
+        assertEquals("\"abc\"", response.getHeader("ETag"));
+        assertEquals("attachment; filename=\"log.txt\"", response.getHeader("Content-Disposition"));
+        assertEquals(4 * CHUNK, response.mock().getContentLengthLong());
+        assertFalse(chunks.cancelled);
+    }
+
+    @Test
+    void testClientAbortCancelsBodySubscription() throws Exception {
+        ChunkPublisher chunks = new ChunkPublisher(16);
+        MockHttpServletRequest request = asyncRequest();
+        AsyncServletResponse response = new AsyncServletResponse();
+        response.failAfter(2 * CHUNK);
+
+        ObjectDownloadStreamer.stream(CompletableFuture.completedFuture(object(chunks)), "log.txt", "text/plain",
+                request, response, 10_000);
+        AsyncServletResponse.awaitCompletion(request);
+
+        assertTrue(chunks.cancelled);
+        assertEquals(3, chunks.emitted);
+        assertEquals(2 * CHUNK, response.body().length);
+    }
+
+    @Test
+    void testAsyncErrorCancelsPendingDownload() throws Exception {
+        CompletableFuture<ObjectDownload> download = new CompletableFuture<>();
+        MockHttpServletRequest request = asyncRequest();
+
+        ObjectDownloadStreamer.stream(download, "log.txt", "text/plain", request, new AsyncServletResponse(), 10_000);
+        MockAsyncContext context = (MockAsyncContext) request.getAsyncContext();
+        for (AsyncListener listener : context.getListeners()) {
+            listener.onError(new AsyncEvent(context, new IOException("Connection reset")));
+        }
+
+        assertTrue(download.isCancelled());
+        assertFalse(request.isAsyncStarted());
+    }
+
+    @Test
+    void testMissingObjectIsNotFound() throws Exception {
+        MockHttpServletRequest request = asyncRequest();
+        AsyncServletResponse response = new AsyncServletResponse();
+
+        ObjectDownloadStreamer.stream(CompletableFuture.failedFuture(new ObjectDownloadException(404, null)),
+                "log.txt", "text/plain", request, response, 10_000);
+        AsyncServletResponse.awaitCompletion(request);
+
+        assertEquals(404, response.getStatus());
+        assertEquals(0, response.body().length);
+    }
+
+    private static MockHttpServletRequest asyncRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/files/1");
+        request.setAsyncSupported(true);
+        return request;
+    }
+
+    private static ObjectDownload object(ChunkPublisher chunks) {
+        return new ObjectDownload((long) chunks.total * CHUNK, null, "\"abc\"", null, chunks);
+    }
+
+    private static final class ChunkPublisher implements Publisher<ByteBuffer> {
+        private final int total;
+        private volatile int emitted;
+        private volatile boolean cancelled;
+
+        private ChunkPublisher(int total) {
+            this.total = total;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    for (long i = 0; i < n && !cancelled; i++) {
+                        if (emitted == total) {
+                            subscriber.onComplete();
+                            return;
+                        }
+                        emitted++;
+                        subscriber.onNext(ByteBuffer.wrap(new byte[CHUNK]));
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+}
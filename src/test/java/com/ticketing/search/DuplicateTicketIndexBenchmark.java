@@ -0,0 +1,66 @@
+package com.ticketing.search;
+
+import java.util.Random;
+
+public final class DuplicateTicketIndexBenchmark {
+    private static final String[] VOCABULARY = new String[5000];
+    private static final int LOOKUPS = 20_000;
+
+    static {
+        Random random = new Random(7);
+        for (int i = 0; i < VOCABULARY.length; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 3 + random.nextInt(7);
+            for (int j = 0; j < length; j++) {
+                word.append((char) ('a' + random.nextInt(26)));
+            }
+            VOCABULARY[i] = word.toString();
+        }
+    }
+
+    private DuplicateTicketIndexBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        for (int corpusSize : new int[] {1_000, 10_000, 100_000, 300_000}) {
+            run(corpusSize);
+        }
+    }
+
+    private static void run(int corpusSize) {
+        Random random = new Random(corpusSize);
+        DuplicateTicketIndex index = new DuplicateTicketIndex();
+        long started = System.nanoTime();
+        for (long id = 1; id <= corpusSize; id++) {
+            index.index(id, sentence(random, 6), sentence(random, 40), id);
+        }
+        long indexMillis = (System.nanoTime() - started) / 1_000_000;
+
+        String[] titles = new String[LOOKUPS];
+        String[] descriptions = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            titles[i] = sentence(random, 6);
+            descriptions[i] = sentence(random, 40);
+        }
+        for (int i = 0; i < LOOKUPS; i++) {
+            index.findSimilar(titles[i], descriptions[i], 0.6, 5);
+        }
+
+        long candidates = 0;
+        started = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            candidates += index.findSimilar(titles[i], descriptions[i], 0.6, 5).size();
+        }
+        double micros = (System.nanoTime() - started) / 1_000.0 / LOOKUPS;
+        System.out.printf("corpus=%,d index=%d ms lookup=%.1f us/op matches=%d buckets=%,d%n",
+                corpusSize, indexMillis, micros, candidates, index.bucketCount());
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            text.append(VOCABULARY[random.nextInt(VOCABULARY.length)]).append(' ');
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,85 @@
+package com.ticketing.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DuplicateTicketIndexTest {
+    private static final String OUTAGE = "Since about 9am nobody on the finance floor can open the payroll portal, "
+            + "the page spins and then shows a gateway timeout error";
+
+    @Test
+    void testNearDuplicatesAreFoundAndUnrelatedTicketsAreNot() {
+        DuplicateTicketIndex index = new DuplicateTicketIndex();
+        index.index(1L, "Payroll portal down", OUTAGE, 1000L);
+        index.index(2L, "Printer on floor 3 jammed", "The big printer keeps jamming on double sided jobs", 1000L);
+
+        List<DuplicateTicketIndex.Match> matches = index.findSimilar("payroll portal down!",
+                OUTAGE.replace("9am", "9:15"), 0.6, 5);
+
+        assertEquals(1, matches.size());
+        assertEquals(1L, matches.get(0).getTicketId());
+        assertTrue(matches.get(0).getSimilarity() > 0.7, "similarity " + matches.get(0).getSimilarity());
+        assertTrue(index.findSimilar("VPN certificate expired", "Cannot connect to the VPN from home", 0.6, 5)
+                .isEmpty());
+    }
+
+    @Test
+    void testExactDuplicateScoresOneAndResultsAreBounded() {
+        DuplicateTicketIndex index = new DuplicateTicketIndex();
+        for (long id = 1; id <= 10; id++) {
+            index.index(id, "Payroll portal down", OUTAGE, 1000L);
+        }
+
+        List<DuplicateTicketIndex.Match> matches = index.findSimilar("Payroll portal down", OUTAGE, 0.6, 3);
+        assertEquals(3, matches.size());
+        assertEquals(1.0, matches.get(0).getSimilarity());
+        assertEquals(1L, matches.get(0).getTicketId());
+    }
+
+    @Test
+    void testRemoveAndCompactBoundMemory() {
+        DuplicateTicketIndex index = new DuplicateTicketIndex();
+        index.index(1L, "Payroll portal down", OUTAGE, 1000L);
+        index.index(2L, "Payroll portal down", OUTAGE, 5000L);
+        index.index(3L, "Printer jammed", "The big printer keeps jamming", 5000L);
+        index.remove(2L);
+
+        assertEquals(List.of(1L), index.findSimilar("Payroll portal down", OUTAGE, 0.6, 5).stream()
+                .map(DuplicateTicketIndex.Match::getTicketId).toList());
+
+        int bucketsBefore = index.bucketCount();
+        assertEquals(1, index.compact(2000L));
+        assertEquals(1, index.size());
+        assertTrue(index.bucketCount() < bucketsBefore);
+        assertTrue(index.findSimilar("Payroll portal down", OUTAGE, 0.6, 5).isEmpty());
+    }
+
+    @Test
+    void testRemoveAndEditReleaseBandBuckets() {
+        DuplicateTicketIndex index = new DuplicateTicketIndex();
+        index.index(1L, "Payroll portal down", OUTAGE, 1000L);
+        index.remove(1L);
+        assertEquals(0, index.bucketCount());
+
+        DuplicateTicketIndex fresh = new DuplicateTicketIndex();
+        fresh.index(1L, "Printer jammed", "The big printer keeps jamming", 1000L);
+        index.index(1L, "Payroll portal down", OUTAGE, 1000L);
+        index.index(1L, "Printer jammed", "The big printer keeps jamming", 2000L);
+
+        assertEquals(fresh.bucketCount(), index.bucketCount());
+        assertTrue(index.findSimilar("Payroll portal down", OUTAGE, 0.0, 5).isEmpty());
+        assertEquals(1, index.findSimilar("Printer jammed", "The big printer keeps jamming", 0.6, 5).size());
+    }
+
+    @Test
+    void testTextWithoutTokensIsNotIndexed() {
+        DuplicateTicketIndex index = new DuplicateTicketIndex();
+        index.index(1L, "!", "?", 1000L);
+
+        assertEquals(0, index.size());
+        assertTrue(index.findSimilar("!", "?", 0.0, 5).isEmpty());
+    }
+}
@@ -0,0 +1,115 @@
+package com.ticketing.search;
+
+import com.ticketing.entity.Priority;
+import com.ticketing.entity.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TicketSearchIndexTest {
+    private TicketSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TicketSearchIndex();
+        index.index(ticket(1L, "VPN connection drops", "Client disconnects every few minutes", Status.OPEN, 10L, null));
+        index.index(ticket(2L, "Printer offline", "Printer offline after the VPN update", Status.OPEN, 11L, 20L));
+        index.index(ticket(3L, "Password reset", "Cannot reset password", Status.RESOLVED, 10L, 20L));
+    }
+
+    @Test
+    void testSearchMatchesAllTermsNewestFirst() {
+        TicketSearchIndex.Hits hits = index.search("vpn", null, null, null, null, 0, 10);
+
+        assertEquals(2, hits.getTotal());
+        assertArrayEquals(new long[] {2L, 1L}, hits.getTicketIds());
+
+        hits = index.search("VPN printer", null, null, null, null, 0, 10);
+        assertArrayEquals(new long[] {2L}, hits.getTicketIds());
+    }
+
+    @Test
+    void testUnknownTermReturnsNothing() {
+        TicketSearchIndex.Hits hits = index.search("vpn keyboard", null, null, null, null, 0, 10);
+
+        assertEquals(0, hits.getTotal());
+        assertEquals(0, hits.getTicketIds().length);
+    }
+
+    @Test
+    void testFiltersApplyWithoutQuery() {
+        assertArrayEquals(new long[] {3L, 2L}, index.search(null, null, null, 20L, null, 0, 10).getTicketIds());
+        assertArrayEquals(new long[] {3L}, index.search(null, Status.RESOLVED, null, null, null, 0, 10).getTicketIds());
+        assertArrayEquals(new long[] {3L, 1L}, index.search("", null, null, null, 10L, 0, 10).getTicketIds());
+    }
+
+    @Test
+    void testPagination() {
+        TicketSearchIndex.Hits hits = index.search(null, null, null, null, null, 1, 1);
+
+        assertEquals(3, hits.getTotal());
+        assertArrayEquals(new long[] {2L}, hits.getTicketIds());
+        assertEquals(0, index.search(null, null, null, null, null, 5, 1).getTicketIds().length);
+    }
+
+    @Test
+    void testStatusChangeUpdatesFilterInPlace() {
+        index.index(ticket(1L, "VPN connection drops", "Client disconnects every few minutes", Status.CLOSED, 10L, null));
+
+        assertEquals(0, index.search("vpn", Status.OPEN, null, null, 10L, 0, 10).getTotal());
+        assertEquals(1, index.search("vpn", Status.CLOSED, null, null, null, 0, 10).getTotal());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void testEditWithCollidingHashCodeIsReindexed() {
+        assertEquals("AaAa outage".hashCode(), "BBBB outage".hashCode());
+        index.index(ticket(4L, "AaAa outage", "Switch in rack 4", Status.OPEN, 10L, null));
+
+        index.index(ticket(4L, "BBBB outage", "Switch in rack 4", Status.OPEN, 10L, null));
+
+        assertArrayEquals(new long[] {4L}, index.search("bbbb", null, null, null, null, 0, 10).getTicketIds());
+        assertEquals(0, index.search("aaaa", null, null, null, null, 0, 10).getTotal());
+    }
+
+    @Test
+    void testCommentsAreSearchableAndSurviveTextEdits() {
+        index.addComment(3L, "Resolved by unlocking the LDAP account");
+
+        assertArrayEquals(new long[] {3L}, index.search("ldap", null, null, null, null, 0, 10).getTicketIds());
+
+        index.index(ticket(3L, "Password reset request", "Cannot reset password", Status.RESOLVED, 10L, 20L));
+
+        assertArrayEquals(new long[] {3L}, index.search("ldap request", null, null, null, null, 0, 10).getTicketIds());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void testCompactionKeepsResultsStable() {
+        for (int i = 0; i < 3000; i++) {
+            index.addComment(1L, "note" + i);
+        }
+
+        assertArrayEquals(new long[] {1L}, index.search("note2999", null, null, null, null, 0, 10).getTicketIds());
+        assertArrayEquals(new long[] {2L, 1L}, index.search("vpn", null, null, null, null, 0, 10).getTicketIds());
+        assertEquals(3, index.search(null, null, null, null, null, 0, 10).getTotal());
+    }
+
+    @Test
+    void testPostingsRoundTrip() {
+        PostingsList list = new PostingsList();
+        int[] docIds = {0, 1, 127, 128, 16384, 2_000_000};
+        for (int docId : docIds) {
+            list.add(docId);
+        }
+
+        assertArrayEquals(docIds, list.toArray());
+        assertThrows(IllegalArgumentException.class, () -> list.add(5));
+    }
+
+    private TicketChangedEvent ticket(Long id, String title, String description, Status status,
+                                      Long ownerId, Long assigneeId) {
+        return new TicketChangedEvent(id, title, description, status, Priority.MEDIUM, ownerId, assigneeId);
+    }
+}
@@ -0,0 +1,104 @@
+package com.ticketing.security;
+
+import com.ticketing.config.JwtProperties;
+import com.ticketing.entity.Role;
+import com.ticketing.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+    @Mock
+    private PrincipalCache principalCache;
+
+    private JwtProperties properties;
+    private JwtTokenProvider tokenProvider;
+    private TokenRevocationList revocationList;
+    private JwtAuthenticationFilter filter;
+    private UserPrincipal agent;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JwtProperties();
+        properties.setSecret("test-secret-key-that-is-at-least-256-bits-long-for-hmac");
+        properties.setAccessTokenExpiration(60_000);
+        properties.setRefreshTokenExpiration(120_000);
+        properties.setStateless(true);
+
+        tokenProvider = new JwtTokenProvider(properties);
+        revocationList = new TokenRevocationList(properties);
+        filter = new JwtAuthenticationFilter(tokenProvider, principalCache, revocationList, properties);
+
+        User user = new User();
+        user.setId(42L);
+        user.setEmail("agent@example.com");
+        user.setPasswordHash("hash");
+        user.setFullName("Support Agent");
+        user.setRole(Role.AGENT);
+        agent = new UserPrincipal(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testStatelessModeAuthenticatesFromClaims() throws Exception {
+        Authentication authentication = authenticate(tokenProvider.generateAccessToken(agent));
+
+        assertNotNull(authentication);
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        assertTrue(principal.isFromToken());
+        assertEquals(42L, principal.getUser().getId());
+        assertEquals(Role.AGENT, principal.getUser().getRole());
+        assertEquals("Support Agent", principal.getUser().getFullName());
+        assertTrue(authentication.getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals("ROLE_AGENT")));
+        verifyNoInteractions(principalCache);
+    }
+
+    @Test
+    void testStatelessModeRejectsTokensWithoutUserClaims() throws Exception {
+        assertNull(authenticate(tokenProvider.generateRefreshToken(agent)));
+    }
+
+    @Test
+    void testStatelessModeRejectsRevokedTokens() throws Exception {
+        String token = tokenProvider.generateAccessToken(agent);
+        revocationList.revoke("agent@example.com");
+
+        assertNull(authenticate(token));
+    }
+
+    @Test
+    void testSessionModeRejectsRevokedTokensBeforeLoadingUser() throws Exception {
+        properties.setStateless(false);
+        filter = new JwtAuthenticationFilter(tokenProvider, principalCache, revocationList, properties);
+        String token = tokenProvider.generateAccessToken(agent);
+        revocationList.revoke("agent@example.com");
+
+        assertNull(authenticate(token));
+        verifyNoInteractions(principalCache);
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tickets");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,82 @@
+package com.ticketing.security;
+
+import com.ticketing.config.JwtProperties;
+import com.ticketing.entity.Role;
+import com.ticketing.entity.User;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+    private JwtProperties properties;
+    private UserPrincipal admin;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JwtProperties();
+        properties.setSecret("test-secret-key-that-is-at-least-256-bits-long-for-hmac");
+        properties.setAccessTokenExpiration(60_000);
+        properties.setRefreshTokenExpiration(120_000);
+
+        User user = new User();
+        user.setId(7L);
+        user.setEmail("admin@example.com");
+        user.setPasswordHash("hash");
+        user.setFullName("Admin");
+        user.setRole(Role.ADMIN);
+        admin = new UserPrincipal(user);
+    }
+
+    @Test
+    void testVerifyReturnsTypedClaims() {
+        JwtTokenProvider provider = new JwtTokenProvider(properties);
+
+        VerifiedToken verified = provider.verify(provider.generateAccessToken(admin));
+
+        assertEquals("admin@example.com", verified.getSubject());
+        assertEquals(7L, verified.getUserId());
+        assertEquals(Role.ADMIN, verified.getRole());
+        assertNotNull(verified.getIssuedAt());
+        assertFalse(verified.isExpired(System.currentTimeMillis()));
+    }
+
+    @Test
+    void testVerifiedTokensServedFromCache() {
+        JwtTokenProvider provider = new JwtTokenProvider(properties);
+        String token = provider.generateAccessToken(admin);
+
+        VerifiedToken first = provider.verify(token);
+        VerifiedToken second = provider.verify(token);
+
+        assertSame(first, second);
+        assertEquals(1, provider.verifiedCacheSize());
+        assertTrue(provider.validateToken(token, admin));
+    }
+
+    @Test
+    void testCacheCanBeDisabled() {
+        properties.setVerifiedTokenCacheSize(0);
+        JwtTokenProvider provider = new JwtTokenProvider(properties);
+        String token = provider.generateAccessToken(admin);
+
+        assertNotSame(provider.verify(token), provider.verify(token));
+        assertEquals(0, provider.verifiedCacheSize());
+    }
+
+    @Test
+    void testTamperedAndExpiredTokensRejected() {
+        JwtTokenProvider provider = new JwtTokenProvider(properties);
+        String token = provider.generateAccessToken(admin);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> provider.verify(tampered));
+
+        properties.setAccessTokenExpiration(-1_000);
+        JwtTokenProvider expiring = new JwtTokenProvider(properties);
+        assertThrows(ExpiredJwtException.class, () -> expiring.verify(expiring.generateAccessToken(admin)));
+        assertEquals(0, expiring.verifiedCacheSize());
+    }
+}
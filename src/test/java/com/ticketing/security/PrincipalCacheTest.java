@@ -0,0 +1,87 @@
+package com.ticketing.security;
+
+import com.ticketing.entity.Role;
+import com.ticketing.entity.User;
+import com.ticketing.service.UserChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        when(userDetailsService.loadUserByUsername(anyString()))
+                .thenAnswer(invocation -> new UserPrincipal(user(invocation.getArgument(0))));
+    }
+
+    @Test
+    void testRepeatedLookupsServedFromCache() {
+        PrincipalCache cache = new PrincipalCache(userDetailsService, 60_000, 100);
+
+        UserPrincipal first = cache.get("user@example.com");
+        UserPrincipal second = cache.get("user@example.com");
+
+        assertSame(first, second);
+        assertEquals("user@example.com", first.getUser().getEmail());
+        verify(userDetailsService, times(1)).loadUserByUsername("user@example.com");
+    }
+
+    @Test
+    void testUserChangeInvalidatesEntry() {
+        PrincipalCache cache = new PrincipalCache(userDetailsService, 60_000, 100);
+
+        UserPrincipal first = cache.get("user@example.com");
+        cache.onUserChanged(new UserChangedEvent("user@example.com"));
+        UserPrincipal second = cache.get("user@example.com");
+
+        assertNotSame(first, second);
+        verify(userDetailsService, times(2)).loadUserByUsername("user@example.com");
+    }
+
+    @Test
+    void testCacheIsBounded() {
+        PrincipalCache cache = new PrincipalCache(userDetailsService, 60_000, 2);
+
+        cache.get("a@example.com");
+        cache.get("b@example.com");
+        cache.get("a@example.com");
+        cache.get("c@example.com");
+        cache.get("a@example.com");
+        cache.get("b@example.com");
+
+        assertEquals(2, cache.size());
+        verify(userDetailsService, times(1)).loadUserByUsername("a@example.com");
+        verify(userDetailsService, times(2)).loadUserByUsername("b@example.com");
+    }
+
+    @Test
+    void testExpiredEntriesReloaded() {
+        PrincipalCache cache = new PrincipalCache(userDetailsService, 0, 100);
+
+        cache.get("user@example.com");
+        cache.get("user@example.com");
+
+        assertEquals(0, cache.size());
+        verify(userDetailsService, times(2)).loadUserByUsername("user@example.com");
+    }
+
+    private User user(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPasswordHash("hash");
+        user.setFullName("Test User");
+        user.setRole(Role.USER);
+        return user;
+    }
+}
@@ -0,0 +1,56 @@
+package com.ticketing.security;
+
+import com.ticketing.config.JwtProperties;
+import com.ticketing.entity.Role;
+import com.ticketing.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenRevocationListTest {
+    private JwtTokenProvider tokenProvider;
+    private TokenRevocationList revocationList;
+    private UserPrincipal agent;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("test-secret-key-that-is-at-least-256-bits-long-for-hmac");
+        properties.setAccessTokenExpiration(60_000);
+        properties.setRefreshTokenExpiration(120_000);
+        properties.setVerifiedTokenCacheSize(0);
+
+        tokenProvider = new JwtTokenProvider(properties);
+        revocationList = new TokenRevocationList(properties);
+
+        User user = new User();
+        user.setId(42L);
+        user.setEmail("agent@example.com");
+        user.setPasswordHash("hash");
+        user.setFullName("Support Agent");
+        user.setRole(Role.AGENT);
+        agent = new UserPrincipal(user);
+    }
+
+    @Test
+    void testTokenReissuedInSameSecondAsRevocationIsAccepted() throws Exception {
+        String before = tokenProvider.generateAccessToken(agent);
+        revocationList.revoke("agent@example.com");
+        Thread.sleep(2);
+        String after = tokenProvider.generateAccessToken(agent);
+
+        VerifiedToken old = tokenProvider.verify(before);
+        VerifiedToken reissued = tokenProvider.verify(after);
+        assertTrue(revocationList.isRevoked("agent@example.com", old.getIssuedAt()));
+        assertFalse(revocationList.isRevoked("agent@example.com", reissued.getIssuedAt()));
+    }
+
+    @Test
+    void testIssueTimeKeepsMillisecondPrecision() {
+        long before = System.currentTimeMillis();
+        VerifiedToken token = tokenProvider.verify(tokenProvider.generateAccessToken(agent));
+
+        assertTrue(token.getIssuedAt().getTime() >= before);
+    }
+}
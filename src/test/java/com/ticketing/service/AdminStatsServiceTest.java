@@ -0,0 +1,177 @@
+package com.ticketing.service;
+
+import com.ticketing.dto.AdminStatsResponse;
+import com.ticketing.entity.Status;
+import com.ticketing.repository.TicketRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdminStatsServiceTest {
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Query ticketQuery;
+
+    @Mock
+    private Query ratingQuery;
+
+    @Mock
+    private Query snapshotQuery;
+
+    @Mock
+    private Query transactionIdQuery;
+
+    private AdminStatsService statsService;
+
+    @BeforeEach
+    void setUp() {
+        statsService = new AdminStatsService(ticketRepository, entityManager, transactionManager, 0L);
+
+        when(entityManager.createNativeQuery(contains("FROM tickets"))).thenReturn(ticketQuery);
+        when(entityManager.createNativeQuery(contains("FROM ticket_ratings"))).thenReturn(ratingQuery);
+        when(entityManager.createNativeQuery(contains("pg_current_snapshot"))).thenReturn(snapshotQuery);
+        when(snapshotQuery.getSingleResult()).thenReturn("100:100:");
+        when(ticketQuery.getSingleResult()).thenReturn(new Object[] {3L, 2L, 10L});
+        when(ratingQuery.getSingleResult()).thenReturn(new Object[] {2L, 7L});
+        when(ticketRepository.countSlaBreaches(any(LocalDateTime.class))).thenReturn(1L);
+    }
+
+    @Test
+    void testStatsLoadedFromAggregatesOnFirstCall() {
+        AdminStatsResponse stats = statsService.getStats();
+
+        assertEquals(3L, stats.getOpenCount());
+        assertEquals(new BigDecimal("5.00"), stats.getAvgResolutionTime());
+        assertEquals(1L, stats.getSlaBreaches());
+        assertEquals(new BigDecimal("3.50"), stats.getAvgRating());
+    }
+
+    @Test
+    void testCountersFollowTicketLifecycle() {
+        statsService.resync();
+        LocalDateTime createdAt = LocalDateTime.now().minusHours(4);
+
+        statsService.onStatusChanged(TicketStatusChangedEvent.created(Status.OPEN, createdAt));
+        statsService.onStatusChanged(new TicketStatusChangedEvent(Status.OPEN, Status.IN_PROGRESS, createdAt, null));
+        statsService.onStatusChanged(new TicketStatusChangedEvent(Status.IN_PROGRESS, Status.RESOLVED,
+                createdAt, createdAt.plusHours(8)));
+        statsService.onTicketRated(new TicketRatedEvent(null, 5));
+        statsService.onTicketRated(new TicketRatedEvent(5, 3));
+
+        AdminStatsResponse stats = statsService.getStats();
+
+        assertEquals(3L, stats.getOpenCount());
+        assertEquals(new BigDecimal("6.00"), stats.getAvgResolutionTime());
+        assertEquals(new BigDecimal("3.33"), stats.getAvgRating());
+        verify(ticketQuery, times(1)).getSingleResult();
+    }
+
+    @Test
+    void testEventsBeforeInitialLoadAreIgnored() {
+        statsService.onStatusChanged(TicketStatusChangedEvent.created(Status.OPEN, LocalDateTime.now()));
+
+        assertEquals(3L, statsService.getStats().getOpenCount());
+    }
+
+    @Test
+    void testEventsDuringResyncQueryAreKept() {
+        when(ticketQuery.getSingleResult()).thenAnswer(invocation -> {
+            statsService.onStatusChanged(TicketStatusChangedEvent.created(Status.OPEN, LocalDateTime.now()));
+            return new Object[] {3L, 2L, 10L};
+        });
+        when(ratingQuery.getSingleResult()).thenAnswer(invocation -> {
+            statsService.onTicketRated(new TicketRatedEvent(null, 5));
+            return new Object[] {2L, 7L};
+        });
+
+        AdminStatsResponse stats = statsService.getStats();
+
+        assertEquals(4L, stats.getOpenCount());
+        assertEquals(new BigDecimal("4.00"), stats.getAvgRating());
+    }
+
+    @Test
+    void testEventsCommittedBeforeResyncSnapshotAreNotCountedTwice() {
+        when(entityManager.createNativeQuery(contains("pg_current_xact_id"))).thenReturn(transactionIdQuery);
+        when(transactionIdQuery.getSingleResult()).thenReturn("101", "102");
+        when(snapshotQuery.getSingleResult()).thenReturn("101:103:102");
+        when(ticketQuery.getSingleResult()).thenAnswer(invocation -> {
+            commit(() -> statsService.onStatusChanged(TicketStatusChangedEvent.created(Status.OPEN,
+                    LocalDateTime.now())));
+            commit(() -> statsService.onStatusChanged(TicketStatusChangedEvent.created(Status.OPEN,
+                    LocalDateTime.now())));
+            return new Object[] {4L, 2L, 10L};
+        });
+
+        assertEquals(5L, statsService.getStats().getOpenCount());
+    }
+
+    @Test
+    void testConcurrentFirstCallsResyncOnce() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        when(ticketQuery.getSingleResult()).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return new Object[] {3L, 2L, 10L};
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<AdminStatsResponse>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return statsService.getStats();
+                }));
+            }
+            start.countDown();
+            for (Future<AdminStatsResponse> result : results) {
+                assertEquals(3L, result.get().getOpenCount());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(ticketQuery, times(1)).getSingleResult();
+    }
+
+    private void commit(Runnable publish) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            publish.run();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
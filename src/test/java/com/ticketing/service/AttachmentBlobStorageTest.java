@@ -0,0 +1,133 @@
+package com.ticketing.service;
+
+import com.ticketing.entity.Attachment;
+import com.ticketing.entity.AttachmentBlob;
+import com.ticketing.entity.Role;
+import com.ticketing.entity.Ticket;
+import com.ticketing.entity.User;
+import com.ticketing.repository.AttachmentBlobRepository;
+import com.ticketing.repository.AttachmentRepository;
+import com.ticketing.storage.LocalAttachmentStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AttachmentBlobStorageTest {
+    private static final byte[] CONTENT = "VPN drops every 10 minutes on the guest network.\n"
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private AttachmentBlobRepository blobRepository;
+
+    @Mock
+    private TicketService ticketService;
+
+    @TempDir
+    Path tempDir;
+
+    private FileUploadService fileUploadService;
+    private User user;
+    private String sha256;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        fileUploadService = new FileUploadService(attachmentRepository, blobRepository, ticketService,
+                new LocalAttachmentStore(tempDir));
+
+        user = new User();
+        user.setId(1L);
+        user.setRole(Role.USER);
+        sha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(CONTENT));
+    }
+
+    @Test
+    void testFirstUploadIsStoredUnderItsContentAddress() throws Exception {
+        when(ticketService.findById(1L)).thenReturn(new Ticket());
+        when(attachmentRepository.save(any(Attachment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Attachment attachment = upload();
+
+        String key = "blobs/" + sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256;
+        assertEquals("/api/files/" + key, attachment.getUrl());
+        assertArrayEquals(CONTENT, Files.readAllBytes(tempDir.resolve(key)));
+        verify(blobRepository).insertOrAcquire(eq(sha256), eq(key), eq((long) CONTENT.length), eq("text/plain"),
+                any(LocalDateTime.class));
+        try (Stream<Path> leftovers = Files.list(tempDir)) {
+            assertTrue(leftovers.noneMatch(path -> path.toString().endsWith(".part")));
+        }
+    }
+
+    @Test
+    void testDuplicateUploadOnlyAddsMetadata() throws Exception {
+        when(ticketService.findById(1L)).thenReturn(new Ticket());
+        when(attachmentRepository.save(any(Attachment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(blobRepository.acquire(eq(sha256), any(LocalDateTime.class))).thenReturn(1);
+
+        Attachment attachment = upload();
+
+        assertTrue(attachment.getUrl().endsWith("/" + sha256));
+        assertEquals(sha256, attachment.getContentSha256());
+        assertFalse(Files.exists(tempDir.resolve("blobs")));
+        verify(blobRepository, never()).insertOrAcquire(anyString(), anyString(), anyLong(), anyString(), any());
+        try (Stream<Path> leftovers = Files.list(tempDir)) {
+            assertEquals(0, leftovers.count());
+        }
+    }
+
+    @Test
+    void testFailedSaveReleasesBlobReference() {
+        when(ticketService.findById(1L)).thenReturn(new Ticket());
+        when(attachmentRepository.save(any(Attachment.class))).thenThrow(new IllegalStateException("db down"));
+
+        assertThrows(IllegalStateException.class, this::upload);
+        verify(blobRepository).release(eq(sha256), any(LocalDateTime.class));
+    }
+
+    @Test
+    void testDeleteBlobRemovesUnreferencedContent() throws Exception {
+        String key = FileUploadService.blobKey(sha256);
+        Path stored = tempDir.resolve(key);
+        Files.createDirectories(stored.getParent());
+        Files.write(stored, CONTENT);
+        AttachmentBlob blob = new AttachmentBlob();
+        blob.setSha256(sha256);
+        blob.setStorageKey(key);
+        LocalDateTime cutoff = LocalDateTime.now();
+        when(blobRepository.lockUnreferenced(sha256, cutoff)).thenReturn(Optional.of(blob));
+
+        assertTrue(fileUploadService.deleteBlob(sha256, cutoff));
+        assertFalse(Files.exists(stored));
+        verify(blobRepository).delete(blob);
+
+        when(blobRepository.lockUnreferenced(sha256, cutoff)).thenReturn(Optional.empty());
+        assertFalse(fileUploadService.deleteBlob(sha256, cutoff));
+    }
+
+    private Attachment upload() {
+        return fileUploadService.uploadFile(1L, "vpn-log.txt", "text/plain", new ByteArrayInputStream(CONTENT), user);
+    }
+}
@@ -0,0 +1,217 @@
+package com.ticketing.service;
+
+import com.ticketing.dto.AttachmentUploadRequest;
+import com.ticketing.dto.AttachmentUploadResponse;
+import com.ticketing.entity.Attachment;
+import com.ticketing.entity.AttachmentUpload;
+import com.ticketing.entity.Role;
+import com.ticketing.entity.Ticket;
+import com.ticketing.entity.User;
+import com.ticketing.repository.AttachmentBlobRepository;
+import com.ticketing.repository.AttachmentRepository;
+import com.ticketing.repository.AttachmentUploadRepository;
+import com.ticketing.storage.LocalAttachmentStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AttachmentUploadServiceTest {
+    private static final byte[] CONTENT = "Laptop fan is loud after the BIOS update.\n"
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private AttachmentBlobRepository blobRepository;
+
+    @Mock
+    private AttachmentUploadRepository uploadRepository;
+
+    @Mock
+    private TicketService ticketService;
+
+    @TempDir
+    Path tempDir;
+
+    private AttachmentUploadService uploadService;
+    private Ticket ticket;
+    private User user;
+    private String sha256;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        LocalAttachmentStore store = new LocalAttachmentStore(tempDir);
+        FileUploadService fileUploadService = new FileUploadService(attachmentRepository, blobRepository,
+                ticketService, store);
+        uploadService = new AttachmentUploadService(uploadRepository, fileUploadService, ticketService, store,
+                15, 60);
+
+        ticket = new Ticket();
+        ticket.setId(1L);
+        user = new User();
+        user.setId(7L);
+        user.setRole(Role.USER);
+        sha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(CONTENT));
+    }
+
+    @Test
+    void testLocalStoreIssuesApiUploadUrl() {
+        when(ticketService.findById(1L)).thenReturn(ticket);
+
+        AttachmentUploadResponse response = uploadService.createUpload(1L, request("notes.txt", CONTENT.length),
+                user);
+
+        assertEquals("PUT", response.getMethod());
+        assertEquals("/api/files/uploads/" + response.getUploadId(), response.getUrl());
+        assertEquals("text/plain", response.getHeaders().get("Content-Type"));
+        ArgumentCaptor<AttachmentUpload> saved = ArgumentCaptor.forClass(AttachmentUpload.class);
+        verify(uploadRepository).save(saved.capture());
+        assertEquals("staging/" + response.getUploadId(), saved.getValue().getStagingKey());
+        assertEquals(sha256, saved.getValue().getSha256());
+    }
+
+    @Test
+    void testOversizedOrDisallowedUploadsAreRefusedUpFront() {
+        when(ticketService.findById(1L)).thenReturn(ticket);
+
+        assertThrows(RuntimeException.class, () -> uploadService.createUpload(1L,
+                request("huge.txt", FileUploadService.MAX_FILE_SIZE + 1), user));
+        assertThrows(RuntimeException.class, () -> uploadService.createUpload(1L,
+                request("tool.exe", CONTENT.length), user));
+        verify(uploadRepository, never()).save(any());
+    }
+
+    @Test
+    void testReceivedContentIsConfirmedIntoBlob() throws Exception {
+        AttachmentUpload upload = pending();
+        when(uploadRepository.findWithTicketAndUserById(upload.getId())).thenReturn(Optional.of(upload));
+        when(uploadRepository.claim(upload.getId())).thenReturn(1);
+        when(attachmentRepository.save(any(Attachment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        uploadService.receive(upload.getId(), new ByteArrayInputStream(CONTENT), user);
+        assertTrue(Files.exists(tempDir.resolve(upload.getStagingKey())));
+
+        Attachment attachment = uploadService.confirm(1L, upload.getId(), user);
+
+        String key = FileUploadService.blobKey(sha256);
+        assertEquals("/api/files/" + key, attachment.getUrl());
+        assertEquals(sha256, attachment.getContentSha256());
+        assertArrayEquals(CONTENT, Files.readAllBytes(tempDir.resolve(key)));
+        assertFalse(Files.exists(tempDir.resolve(upload.getStagingKey())));
+        verify(blobRepository).insertOrAcquire(eq(sha256), eq(key), eq((long) CONTENT.length), eq("text/plain"),
+                any(LocalDateTime.class));
+        verify(uploadRepository).claim(upload.getId());
+    }
+
+    @Test
+    void testReceiveRejectsContentThatDoesNotMatchDeclaration() {
+        AttachmentUpload upload = pending();
+        when(uploadRepository.findWithTicketAndUserById(upload.getId())).thenReturn(Optional.of(upload));
+        byte[] other = "Laptop fan is quiet after the BIOS update.\n".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(RuntimeException.class,
+                () -> uploadService.receive(upload.getId(), new ByteArrayInputStream(other), user));
+        assertFalse(Files.exists(tempDir.resolve(upload.getStagingKey())));
+    }
+
+    @Test
+    void testConfirmDiscardsStagedObjectWithWrongContentType() throws Exception {
+        AttachmentUpload upload = pending();
+        upload.setFilename("scan.pdf");
+        upload.setContentType("application/pdf");
+        when(uploadRepository.findWithTicketAndUserById(upload.getId())).thenReturn(Optional.of(upload));
+        Files.createDirectories(tempDir.resolve("staging"));
+        Files.write(tempDir.resolve(upload.getStagingKey()), CONTENT);
+        when(uploadRepository.claim(upload.getId())).thenReturn(1);
+
+        assertThrows(RuntimeException.class, () -> uploadService.confirm(1L, upload.getId(), user));
+
+        assertFalse(Files.exists(tempDir.resolve(upload.getStagingKey())));
+        verify(uploadRepository).claim(upload.getId());
+        verifyNoInteractions(attachmentRepository);
+    }
+
+    @Test
+    void testConfirmHashesStagedObjectWhenStoreCannotAttestChecksum() throws Exception {
+        AttachmentUpload upload = pending();
+        when(uploadRepository.findWithTicketAndUserById(upload.getId())).thenReturn(Optional.of(upload));
+        Files.createDirectories(tempDir.resolve("staging"));
+        Files.write(tempDir.resolve(upload.getStagingKey()),
+                "Laptop fan is quiet after the BIOS update.\n".getBytes(StandardCharsets.UTF_8));
+        when(uploadRepository.claim(upload.getId())).thenReturn(1);
+
+        assertThrows(RuntimeException.class, () -> uploadService.confirm(1L, upload.getId(), user));
+
+        assertFalse(Files.exists(tempDir.resolve(upload.getStagingKey())));
+        verify(uploadRepository).claim(upload.getId());
+        verifyNoInteractions(attachmentRepository, blobRepository);
+    }
+
+    @Test
+    void testConfirmRequiresUploaderAndUploadedObject() {
+        AttachmentUpload upload = pending();
+        when(uploadRepository.findWithTicketAndUserById(upload.getId())).thenReturn(Optional.of(upload));
+        User other = new User();
+        other.setId(8L);
+
+        assertThrows(RuntimeException.class, () -> uploadService.confirm(1L, upload.getId(), other));
+        assertThrows(RuntimeException.class, () -> uploadService.confirm(1L, upload.getId(), user));
+        verify(uploadRepository, never()).claim(any());
+    }
+
+    @Test
+    void testOnlyTheConfirmThatClaimsTheUploadCreatesAnAttachment() throws Exception {
+        AttachmentUpload upload = pending();
+        when(uploadRepository.findWithTicketAndUserById(upload.getId())).thenReturn(Optional.of(upload));
+        Files.createDirectories(tempDir.resolve("staging"));
+        Files.write(tempDir.resolve(upload.getStagingKey()), CONTENT);
+        when(uploadRepository.claim(upload.getId())).thenReturn(0);
+
+        assertThrows(RuntimeException.class, () -> uploadService.confirm(1L, upload.getId(), user));
+
+        assertTrue(Files.exists(tempDir.resolve(upload.getStagingKey())));
+        verifyNoInteractions(attachmentRepository, blobRepository);
+    }
+
+    private AttachmentUploadRequest request(String filename, long size) {
+        AttachmentUploadRequest request = new AttachmentUploadRequest();
+        request.setFilename(filename);
+        request.setSizeBytes(size);
+        request.setSha256(sha256);
+        return request;
+    }
+
+    private AttachmentUpload pending() {
+        AttachmentUpload upload = new AttachmentUpload();
+        upload.setId("5b0c7c3e-8d1f-4a55-9d43-0f0f8e2b6a11");
+        upload.setTicket(ticket);
+        upload.setUser(user);
+        upload.setFilename("notes.txt");
+        upload.setContentType("text/plain");
+        upload.setSizeBytes((long) CONTENT.length);
+        upload.setSha256(sha256);
+        upload.setStagingKey("staging/" + upload.getId());
+        upload.setExpiresAt(LocalDateTime.now().plusMinutes(15));
+        return upload;
+    }
+}
@@ -0,0 +1,87 @@
+package com.ticketing.service;
+
+import com.ticketing.config.JwtProperties;
+import com.ticketing.dto.AuthResponse;
+import com.ticketing.dto.RefreshTokenRequest;
+import com.ticketing.entity.Role;
+import com.ticketing.entity.User;
+import com.ticketing.repository.UserRepository;
+import com.ticketing.security.JwtTokenProvider;
+import com.ticketing.security.TokenRevocationList;
+import com.ticketing.security.UserPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceTest {
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private JwtTokenProvider tokenProvider;
+    private TokenRevocationList revocationList;
+    private AuthService authService;
+    private UserPrincipal agent;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("test-secret-key-that-is-at-least-256-bits-long-for-hmac");
+        properties.setAccessTokenExpiration(60_000);
+        properties.setRefreshTokenExpiration(120_000);
+
+        tokenProvider = new JwtTokenProvider(properties);
+        revocationList = new TokenRevocationList(properties);
+        authService = new AuthService(userRepository, passwordEncoder, tokenProvider, authenticationManager,
+                userDetailsService, revocationList);
+
+        User user = new User();
+        user.setId(42L);
+        user.setEmail("agent@example.com");
+        user.setPasswordHash("hash");
+        user.setFullName("Support Agent");
+        user.setRole(Role.AGENT);
+        agent = new UserPrincipal(user);
+    }
+
+    @Test
+    void testRefreshIssuesNewTokens() {
+        when(userDetailsService.loadUserByUsername("agent@example.com")).thenReturn(agent);
+
+        AuthResponse response = authService.refreshToken(request(tokenProvider.generateRefreshToken(agent)));
+
+        assertEquals("agent@example.com", tokenProvider.verify(response.getAccessToken()).getSubject());
+    }
+
+    @Test
+    void testRefreshTokenIssuedBeforeRevocationIsRejected() {
+        String refreshToken = tokenProvider.generateRefreshToken(agent);
+        revocationList.revoke("agent@example.com");
+
+        assertThrows(RuntimeException.class, () -> authService.refreshToken(request(refreshToken)));
+        verifyNoInteractions(userDetailsService);
+    }
+
+    private RefreshTokenRequest request(String refreshToken) {
+        RefreshTokenRequest request = new RefreshTokenRequest();
+        request.setRefreshToken(refreshToken);
+        return request;
+    }
+}
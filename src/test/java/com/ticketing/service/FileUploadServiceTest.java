@@ -1,20 +1,24 @@
 package com.ticketing.service;
 
+import com.ticketing.dto.AttachmentDescriptor;
 import com.ticketing.entity.Attachment;
 import com.ticketing.entity.Role;
 import com.ticketing.entity.Ticket;
 import com.ticketing.entity.User;
+import com.ticketing.repository.AttachmentBlobRepository;
 import com.ticketing.repository.AttachmentRepository;
+import com.ticketing.storage.LocalAttachmentStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.mock.web.MockMultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 
@@ -24,9 +28,14 @@ import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class FileUploadServiceTest {
+    private static final byte[] PNG_HEADER = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+
     @Mock
     private AttachmentRepository attachmentRepository;
 
+    @Mock
+    private AttachmentBlobRepository blobRepository;
+
     @Mock
     private TicketService ticketService;
 
@@ -41,10 +50,9 @@ class FileUploadServiceTest {
     void setUp() {
         fileUploadService = new FileUploadService(
             attachmentRepository,
+            blobRepository,
             ticketService,
-            tempDir.toString(),
-            "",
-            false
+            new LocalAttachmentStore(tempDir)
         );
 
         testTicket = new Ticket();
@@ -64,14 +72,7 @@ class FileUploadServiceTest {
 
     @Test
     void testUploadValidPngFile() throws IOException {
-        MockMultipartFile file = new MockMultipartFile(
-            "file",
-            "test.png",
-            "image/png",
-            new byte[1024]
-        );
-
-        Attachment result = fileUploadService.uploadFile(1L, file, testUser);
+        Attachment result = upload("test.png", "image/png", withHeader(1024, PNG_HEADER));
 
         assertNotNull(result);
         assertEquals("test.png", result.getFilename());
@@ -80,14 +81,7 @@ class FileUploadServiceTest {
 
     @Test
     void testUploadValidPdfFile() throws IOException {
-        MockMultipartFile file = new MockMultipartFile(
-            "file",
-            "document.pdf",
-            "application/pdf",
-            new byte[2048]
-        );
-
-        Attachment result = fileUploadService.uploadFile(1L, file, testUser);
+        Attachment result = upload("document.pdf", "application/pdf", withHeader(2048, "%PDF-1.7".getBytes()));
 
         assertNotNull(result);
         assertEquals("document.pdf", result.getFilename());
@@ -95,57 +89,31 @@ class FileUploadServiceTest {
 
     @Test
     void testUploadFileExceedsSizeLimit() {
-        byte[] largeFile = new byte[11 * 1024 * 1024];
-        MockMultipartFile file = new MockMultipartFile(
-            "file",
-            "large.pdf",
-            "application/pdf",
-            largeFile
-        );
+        byte[] largeFile = withHeader(11 * 1024 * 1024, "%PDF-1.7".getBytes());
 
-        assertThrows(RuntimeException.class, () -> {
-            fileUploadService.uploadFile(1L, file, testUser);
+        RuntimeException e = assertThrows(RuntimeException.class, () -> {
+            upload("large.pdf", "application/pdf", largeFile);
         });
+        assertEquals("File size exceeds 10MB limit", e.getMessage());
     }
 
     @Test
     void testUploadInvalidFileType() {
-        MockMultipartFile file = new MockMultipartFile(
-            "file",
-            "script.exe",
-            "application/x-msdownload",
-            new byte[1024]
-        );
-
         assertThrows(RuntimeException.class, () -> {
-            fileUploadService.uploadFile(1L, file, testUser);
+            upload("script.exe", "application/x-msdownload", new byte[1024]);
         });
     }
 
     @Test
     void testUploadFileWithPathTraversal() {
-        MockMultipartFile file = new MockMultipartFile(
-            "file",
-            "../../../etc/passwd",
-            "text/plain",
-            new byte[1024]
-        );
-
         assertThrows(RuntimeException.class, () -> {
-            fileUploadService.uploadFile(1L, file, testUser);
+            upload("../../../etc/passwd", "text/plain", new byte[1024]);
         });
     }
 
     @Test
     void testUploadFileWithSpecialCharacters() throws IOException {
-        MockMultipartFile file = new MockMultipartFile(
-            "file",
-            "file<script>.png",
-            "image/png",
-            new byte[1024]
-        );
-
-        Attachment result = fileUploadService.uploadFile(1L, file, testUser);
+        Attachment result = upload("file<script>.png", "image/png", withHeader(1024, PNG_HEADER));
 
         assertNotNull(result);
         assertFalse(result.getFilename().contains("<"));
@@ -154,14 +122,10 @@ class FileUploadServiceTest {
 
     @Test
     void testGetFileStreamWithOwnerAccess() throws IOException {
-        Attachment attachment = new Attachment();
-        attachment.setId(1L);
-        attachment.setTicket(testTicket);
-        attachment.setFilename("test.pdf");
-        attachment.setUrl("/api/files/test.pdf");
-        testTicket.setOwner(testUser);
-
-        when(attachmentRepository.findById(1L)).thenReturn(Optional.of(attachment));
+        Files.write(tempDir.resolve("test.pdf"), new byte[16]);
+        when(attachmentRepository.findDescriptorById(1L)).thenReturn(Optional.of(
+                new AttachmentDescriptor(1L, "/api/files/test.pdf", "test.pdf", "application/pdf", 16L,
+                        1L, testUser.getId(), null)));
 
         InputStream stream = fileUploadService.getFileStream(1L, testUser);
 
@@ -175,13 +139,10 @@ class FileUploadServiceTest {
         admin.setId(2L);
         admin.setRole(Role.ADMIN);
 
-        Attachment attachment = new Attachment();
-        attachment.setId(1L);
-        attachment.setTicket(testTicket);
-        attachment.setFilename("test.pdf");
-        attachment.setUrl("/api/files/test.pdf");
-
-        when(attachmentRepository.findById(1L)).thenReturn(Optional.of(attachment));
+        Files.write(tempDir.resolve("test.pdf"), new byte[16]);
+        when(attachmentRepository.findDescriptorById(1L)).thenReturn(Optional.of(
+                new AttachmentDescriptor(1L, "/api/files/test.pdf", "test.pdf", "application/pdf", 16L,
+                        1L, 4L, null)));
 
         InputStream stream = fileUploadService.getFileStream(1L, admin);
 
@@ -195,19 +156,22 @@ class FileUploadServiceTest {
         otherUser.setId(3L);
         otherUser.setRole(Role.USER);
 
-        User ticketOwner = new User();
-        ticketOwner.setId(4L);
-
-        Attachment attachment = new Attachment();
-        attachment.setId(1L);
-        attachment.setTicket(testTicket);
-        testTicket.setOwner(ticketOwner);
-
-        when(attachmentRepository.findById(1L)).thenReturn(Optional.of(attachment));
+        when(attachmentRepository.findDescriptorById(1L)).thenReturn(Optional.of(
+                new AttachmentDescriptor(1L, "/api/files/test.pdf", "test.pdf", "application/pdf", 16L,
+                        1L, 4L, null)));
 
         assertThrows(RuntimeException.class, () -> {
             fileUploadService.getFileStream(1L, otherUser);
         });
     }
-}
 
+    private Attachment upload(String filename, String contentType, byte[] content) {
+        return fileUploadService.uploadFile(1L, filename, contentType, new ByteArrayInputStream(content), testUser);
+    }
+
+    private static byte[] withHeader(int size, byte[] header) {
+        byte[] content = new byte[size];
+        System.arraycopy(header, 0, content, 0, header.length);
+        return content;
+    }
+}
@@ -0,0 +1,96 @@
+package com.ticketing.service;
+
+import com.ticketing.dto.RatingRequest;
+import com.ticketing.entity.Status;
+import com.ticketing.entity.Ticket;
+import com.ticketing.entity.TicketRating;
+import com.ticketing.entity.User;
+import com.ticketing.repository.TicketRatingRepository;
+import com.ticketing.repository.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RatingServiceTest {
+    @Mock
+    private TicketRatingRepository ratingRepository;
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private RatingService ratingService;
+    private User owner;
+    private Ticket ticket;
+
+    @BeforeEach
+    void setUp() {
+        ratingService = new RatingService(ratingRepository, ticketRepository, eventPublisher);
+
+        owner = new User();
+        owner.setId(1L);
+        ticket = new Ticket();
+        ticket.setId(10L);
+        ticket.setOwner(owner);
+        ticket.setStatus(Status.CLOSED);
+        ticket.setCreatedAt(LocalDateTime.now().minusHours(5));
+        when(ticketRepository.findById(10L)).thenReturn(Optional.of(ticket));
+    }
+
+    @Test
+    void testFirstRatingPublishesRatedAndResolvedEvents() {
+        when(ratingRepository.findByTicket(ticket)).thenReturn(Optional.empty());
+
+        ratingService.rateTicket(10L, request(4), owner);
+
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        List<Object> published = events.getAllValues();
+
+        TicketRatedEvent rated = (TicketRatedEvent) published.get(0);
+        assertNull(rated.getPreviousRating());
+        assertEquals(4, rated.getRating());
+
+        TicketStatusChangedEvent resolved = (TicketStatusChangedEvent) published.get(1);
+        assertTrue(resolved.isNewlyResolved());
+        assertEquals(Status.CLOSED, resolved.getPreviousStatus());
+        assertEquals(Status.CLOSED, resolved.getNewStatus());
+        assertEquals(ticket.getResolvedAt(), resolved.getResolvedAt());
+        assertEquals(5, resolved.getResolutionHours());
+    }
+
+    @Test
+    void testRerateOfResolvedTicketOnlyPublishesRatingChange() {
+        ticket.setResolvedAt(LocalDateTime.now().minusHours(1));
+        TicketRating existing = new TicketRating();
+        existing.setRating(2);
+        when(ratingRepository.findByTicket(ticket)).thenReturn(Optional.of(existing));
+
+        ratingService.rateTicket(10L, request(5), owner);
+
+        ArgumentCaptor<TicketRatedEvent> rated = ArgumentCaptor.forClass(TicketRatedEvent.class);
+        verify(eventPublisher).publishEvent(rated.capture());
+        assertEquals(2, rated.getValue().getPreviousRating());
+        assertEquals(5, rated.getValue().getRating());
+    }
+
+    private RatingRequest request(int rating) {
+        RatingRequest request = new RatingRequest();
+        request.setRating(rating);
+        return request;
+    }
+}
@@ -0,0 +1,72 @@
+package com.ticketing.service;
+
+import com.ticketing.dto.StatsGranularity;
+import com.ticketing.dto.StatsTrendPoint;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatsRollupServiceTest {
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Query query;
+
+    private StatsRollupService rollupService;
+
+    @BeforeEach
+    void setUp() {
+        rollupService = new StatsRollupService(entityManager, 48);
+    }
+
+    @Test
+    void testTrendsMappedFromRollupRows() {
+        LocalDateTime day = LocalDateTime.of(2024, 3, 1, 0, 0);
+        when(entityManager.createNativeQuery(contains("FROM ticket_stats_rollup"))).thenReturn(query);
+        when(query.setParameter(anyString(), any())).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.<Object[]>of(
+                new Object[] {Timestamp.valueOf(day), 4L, 2L, 1L, 9.0, 2L, 7L},
+                new Object[] {Timestamp.valueOf(day.plusDays(1)), 1L, 0L, 0L, 0.0, 0L, 0L}));
+
+        List<StatsTrendPoint> points = rollupService.getTrends(StatsGranularity.DAY,
+                day.plusHours(5), day.plusDays(1).plusHours(3));
+
+        assertEquals(2, points.size());
+        assertEquals(day, points.get(0).getBucketStart());
+        assertEquals(4L, points.get(0).getOpenedCount());
+        assertEquals(2L, points.get(0).getResolvedCount());
+        assertEquals(1L, points.get(0).getSlaBreachCount());
+        assertEquals(new BigDecimal("4.50"), points.get(0).getAvgResolutionTime());
+        assertEquals(new BigDecimal("3.50"), points.get(0).getAvgRating());
+        assertEquals(BigDecimal.ZERO, points.get(1).getAvgRating());
+        verify(query).setParameter("granularity", "DAY");
+        verify(query).setParameter("start", day);
+        verify(query).setParameter("end", day.plusDays(1));
+    }
+
+    @Test
+    void testTrendRangeIsBounded() {
+        LocalDateTime now = LocalDateTime.of(2024, 3, 1, 0, 0);
+
+        assertThrows(RuntimeException.class,
+                () -> rollupService.getTrends(StatsGranularity.DAY, now, now.minusDays(1)));
+        assertThrows(RuntimeException.class,
+                () -> rollupService.getTrends(StatsGranularity.HOUR, now.minusDays(40), now));
+        verifyNoInteractions(entityManager);
+    }
+}
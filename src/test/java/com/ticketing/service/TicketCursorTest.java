@@ -0,0 +1,44 @@
+package com.ticketing.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TicketCursorTest {
+
+    @Test
+    void testEncodeDecodeRoundTrip() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 15, 10, 30, 45, 123456000);
+        TicketCursor cursor = new TicketCursor(createdAt, 42L);
+
+        TicketCursor decoded = TicketCursor.decode(cursor.encode());
+
+        assertEquals(createdAt, decoded.getCreatedAt());
+        assertEquals(42L, decoded.getId());
+    }
+
+    @Test
+    void testEncodedCursorIsUrlSafe() {
+        TicketCursor cursor = new TicketCursor(LocalDateTime.of(2024, 1, 1, 0, 0), 7L);
+
+        String token = cursor.encode();
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void testDecodeRejectsGarbage() {
+        RuntimeException ex = assertThrows(RuntimeException.class, () -> TicketCursor.decode("not-a-cursor"));
+        assertEquals("Invalid cursor", ex.getMessage());
+    }
+
+    @Test
+    void testDecodeRejectsNonNumericId() {
+        String token = java.util.Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2024-01-01T00:00|abc".getBytes());
+
+        assertThrows(RuntimeException.class, () -> TicketCursor.decode(token));
+    }
+}
@@ -0,0 +1,143 @@
+package com.ticketing.service;
+
+import com.ticketing.dto.TicketSearchRequest;
+import com.ticketing.dto.SearchMode;
+import com.ticketing.dto.TicketSearchResponse;
+import com.ticketing.dto.TicketSearchResult;
+import com.ticketing.entity.Priority;
+import com.ticketing.entity.Role;
+import com.ticketing.entity.Status;
+import com.ticketing.entity.Ticket;
+import com.ticketing.entity.User;
+import com.ticketing.repository.TicketRepository;
+import com.ticketing.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Testcontainers
+@Transactional
+class TicketFullTextSearchServiceTest {
+    @Container
+    @SuppressWarnings("resource")
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private TicketSearchService ticketSearchService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User owner;
+    private User agent;
+
+    @BeforeEach
+    void setUp() {
+        owner = createUser("fts-owner@test.com", "FTS Owner", Role.USER);
+        agent = createUser("fts-agent@test.com", "FTS Agent", Role.AGENT);
+        User otherOwner = createUser("fts-other@test.com", "Other Owner", Role.USER);
+
+        createTicket("VPN connection drops", "The VPN client disconnects every few minutes", owner);
+        createTicket("Printer offline", "Office printer shows offline after the VPN update", otherOwner);
+        createTicket("Password reset", "Cannot reset my password from the login page", owner);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testFullTextSearchRanksTitleMatchesFirst() {
+        TicketSearchResponse response = ticketSearchService.search(fullTextRequest("vpn disconnects"), agent);
+
+        assertEquals(1L, response.getTotalElements());
+        TicketSearchResult first = (TicketSearchResult) response.getContent().get(0);
+        assertEquals("VPN connection drops", first.getTitle());
+        assertTrue(first.getRank() > 0);
+        assertTrue(first.getSnippet().contains("<mark>"));
+    }
+
+    @Test
+    void testTrigramResultsOrderedByTitleSimilarity() {
+        TicketSearchResponse response = ticketSearchService.search(fullTextRequest("vpn"), agent);
+
+        assertEquals(2L, response.getTotalElements());
+        assertEquals("VPN connection drops", response.getContent().get(0).getTitle());
+    }
+
+    @Test
+    void testShortQueryFallsBackToTrigramMatching() {
+        TicketSearchResponse response = ticketSearchService.search(fullTextRequest("pri"), agent);
+
+        assertEquals(1L, response.getTotalElements());
+        assertEquals("Printer offline", response.getContent().get(0).getTitle());
+    }
+
+    @Test
+    void testQueriesTooShortForTrigramIndexAreRejected() {
+        assertThrows(RuntimeException.class, () -> ticketSearchService.search(fullTextRequest("vp"), agent));
+    }
+
+    @Test
+    void testFullTextSearchRestrictsUsersToOwnTickets() {
+        TicketSearchResponse response = ticketSearchService.search(fullTextRequest("vpn"), owner);
+
+        assertEquals(1L, response.getTotalElements());
+        assertEquals(owner.getId(), response.getContent().get(0).getOwnerId());
+    }
+
+    private TicketSearchRequest fullTextRequest(String q) {
+        TicketSearchRequest request = new TicketSearchRequest();
+        request.setQ(q);
+        request.setMode(SearchMode.FULLTEXT);
+        return request;
+    }
+
+    private User createUser(String email, String name, Role role) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPasswordHash("hash");
+        user.setFullName(name);
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    private void createTicket(String title, String description, User ticketOwner) {
+        Ticket ticket = new Ticket();
+        ticket.setTitle(title);
+        ticket.setDescription(description);
+        ticket.setPriority(Priority.MEDIUM);
+        ticket.setStatus(Status.OPEN);
+        ticket.setOwner(ticketOwner);
+        ticket.setSlaDueAt(LocalDateTime.now().plusHours(24));
+        ticketRepository.save(ticket);
+    }
+}
@@ -0,0 +1,149 @@
+package com.ticketing.service;
+
+import com.ticketing.dto.TicketResponse;
+import com.ticketing.dto.TicketSearchRequest;
+import com.ticketing.dto.TicketSearchResponse;
+import com.ticketing.entity.Priority;
+import com.ticketing.entity.Role;
+import com.ticketing.entity.Status;
+import com.ticketing.entity.Ticket;
+import com.ticketing.entity.User;
+import com.ticketing.repository.TicketRepository;
+import com.ticketing.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Testcontainers
+@Transactional
+class TicketSearchServiceQueryCountTest {
+    @Container
+    @SuppressWarnings("resource")
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+    }
+
+    @Autowired
+    private TicketSearchService ticketSearchService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User owner;
+    private User agent;
+
+    @BeforeEach
+    void setUp() {
+        owner = createUser("search-owner@test.com", "Search Owner", Role.USER);
+        agent = createUser("search-agent@test.com", "Search Agent", Role.AGENT);
+        User otherOwner = createUser("search-other@test.com", "Other Owner", Role.USER);
+
+        for (int i = 0; i < 10; i++) {
+            createTicket("Printer jam " + i, i % 2 == 0 ? owner : otherOwner, i % 3 == 0 ? agent : null);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testSearchUsesContentAndCountQueriesOnly() {
+        TicketSearchRequest request = new TicketSearchRequest();
+        request.setQ("printer");
+        request.setSize(5);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        TicketSearchResponse response = ticketSearchService.search(request, agent);
+
+        assertEquals(5, response.getContent().size());
+        assertEquals(10L, response.getTotalElements());
+        assertEquals(2L, statistics.getPrepareStatementCount());
+        assertEquals(0L, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testSearchProjectsOwnerAndAssigneeNames() {
+        TicketSearchRequest request = new TicketSearchRequest();
+        request.setAssignee(agent.getId());
+
+        TicketSearchResponse response = ticketSearchService.search(request, agent);
+
+        assertFalse(response.getContent().isEmpty());
+        for (TicketResponse ticket : response.getContent()) {
+            assertEquals(agent.getId(), ticket.getAssigneeId());
+            assertEquals("Search Agent", ticket.getAssigneeName());
+            assertNotNull(ticket.getOwnerName());
+        }
+    }
+
+    @Test
+    void testAccessCheckIsAppliedInQuery() {
+        TicketSearchRequest request = new TicketSearchRequest();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        TicketSearchResponse response = ticketSearchService.search(request, owner);
+
+        assertEquals(5L, response.getTotalElements());
+        assertTrue(response.getContent().stream().allMatch(t -> t.getOwnerId().equals(owner.getId())));
+        assertEquals(2L, statistics.getPrepareStatementCount());
+    }
+
+    private User createUser(String email, String name, Role role) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPasswordHash("hash");
+        user.setFullName(name);
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    private void createTicket(String title, User ticketOwner, User assignee) {
+        Ticket ticket = new Ticket();
+        ticket.setTitle(title);
+        ticket.setDescription("Paper stuck in tray");
+        ticket.setPriority(Priority.MEDIUM);
+        ticket.setStatus(Status.OPEN);
+        ticket.setOwner(ticketOwner);
+        ticket.setAssignee(assignee);
+        ticket.setSlaDueAt(LocalDateTime.now().plusHours(24));
+        ticketRepository.save(ticket);
+    }
+}
@@ -0,0 +1,120 @@
+package com.ticketing.service;
+
+import com.ticketing.dto.TicketRequest;
+import com.ticketing.dto.TicketResponse;
+import com.ticketing.dto.TriagePredictionResponse;
+import com.ticketing.entity.Priority;
+import com.ticketing.entity.Status;
+import com.ticketing.entity.Ticket;
+import com.ticketing.entity.User;
+import com.ticketing.repository.TicketRepository;
+import com.ticketing.search.DuplicateTicketDetector;
+import com.ticketing.search.TicketChangedEvent;
+import com.ticketing.triage.TicketTriagedEvent;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketServiceTest {
+    private static final String OUTAGE = "Since about 9am nobody on the finance floor can open the payroll portal, "
+            + "the page spins and then shows a gateway timeout error";
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private DuplicateTicketDetector duplicateDetector;
+    private TicketService ticketService;
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        duplicateDetector = new DuplicateTicketDetector(entityManager, 72, 0.6, 0.85, 5);
+        ticketService = new TicketService(ticketRepository, userService, eventPublisher, duplicateDetector);
+        owner = new User();
+        owner.setId(3L);
+        owner.setFullName("Finance Clerk");
+        when(ticketRepository.save(any(Ticket.class))).thenAnswer(invocation -> {
+            Ticket ticket = invocation.getArgument(0);
+            ticket.setId(100L);
+            return ticket;
+        });
+    }
+
+    @Test
+    void testCreateTicketLinksNearDuplicateToRootParent() {
+        duplicateDetector.onTicketChanged(new TicketChangedEvent(7L, "Payroll portal down", OUTAGE, Status.OPEN,
+                Priority.HIGH, 2L, null));
+        when(ticketRepository.findDuplicateOfId(7L)).thenReturn(5L);
+
+        TicketResponse response = ticketService.createTicket(request("Payroll portal down", OUTAGE), owner);
+
+        assertEquals(List.of(7L), response.getPossibleDuplicateIds());
+        assertEquals(5L, response.getDuplicateOfId());
+    }
+
+    @Test
+    void testCreateTicketWithoutDuplicatesIsNotLinked() {
+        TicketResponse response = ticketService.createTicket(
+                request("Printer jammed", "The big printer keeps jamming on double sided jobs"), owner);
+
+        assertTrue(response.getPossibleDuplicateIds().isEmpty());
+        assertNull(response.getDuplicateOfId());
+        verify(ticketRepository, never()).findDuplicateOfId(any());
+    }
+
+    @Test
+    void testTriagedTicketRecordsCategoryAndAssignee() {
+        User agent = new User();
+        agent.setId(9L);
+        agent.setFullName("Support Agent");
+        when(userService.findById(9L)).thenReturn(agent);
+        TriagePredictionResponse triage = new TriagePredictionResponse("Payroll", Priority.HIGH,
+                new BigDecimal("0.80"), 9L, new BigDecimal("0.70"), List.of("down"));
+
+        TicketResponse response = ticketService.createTicketWithTriage(request("Payroll portal down", OUTAGE),
+                owner, triage);
+
+        assertEquals(Priority.HIGH, response.getPriority());
+        assertEquals(9L, response.getAssigneeId());
+        assertEquals(3, response.getUrgencyScore());
+        ArgumentCaptor<Ticket> saved = ArgumentCaptor.forClass(Ticket.class);
+        verify(ticketRepository).save(saved.capture());
+        assertEquals("Payroll", saved.getValue().getTriageCategory());
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(3)).publishEvent(events.capture());
+        TicketTriagedEvent triaged = (TicketTriagedEvent) events.getAllValues().get(2);
+        assertEquals(100L, triaged.getTicketId());
+        assertEquals(9L, triaged.getAssigneeId());
+        assertEquals("Payroll", triaged.getCategory());
+    }
+
+    private TicketRequest request(String title, String description) {
+        TicketRequest request = new TicketRequest();
+        request.setTitle(title);
+        request.setDescription(description);
+        request.setPriority(Priority.MEDIUM);
+        return request;
+    }
+}
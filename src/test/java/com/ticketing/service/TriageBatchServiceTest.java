@@ -0,0 +1,133 @@
+package com.ticketing.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketing.dto.TriagePredictionRequest;
+import com.ticketing.dto.TriagePredictionResponse;
+import com.ticketing.entity.Role;
+import com.ticketing.entity.User;
+import com.ticketing.repository.TicketRepository;
+import com.ticketing.repository.UserRepository;
+import com.ticketing.triage.AgentRoster;
+import com.ticketing.triage.TriageDictionaryManager;
+import com.ticketing.triage.TriageModelManager;
+import com.ticketing.triage.TriagePredictionCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TriageBatchServiceTest {
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private TriageLogWriter triageLogWriter;
+
+    private TriageService triageService;
+    private TriageBatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        TriageDictionaryManager dictionaryManager = new TriageDictionaryManager(
+                new DefaultResourceLoader(), new ObjectMapper(), "classpath:triage/dictionary.json");
+        AgentRoster roster = new AgentRoster(userRepository, ticketRepository);
+        triageService = new TriageService(triageLogWriter, dictionaryManager, roster,
+                new TriageModelManager(TriageModelManager.RULES, "target/no-triage-model.bin", 50),
+                new TriagePredictionCache(0, 0, 0, 0));
+        batchService = new TriageBatchService(triageService, roster, 100, 4, 16, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchService.shutdown();
+    }
+
+    @Test
+    void testBatchMatchesSinglePredictionsInOrderAndSpreadsAssignees() {
+        when(userRepository.findByRoleIn(anyCollection())).thenReturn(List.of(agent(1L), agent(2L)));
+        when(ticketRepository.findOpenAssignments()).thenReturn(new ArrayList<>());
+
+        List<TriagePredictionRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            requests.add(i % 2 == 0
+                    ? request("Database query slow " + i, "Reports time out")
+                    : request("Question about invoice " + i, "How do I download it?"));
+        }
+
+        List<TriagePredictionResponse> responses = batchService.predictBatch(requests, false);
+
+        assertEquals(20, responses.size());
+        long firstAgent = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            TriagePredictionResponse single = triageService.score(requests.get(i));
+            assertEquals(single.getCategory(), responses.get(i).getCategory());
+            assertEquals(single.getSuggestedPriority(), responses.get(i).getSuggestedPriority());
+            assertEquals(single.getUrgencyScore(), responses.get(i).getUrgencyScore());
+            if (responses.get(i).getSuggestedAssigneeId() == 1L) {
+                firstAgent++;
+            }
+        }
+        assertEquals(10, firstAgent);
+        verify(userRepository, times(1)).findByRoleIn(anyCollection());
+        verifyNoInteractions(triageLogWriter);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testBatchLoggingUsesSingleWrite() {
+        when(userRepository.findByRoleIn(anyCollection())).thenReturn(List.of());
+        when(ticketRepository.findOpenAssignments()).thenReturn(new ArrayList<>());
+
+        batchService.predictBatch(List.of(request("Server down", "Outage"), request("Hello", "Question")), true);
+
+        ArgumentCaptor<List<TriageLogEntry>> entries = ArgumentCaptor.forClass(List.class);
+        verify(triageLogWriter, times(1)).writeBatch(entries.capture());
+        assertEquals(2, entries.getValue().size());
+        assertEquals("Server down", entries.getValue().get(0).getInputTitle());
+        assertNull(entries.getValue().get(0).getTicketId());
+        verify(triageLogWriter, never()).submit(any());
+    }
+
+    @Test
+    void testRejectsInvalidBatches() {
+        assertThrows(RuntimeException.class, () -> batchService.predictBatch(List.of(), false));
+        assertThrows(RuntimeException.class,
+                () -> batchService.predictBatch(List.of(request("Title", " ")), false));
+
+        List<TriagePredictionRequest> tooMany = new ArrayList<>();
+        for (int i = 0; i < 101; i++) {
+            tooMany.add(request("Title", "Description"));
+        }
+        assertThrows(RuntimeException.class, () -> batchService.predictBatch(tooMany, false));
+        verifyNoInteractions(userRepository, triageLogWriter);
+    }
+
+    private TriagePredictionRequest request(String title, String description) {
+        TriagePredictionRequest request = new TriagePredictionRequest();
+        request.setTitle(title);
+        request.setDescription(description);
+        return request;
+    }
+
+    private User agent(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setRole(Role.AGENT);
+        return user;
+    }
+}
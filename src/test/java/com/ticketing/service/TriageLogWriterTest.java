@@ -0,0 +1,75 @@
+package com.ticketing.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TriageLogWriterTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testEntriesWrittenInBatchesAndDrainedOnStop() throws Exception {
+        TriageLogWriter writer = new TriageLogWriter(jdbcTemplate, 100, 2, 50, 0);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(writer.submit(entry(i)));
+        }
+
+        writer.start();
+        writer.stop();
+
+        ArgumentCaptor<Collection<TriageLogEntry>> batches = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, atLeast(3)).batchUpdate(contains("INSERT INTO triage_logs"), batches.capture(),
+                anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertTrue(batches.getAllValues().stream().allMatch(batch -> batch.size() <= 2));
+        assertEquals(5L, writer.getMetrics().get("written"));
+        assertEquals(0L, writer.getMetrics().get("queued"));
+    }
+
+    @Test
+    void testFullQueueDropsEntries() {
+        TriageLogWriter writer = new TriageLogWriter(jdbcTemplate, 2, 10, 50, 1);
+
+        assertTrue(writer.submit(entry(1)));
+        assertTrue(writer.submit(entry(2)));
+        assertFalse(writer.submit(entry(3)));
+
+        assertEquals(2L, writer.getMetrics().get("enqueued"));
+        assertEquals(1L, writer.getMetrics().get("throttled"));
+        assertEquals(1L, writer.getMetrics().get("dropped"));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFailedBatchIsCounted() throws Exception {
+        when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class))).thenThrow(new RuntimeException("db down"));
+        TriageLogWriter writer = new TriageLogWriter(jdbcTemplate, 10, 10, 50, 0);
+
+        writer.submit(entry(1));
+        writer.flushRemaining();
+
+        assertEquals(0L, writer.getMetrics().get("written"));
+        assertEquals(1L, writer.getMetrics().get("failed"));
+    }
+
+    private TriageLogEntry entry(long ticketId) {
+        return new TriageLogEntry(ticketId, "title", "description", "HIGH", new BigDecimal("0.70"), null,
+                new BigDecimal("0.55"), LocalDateTime.now());
+    }
+}
@@ -1,22 +1,29 @@
 package com.ticketing.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ticketing.dto.TriagePredictionRequest;
 import com.ticketing.dto.TriagePredictionResponse;
 import com.ticketing.entity.Priority;
 import com.ticketing.entity.Role;
 import com.ticketing.entity.User;
-import com.ticketing.repository.TriageLogRepository;
+import com.ticketing.repository.TicketRepository;
 import com.ticketing.repository.UserRepository;
+import com.ticketing.triage.AgentRoster;
+import com.ticketing.triage.TriageDictionaryManager;
+import com.ticketing.triage.TriageModelManager;
+import com.ticketing.triage.TriagePredictionCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.DefaultResourceLoader;
 
 import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,14 +32,22 @@ class TriageServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private TriageLogRepository triageLogRepository;
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private TriageLogWriter triageLogWriter;
 
     private TriageService triageService;
     private User agentUser;
 
     @BeforeEach
     void setUp() {
-        triageService = new TriageService(userRepository, triageLogRepository);
+        TriageDictionaryManager dictionaryManager = new TriageDictionaryManager(
+                new DefaultResourceLoader(), new ObjectMapper(), "classpath:triage/dictionary.json");
+        triageService = new TriageService(triageLogWriter, dictionaryManager,
+                new AgentRoster(userRepository, ticketRepository),
+                new TriageModelManager(TriageModelManager.RULES, "target/no-triage-model.bin", 50),
+                new TriagePredictionCache(0, 0, 0, 0));
 
         agentUser = new User();
         agentUser.setId(1L);
@@ -40,8 +55,8 @@ class TriageServiceTest {
         agentUser.setEmail("agent@example.com");
         agentUser.setFullName("Agent User");
 
-        when(userRepository.findByRole(Role.AGENT)).thenReturn(Arrays.asList(agentUser));
-        when(triageLogRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepository.findByRoleIn(anyCollection())).thenReturn(Arrays.asList(agentUser));
+        when(triageLogWriter.submit(any())).thenReturn(true);
     }
 
     @Test
@@ -0,0 +1,86 @@
+package com.ticketing.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UploadInputStreamTest {
+    private static final long LIMIT = 4096;
+
+    @Test
+    void testHashAndSizeComputedWhileStreaming() throws Exception {
+        byte[] content = "Printer on floor 3 is jammed again.\n".repeat(50).getBytes(StandardCharsets.UTF_8);
+        UploadInputStream upload = new UploadInputStream(new ByteArrayInputStream(content), LIMIT, "text/plain");
+
+        upload.transferTo(OutputStream.nullOutputStream());
+        upload.finish();
+
+        assertEquals(content.length, upload.getSize());
+        assertEquals(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)),
+                upload.getSha256());
+    }
+
+    @Test
+    void testAbortsAsSoonAsLimitIsExceeded() {
+        CountingInputStream source = new CountingInputStream(new byte[(int) LIMIT * 16]);
+        InputStream upload = new UploadInputStream(source, LIMIT, "application/octet-stream");
+
+        assertThrows(RuntimeException.class, () -> upload.transferTo(OutputStream.nullOutputStream()));
+        assertTrue(source.consumed < LIMIT * 16);
+    }
+
+    @Test
+    void testContentMustMatchExtension() {
+        byte[] zeros = new byte[1024];
+        UploadInputStream fakePng = new UploadInputStream(new ByteArrayInputStream(zeros), LIMIT, "image/png");
+        assertThrows(RuntimeException.class, () -> fakePng.transferTo(OutputStream.nullOutputStream()));
+
+        byte[] pdf = "%PDF-1.4 tiny".getBytes(StandardCharsets.US_ASCII);
+        UploadInputStream pdfAsText = new UploadInputStream(new ByteArrayInputStream(pdf), LIMIT, "text/plain");
+        assertDoesNotThrow(() -> pdfAsText.transferTo(OutputStream.nullOutputStream()));
+        assertThrows(RuntimeException.class, pdfAsText::finish);
+    }
+
+    @Test
+    void testSniffRecognisesSignatures() {
+        assertEquals("image/png", sniff(new byte[] {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n', 0}));
+        assertEquals("image/jpeg", sniff(new byte[] {(byte) 0xff, (byte) 0xd8, (byte) 0xff, (byte) 0xe0}));
+        assertEquals("application/pdf", sniff("%PDF-1.7".getBytes(StandardCharsets.US_ASCII)));
+        assertEquals("text/plain", sniff("plain words".getBytes(StandardCharsets.US_ASCII)));
+        assertEquals("application/octet-stream", sniff(new byte[] {'M', 'Z', 0, 0}));
+    }
+
+    @Test
+    void testEmptyUploadRejected() {
+        UploadInputStream upload = new UploadInputStream(new ByteArrayInputStream(new byte[0]), LIMIT, "text/plain");
+
+        assertThrows(RuntimeException.class, upload::finish);
+    }
+
+    private static String sniff(byte[] header) {
+        return UploadInputStream.sniff(header, header.length);
+    }
+
+    private static final class CountingInputStream extends ByteArrayInputStream {
+        private long consumed;
+
+        CountingInputStream(byte[] content) {
+            super(content);
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            int n = super.read(b, off, len);
+            consumed += Math.max(n, 0);
+            return n;
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package com.ticketing.storage;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class LocalS3Server implements AutoCloseable {
+    private static final Pattern PART_NUMBER = Pattern.compile("<PartNumber>(\\d+)</PartNumber>");
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d*)-(\\d*)");
+
+    private final HttpServer server;
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+    private final Set<Integer> failingParts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger partsInFlight = new AtomicInteger();
+    private final AtomicInteger maxPartsInFlight = new AtomicInteger();
+    private final AtomicInteger singlePuts = new AtomicInteger();
+    private final AtomicInteger completedUploads = new AtomicInteger();
+    private final AtomicInteger abortedUploads = new AtomicInteger();
+
+    public LocalS3Server() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    public String endpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public byte[] object(String bucket, String key) {
+        StoredObject object = objects.get(bucket + "/" + key);
+        return object != null ? object.content : null;
+    }
+
+    void failPart(int partNumber) {
+        failingParts.add(partNumber);
+    }
+
+    int maxPartsInFlight() {
+        return maxPartsInFlight.get();
+    }
+
+    int singlePuts() {
+        return singlePuts.get();
+    }
+
+    int completedUploads() {
+        return completedUploads.get();
+    }
+
+    int abortedUploads() {
+        return abortedUploads.get();
+    }
+
+    int openUploads() {
+        return uploads.size();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = URLDecoder.decode(exchange.getRequestURI().getRawPath(), StandardCharsets.UTF_8);
+            String objectPath = path.substring(1);
+            Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+            String method = exchange.getRequestMethod();
+
+            if (method.equals("PUT") && query.containsKey("uploadId")) {
+                uploadPart(exchange, query);
+            } else if (method.equals("PUT") && exchange.getRequestHeaders().containsKey("x-amz-copy-source")) {
+                copyObject(exchange, objectPath);
+            } else if (method.equals("PUT")) {
+                putObject(exchange, objectPath);
+            } else if (method.equals("POST") && query.containsKey("uploads")) {
+                String uploadId = UUID.randomUUID().toString();
+                uploads.put(uploadId, new ConcurrentHashMap<>());
+                String[] bucketAndKey = objectPath.split("/", 2);
+                sendXml(exchange, 200, "<InitiateMultipartUploadResult><Bucket>" + bucketAndKey[0] + "</Bucket>"
+                        + "<Key>" + bucketAndKey[1] + "</Key><UploadId>" + uploadId + "</UploadId>"
+                        + "</InitiateMultipartUploadResult>");
+            } else if (method.equals("POST") && query.containsKey("uploadId")) {
+                completeUpload(exchange, objectPath, query.get("uploadId"));
+            } else if (method.equals("DELETE") && query.containsKey("uploadId")) {
+                if (uploads.remove(query.get("uploadId")) != null) {
+                    abortedUploads.incrementAndGet();
+                }
+                exchange.sendResponseHeaders(204, -1);
+            } else if (method.equals("DELETE")) {
+                objects.remove(objectPath);
+                exchange.sendResponseHeaders(204, -1);
+            } else if (method.equals("GET") || method.equals("HEAD")) {
+                getObject(exchange, objectPath, method.equals("HEAD"));
+            } else {
+                sendError(exchange, 405, "MethodNotAllowed");
+            }
+        }
+    }
+
+    private void putObject(HttpExchange exchange, String objectPath) throws IOException {
+        byte[] content = readBody(exchange);
+        String checksum = exchange.getRequestHeaders().getFirst("x-amz-checksum-sha256");
+        if (checksum != null && !checksum.equals(sha256(content))) {
+            sendError(exchange, 400, "BadDigest");
+            return;
+        }
+        objects.put(objectPath, new StoredObject(content, md5(content),
+                exchange.getRequestHeaders().getFirst("Content-Type"), checksum));
+        singlePuts.incrementAndGet();
+        exchange.getResponseHeaders().add("ETag", "\"" + md5(content) + "\"");
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void copyObject(HttpExchange exchange, String objectPath) throws IOException {
+        String source = URLDecoder.decode(exchange.getRequestHeaders().getFirst("x-amz-copy-source"),
+                StandardCharsets.UTF_8);
+        StoredObject object = objects.get(source.startsWith("/") ? source.substring(1) : source);
+        if (object == null) {
+            sendError(exchange, 404, "NoSuchKey");
+            return;
+        }
+        objects.put(objectPath, new StoredObject(object.content, object.etag, object.contentType, object.checksum));
+        sendXml(exchange, 200, "<CopyObjectResult><ETag>\"" + object.etag + "\"</ETag></CopyObjectResult>");
+    }
+
+    private void uploadPart(HttpExchange exchange, Map<String, String> query) throws IOException {
+        int partNumber = Integer.parseInt(query.get("partNumber"));
+        int inFlight = partsInFlight.incrementAndGet();
+        maxPartsInFlight.accumulateAndGet(inFlight, Math::max);
+        try {
+            byte[] content = readBody(exchange);
+            Map<Integer, byte[]> parts = uploads.get(query.get("uploadId"));
+            if (parts == null) {
+                sendError(exchange, 404, "NoSuchUpload");
+                return;
+            }
+            if (failingParts.contains(partNumber)) {
+                sendError(exchange, 400, "InvalidPart");
+                return;
+            }
+            Thread.sleep(50);
+            parts.put(partNumber, content);
+            exchange.getResponseHeaders().add("ETag", "\"" + md5(content) + "\"");
+            exchange.sendResponseHeaders(200, -1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            partsInFlight.decrementAndGet();
+        }
+    }
+
+    private void completeUpload(HttpExchange exchange, String objectPath, String uploadId) throws IOException {
+        String body = new String(readBody(exchange), StandardCharsets.UTF_8);
+        Map<Integer, byte[]> parts = uploads.remove(uploadId);
+        if (parts == null) {
+            sendError(exchange, 404, "NoSuchUpload");
+            return;
+        }
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        Matcher matcher = PART_NUMBER.matcher(body);
+        int count = 0;
+        while (matcher.find()) {
+            byte[] part = parts.get(Integer.parseInt(matcher.group(1)));
+            if (part == null) {
+                sendError(exchange, 400, "InvalidPart");
+                return;
+            }
+            content.writeBytes(part);
+            count++;
+        }
+        byte[] bytes = content.toByteArray();
+        String etag = md5(bytes) + "-" + count;
+        objects.put(objectPath, new StoredObject(bytes, etag, null, null));
+        completedUploads.incrementAndGet();
+        sendXml(exchange, 200, "<CompleteMultipartUploadResult><ETag>\"" + etag + "\"</ETag>"
+                + "</CompleteMultipartUploadResult>");
+    }
+
+    private void getObject(HttpExchange exchange, String objectPath, boolean headOnly) throws IOException {
+        StoredObject object = objects.get(objectPath);
+        if (object == null) {
+            sendError(exchange, 404, "NoSuchKey");
+            return;
+        }
+        String etag = "\"" + object.etag + "\"";
+        exchange.getResponseHeaders().add("ETag", etag);
+        exchange.getResponseHeaders().add("Last-Modified",
+                DateTimeFormatter.RFC_1123_DATE_TIME.format(object.lastModified));
+        exchange.getResponseHeaders().add("Accept-Ranges", "bytes");
+        if (object.contentType != null) {
+            exchange.getResponseHeaders().add("Content-Type", object.contentType);
+        }
+        if (object.checksum != null && "ENABLED".equals(exchange.getRequestHeaders().getFirst("x-amz-checksum-mode"))) {
+            exchange.getResponseHeaders().add("x-amz-checksum-sha256", object.checksum);
+        }
+        if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+
+        int start = 0;
+        int end = object.content.length - 1;
+        int status = 200;
+        String range = exchange.getRequestHeaders().getFirst("Range");
+        Matcher matcher = range != null ? RANGE.matcher(range) : null;
+        if (matcher != null && matcher.matches()) {
+            if (matcher.group(1).isEmpty()) {
+                start = Math.max(0, object.content.length - Integer.parseInt(matcher.group(2)));
+            } else {
+                start = Integer.parseInt(matcher.group(1));
+                if (!matcher.group(2).isEmpty()) {
+                    end = Math.min(end, Integer.parseInt(matcher.group(2)));
+                }
+            }
+            if (start >= object.content.length) {
+                exchange.getResponseHeaders().add("Content-Range", "bytes */" + object.content.length);
+                sendError(exchange, 416, "InvalidRange");
+                return;
+            }
+            status = 206;
+            exchange.getResponseHeaders().add("Content-Range",
+                    "bytes " + start + "-" + end + "/" + object.content.length);
+        }
+
+        int length = end - start + 1;
+        exchange.getResponseHeaders().add("Content-Length", String.valueOf(length));
+        exchange.sendResponseHeaders(status, headOnly ? -1 : length);
+        if (!headOnly) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(object.content, start, length);
+            }
+        }
+    }
+
+    private static byte[] readBody(HttpExchange exchange) throws IOException {
+        byte[] raw;
+        try (InputStream in = exchange.getRequestBody()) {
+            raw = in.readAllBytes();
+        }
+        String contentSha256 = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+        return contentSha256 != null && contentSha256.startsWith("STREAMING-") ? decodeAwsChunked(raw) : raw;
+    }
+
+    private static byte[] decodeAwsChunked(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int pos = 0;
+        while (pos < raw.length) {
+            int lineEnd = pos;
+            while (raw[lineEnd] != '\r') {
+                lineEnd++;
+            }
+            String header = new String(raw, pos, lineEnd - pos, StandardCharsets.US_ASCII);
+            int semicolon = header.indexOf(';');
+            int size = Integer.parseInt(semicolon >= 0 ? header.substring(0, semicolon) : header, 16);
+            pos = lineEnd + 2;
+            if (size == 0) {
+                break;
+            }
+            out.write(raw, pos, size);
+            pos += size + 2;
+        }
+        return out.toByteArray();
+    }
+
+    private static void sendXml(HttpExchange exchange, int status, String xml) throws IOException {
+        byte[] body = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + xml).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String code) throws IOException {
+        sendXml(exchange, status, "<Error><Code>" + code + "</Code><Message>" + code + "</Message></Error>");
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = URLDecoder.decode(eq >= 0 ? pair.substring(0, eq) : pair, StandardCharsets.UTF_8);
+            String value = eq >= 0 ? URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8) : "";
+            params.put(name, value);
+        }
+        return params;
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String md5(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class StoredObject {
+        private final byte[] content;
+        private final String etag;
+        private final String contentType;
+        private final String checksum;
+        private final ZonedDateTime lastModified = ZonedDateTime.now(ZoneOffset.UTC).withNano(0);
+
+        StoredObject(byte[] content, String etag, String contentType, String checksum) {
+            this.content = content;
+            this.etag = etag;
+            this.contentType = contentType;
+            this.checksum = checksum;
+        }
+    }
+}
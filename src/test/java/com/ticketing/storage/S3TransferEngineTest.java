@@ -0,0 +1,166 @@
+package com.ticketing.storage;
+
+import com.ticketing.config.S3Properties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class S3TransferEngineTest {
+    private static final String BUCKET = "attachments";
+
+    @TempDir
+    Path tempDir;
+
+    private LocalS3Server server;
+    private S3TransferEngine engine;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new LocalS3Server();
+        S3Properties properties = new S3Properties();
+        properties.setEnabled(true);
+        properties.setBucket(BUCKET);
+        properties.setEndpoint(server.endpoint());
+        properties.setPathStyleAccess(true);
+        properties.setAccessKeyId("test");
+        properties.setSecretAccessKey("test");
+        properties.setMultipartThresholdBytes(S3TransferEngine.MIN_PART_SIZE);
+        properties.setPartSizeBytes(S3TransferEngine.MIN_PART_SIZE);
+        properties.setMaxConcurrentParts(3);
+        engine = new S3TransferEngine(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.close();
+        server.close();
+    }
+
+    @Test
+    void testSmallFileIsSentInOneRequest() throws IOException {
+        byte[] content = randomBytes(64 * 1024);
+        Path file = write(content);
+
+        S3TransferEngine.await(engine.upload("blobs/small", file, "application/pdf"));
+
+        assertEquals(1, server.singlePuts());
+        assertEquals(0, server.completedUploads());
+        assertArrayEquals(content, server.object(BUCKET, "blobs/small"));
+        try (ResponseInputStream<GetObjectResponse> in = engine.openStream("blobs/small")) {
+            assertArrayEquals(content, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void testLargeFileIsUploadedAsConcurrentParts() throws IOException {
+        byte[] content = randomBytes((int) (S3TransferEngine.MIN_PART_SIZE * 3 + 12345));
+        Path file = write(content);
+
+        S3TransferEngine.await(engine.upload("blobs/large", file, "application/pdf"));
+
+        assertEquals(0, server.singlePuts());
+        assertEquals(1, server.completedUploads());
+        assertTrue(server.maxPartsInFlight() > 1, "parts should be transferred concurrently");
+        assertTrue(server.maxPartsInFlight() <= 3);
+        assertArrayEquals(content, server.object(BUCKET, "blobs/large"));
+    }
+
+    @Test
+    void testFailedPartAbortsMultipartUpload() throws IOException {
+        server.failPart(2);
+        Path file = write(randomBytes((int) (S3TransferEngine.MIN_PART_SIZE * 2 + 1)));
+
+        assertThrows(IOException.class,
+                () -> S3TransferEngine.await(engine.upload("blobs/broken", file, "application/pdf")));
+
+        assertEquals(1, server.abortedUploads());
+        assertEquals(0, server.openUploads());
+        assertNull(server.object(BUCKET, "blobs/broken"));
+    }
+
+    @Test
+    void testRangedDownloadIsStreamed() throws IOException {
+        byte[] content = randomBytes(200_000);
+        S3TransferEngine.await(engine.upload("blobs/ranged", write(content), "image/png"));
+
+        ObjectDownload download = S3TransferEngine.await(engine.download("blobs/ranged", "bytes=1000-1999", null));
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        SdkPublisher.adapt(download.getBody()).subscribe(buffer -> {
+            byte[] chunk = new byte[buffer.remaining()];
+            buffer.get(chunk);
+            received.writeBytes(chunk);
+        }).join();
+
+        assertEquals("bytes 1000-1999/200000", download.getContentRange());
+        assertArrayEquals(Arrays.copyOfRange(content, 1000, 2000), received.toByteArray());
+    }
+
+    @Test
+    void testMissingObjectFailsWithIOException() {
+        assertThrows(IOException.class, () -> engine.openStream("blobs/missing"));
+    }
+
+    @Test
+    void testPresignedPutIsBoundToDeclaredChecksum() throws Exception {
+        byte[] content = "%PDF-1.7 uploaded straight to the bucket".getBytes(StandardCharsets.US_ASCII);
+        String sha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        PresignedUpload presigned = engine.presignPut("staging/direct", "application/pdf", content.length, sha256,
+                Duration.ofMinutes(5));
+
+        assertEquals(200, put(presigned, content).statusCode());
+        assertEquals(400, put(presigned, "%PDF-1.7 something else".getBytes(StandardCharsets.US_ASCII)).statusCode());
+
+        StoredObject object = S3TransferEngine.await(engine.head("staging/direct"));
+        assertEquals(content.length, object.getSize());
+        assertEquals(sha256, object.getSha256());
+        assertArrayEquals(Arrays.copyOf(content, 8), S3TransferEngine.await(engine.readRange("staging/direct", 0, 8)));
+        assertNull(S3TransferEngine.await(engine.head("staging/missing")));
+
+        S3TransferEngine.await(engine.copy("staging/direct", "blobs/direct"));
+        assertArrayEquals(content, server.object(BUCKET, "blobs/direct"));
+    }
+
+    private static HttpResponse<Void> put(PresignedUpload presigned, byte[] content) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(presigned.getUrl()))
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(content));
+        presigned.getHeaders().forEach((name, value) -> {
+            if (!name.equalsIgnoreCase("content-length")) {
+                request.header(name, value);
+            }
+        });
+        return HttpClient.newHttpClient().send(request.build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    private Path write(byte[] content) throws IOException {
+        Path file = Files.createTempFile(tempDir, "upload-", ".part");
+        Files.write(file, content);
+        return file;
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        return content;
+    }
+}
@@ -0,0 +1,118 @@
+package com.ticketing.storage;
+
+import com.ticketing.config.S3Properties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TieredAttachmentStoreTest {
+    private static final String BUCKET = "attachments";
+
+    @TempDir
+    Path tempDir;
+
+    private LocalS3Server server;
+    private LocalAttachmentStore hot;
+    private TieredAttachmentStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new LocalS3Server();
+        S3Properties properties = new S3Properties();
+        properties.setEnabled(true);
+        properties.setBucket(BUCKET);
+        properties.setEndpoint(server.endpoint());
+        properties.setPathStyleAccess(true);
+        properties.setAccessKeyId("test");
+        properties.setSecretAccessKey("test");
+        hot = new LocalAttachmentStore(tempDir);
+        store = new TieredAttachmentStore(hot, new S3AttachmentStore(new S3TransferEngine(properties)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+        server.close();
+    }
+
+    @Test
+    void testNewObjectsLandOnLocalTier() throws IOException {
+        byte[] content = put("blobs/aa/bb/fresh", "fresh upload");
+
+        assertNotNull(store.findLocal("blobs/aa/bb/fresh"));
+        assertNull(server.object(BUCKET, "blobs/aa/bb/fresh"));
+        assertTrue(store.presignGet("blobs/aa/bb/fresh", Duration.ofMinutes(5)).isEmpty());
+        try (InputStream in = store.open("blobs/aa/bb/fresh")) {
+            assertArrayEquals(content, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void testOldObjectsMigrateToColdTierAndStayReadable() throws IOException {
+        byte[] content = put("blobs/aa/bb/old", "written last month");
+        age("blobs/aa/bb/old", Duration.ofDays(30));
+
+        int migrated = store.migrateColdObjects(Instant.now().minus(Duration.ofDays(7)), key -> "text/plain", 100);
+
+        assertEquals(1, migrated);
+        assertNull(store.findLocal("blobs/aa/bb/old"));
+        assertArrayEquals(content, server.object(BUCKET, "blobs/aa/bb/old"));
+        assertTrue(store.presignGet("blobs/aa/bb/old", Duration.ofMinutes(5)).isPresent());
+        try (InputStream in = store.open("blobs/aa/bb/old")) {
+            assertArrayEquals(content, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void testRecentObjectsAndSpoolFilesStayLocal() throws IOException {
+        put("blobs/aa/bb/recent", "still hot");
+        Path spool = store.createSpoolFile();
+        Files.writeString(spool, "half written");
+        Files.setLastModifiedTime(spool, FileTime.from(Instant.now().minus(Duration.ofDays(30))));
+
+        int migrated = store.migrateColdObjects(Instant.now().minus(Duration.ofDays(7)), key -> "text/plain", 100);
+
+        assertEquals(0, migrated);
+        assertNotNull(store.findLocal("blobs/aa/bb/recent"));
+        assertTrue(Files.exists(spool));
+        assertNull(server.object(BUCKET, "blobs/aa/bb/recent"));
+    }
+
+    @Test
+    void testDeleteRemovesObjectFromBothTiers() throws IOException {
+        put("blobs/aa/bb/gone", "delete me");
+        age("blobs/aa/bb/gone", Duration.ofDays(30));
+        store.migrateColdObjects(Instant.now().minus(Duration.ofDays(7)), key -> "text/plain", 100);
+        put("blobs/aa/bb/local", "delete me too");
+
+        store.delete("blobs/aa/bb/gone");
+        store.delete("blobs/aa/bb/local");
+
+        assertNull(server.object(BUCKET, "blobs/aa/bb/gone"));
+        assertNull(store.findLocal("blobs/aa/bb/local"));
+    }
+
+    private byte[] put(String key, String text) throws IOException {
+        byte[] content = text.getBytes(StandardCharsets.UTF_8);
+        Path spool = store.createSpoolFile();
+        Files.write(spool, content);
+        store.put(key, spool, "text/plain");
+        return content;
+    }
+
+    private void age(String key, Duration age) throws IOException {
+        Files.setLastModifiedTime(hot.findLocal(key), FileTime.from(Instant.now().minus(age)));
+    }
+}
@@ -0,0 +1,120 @@
+package com.ticketing.triage;
+
+import com.ticketing.entity.Priority;
+import com.ticketing.entity.Role;
+import com.ticketing.entity.Status;
+import com.ticketing.entity.User;
+import com.ticketing.repository.TicketRepository;
+import com.ticketing.repository.UserRepository;
+import com.ticketing.search.TicketChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AgentRosterTest {
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    private AgentRoster roster;
+
+    @BeforeEach
+    void setUp() {
+        roster = new AgentRoster(userRepository, ticketRepository);
+        when(userRepository.findByRoleIn(anyCollection()))
+                .thenReturn(List.of(user(1L, Role.AGENT), user(2L, Role.AGENT), user(3L, Role.ADMIN)));
+    }
+
+    @Test
+    void testSpreadsLoadEvenlyWithoutRescanning() {
+        when(ticketRepository.findOpenAssignments()).thenReturn(new ArrayList<>());
+
+        Map<Long, Integer> picks = new HashMap<>();
+        for (long ticketId = 1; ticketId <= 30; ticketId++) {
+            Long assignee = roster.selectAssignee(Priority.LOW, null);
+            picks.merge(assignee, 1, Integer::sum);
+            roster.onTicketChanged(open(ticketId, assignee));
+        }
+
+        assertEquals(Map.of(1L, 10, 2L, 10, 3L, 10), picks);
+        verify(userRepository, times(1)).findByRoleIn(anyCollection());
+        verify(ticketRepository, times(1)).findOpenAssignments();
+    }
+
+    @Test
+    void testUrgentTicketsPreferLeastLoadedAdmin() {
+        when(ticketRepository.findOpenAssignments()).thenReturn(List.<Object[]>of(
+                new Object[] {10L, 3L}, new Object[] {11L, 3L}));
+
+        assertEquals(3L, roster.selectAssignee(Priority.CRITICAL, null));
+        assertNotEquals(3L, roster.selectAssignee(Priority.MEDIUM, null));
+    }
+
+    @Test
+    void testResolvingAndReassigningAdjustsCounts() {
+        when(ticketRepository.findOpenAssignments()).thenReturn(List.<Object[]>of(
+                new Object[] {10L, 1L}, new Object[] {11L, 1L}, new Object[] {12L, 2L}));
+        roster.reload();
+
+        roster.onTicketChanged(new TicketChangedEvent(10L, "t", "d", Status.RESOLVED, Priority.LOW, 9L, 1L));
+        roster.onTicketChanged(open(12L, 3L));
+
+        assertEquals(1, roster.openTicketCount(1L));
+        assertEquals(0, roster.openTicketCount(2L));
+        assertEquals(1, roster.openTicketCount(3L));
+        assertEquals(2L, roster.selectAssignee(Priority.LOW, null));
+    }
+
+    @Test
+    void testCategoryAffinityBreaksEvenLoad() {
+        when(ticketRepository.findOpenAssignments()).thenReturn(List.<Object[]>of(
+                new Object[] {10L, 1L}, new Object[] {11L, 2L}, new Object[] {12L, 3L}));
+        roster.reload();
+        roster.onTicketTriaged(new TicketTriagedEvent(10L, 2L, "Database"));
+
+        assertEquals(1.0, roster.affinity(2L, "Database"));
+        assertEquals(2L, roster.selectAssignee(Priority.LOW, "Database"));
+    }
+
+    @Test
+    void testReloadSeedsCategoryAffinityFromAssignedTickets() {
+        when(ticketRepository.findOpenAssignments()).thenReturn(List.<Object[]>of(
+                new Object[] {10L, 1L}, new Object[] {11L, 2L}, new Object[] {12L, 3L}));
+        when(ticketRepository.countTriagedCategoriesByAssignee()).thenReturn(List.<Object[]>of(
+                new Object[] {2L, "Database", 3L}, new Object[] {2L, "Network", 1L}));
+        roster.reload();
+
+        assertEquals(0.75, roster.affinity(2L, "Database"));
+        assertEquals(2L, roster.selectAssignee(Priority.LOW, "Database"));
+
+        roster.reload();
+        roster.onTicketTriaged(new TicketTriagedEvent(13L, 2L, "Network"));
+
+        assertEquals(0.4, roster.affinity(2L, "Network"));
+    }
+
+    private TicketChangedEvent open(long ticketId, Long assigneeId) {
+        return new TicketChangedEvent(ticketId, "t", "d", Status.OPEN, Priority.LOW, 9L, assigneeId);
+    }
+
+    private User user(Long id, Role role) {
+        User user = new User();
+        user.setId(id);
+        user.setRole(role);
+        return user;
+    }
+}
@@ -0,0 +1,106 @@
+package com.ticketing.triage;
+
+import com.ticketing.entity.Priority;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NaiveBayesModelTest {
+    private static final TriageFeatures NO_FEATURES = new TriageFeatures(List.of(), 0.0, 0.0, null, 0, 0, 10);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testTrainedModelRoundTripsThroughMappedFile() {
+        Path path = dir.resolve("model.bin");
+        NaiveBayesTrainer trainer = new NaiveBayesTrainer(12);
+        train(trainer, 0, 30);
+        trainer.writeTo(path);
+
+        NaiveBayesModel model = NaiveBayesModel.load(path);
+        assertEquals(12, model.getFeatureBits());
+        assertEquals(60, model.getSampleCount());
+        assertEquals(Instant.ofEpochSecond(29), model.getTrainedUntil());
+
+        NaiveBayesTriageClassifier classifier = new NaiveBayesTriageClassifier(model, new RuleBasedTriageClassifier());
+        TriageClassification payroll = classifier.classify("Payroll export stuck",
+                "the payroll ledger export never finishes", NO_FEATURES);
+        assertEquals(Priority.CRITICAL, payroll.getPriority());
+        assertEquals("Billing", payroll.getCategory());
+        assertTrue(payroll.getConfidence() > 0.9);
+
+        TriageClassification font = classifier.classify("Font colour", "change the footer font colour", NO_FEATURES);
+        assertEquals(Priority.LOW, font.getPriority());
+        assertEquals("Feature Request", font.getCategory());
+    }
+
+    @Test
+    void testIncrementalTrainingContinuesFromModel() {
+        Path path = dir.resolve("model.bin");
+        NaiveBayesTrainer trainer = new NaiveBayesTrainer(10);
+        train(trainer, 0, 10);
+        trainer.writeTo(path);
+
+        NaiveBayesTrainer resumed = NaiveBayesTrainer.from(NaiveBayesModel.load(path));
+        assertEquals(20, resumed.getSampleCount());
+        assertEquals(Instant.ofEpochSecond(9), resumed.getTrainedUntil());
+        train(resumed, 10, 15);
+        resumed.writeTo(path);
+
+        NaiveBayesModel model = NaiveBayesModel.load(path);
+        assertEquals(30, model.getSampleCount());
+        assertEquals(Instant.ofEpochSecond(14), model.getTrainedUntil());
+        assertEquals(15, model.priorities().docCount(0));
+    }
+
+    @Test
+    void testManagerUsesModelOnlyWhenEnabledAndLargeEnough() throws Exception {
+        Path path = dir.resolve("model.bin");
+        NaiveBayesTrainer trainer = new NaiveBayesTrainer(10);
+        train(trainer, 0, 10);
+        trainer.writeTo(path);
+
+        assertTrue(new TriageModelManager(TriageModelManager.RULES, path.toString(), 1).classifier()
+                instanceof RuleBasedTriageClassifier);
+        assertTrue(new TriageModelManager(TriageModelManager.NAIVE_BAYES, path.toString(), 100).classifier()
+                instanceof RuleBasedTriageClassifier);
+        TriageModelManager manager = new TriageModelManager(TriageModelManager.NAIVE_BAYES, path.toString(), 20);
+        assertEquals(20, manager.classifier().getTrainingDataSize());
+
+        Files.write(path, new byte[] {1, 2, 3});
+        assertThrows(RuntimeException.class, manager::reload);
+        assertEquals(20, manager.classifier().getTrainingDataSize());
+    }
+
+    @Test
+    void testFeatureHashingIsCaseInsensitiveAndBounded() {
+        int[] a = new int[FeatureHasher.MAX_FEATURES];
+        int[] b = new int[FeatureHasher.MAX_FEATURES];
+        int count = FeatureHasher.hash("Server DOWN", "now!", 0xFF, a);
+
+        assertEquals(4, count);
+        assertEquals(count, FeatureHasher.hash("server down", "NOW", 0xFF, b));
+        for (int i = 0; i < count; i++) {
+            assertEquals(a[i], b[i]);
+            assertTrue(a[i] >= 0 && a[i] <= 0xFF);
+        }
+        assertEquals(0, FeatureHasher.hash("a b c", "x y", 0xFF, a));
+        assertEquals(4, FeatureHasher.hash("alpha beta gamma delta", "epsilon", 0xFF, new int[4]));
+    }
+
+    private void train(NaiveBayesTrainer trainer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            trainer.add("Payroll export failed " + i, "The payroll ledger export crashed and invoices are stuck",
+                    "CRITICAL", "Billing", Instant.ofEpochSecond(i));
+            trainer.add("Change font " + i, "Please change the font colour of the footer",
+                    "LOW", "Feature Request", Instant.ofEpochSecond(i));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.ticketing.triage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TriageDictionaryManagerTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void testDefaultDictionaryCompiles() {
+        TriageDictionaryManager manager = new TriageDictionaryManager(new DefaultResourceLoader(),
+                new ObjectMapper(), "classpath:triage/dictionary.json");
+
+        TriageDictionary dictionary = manager.current();
+        assertEquals("1.0.0", dictionary.getVersion());
+        assertNotNull(dictionary.getCompiledAt());
+        assertEquals("Authentication",
+                dictionary.getMatcher().scan("Cannot login", "password reset").getCategory());
+    }
+
+    @Test
+    void testReloadSwapsMatcherOnlyWhenContentChanges() throws Exception {
+        Path file = dir.resolve("dictionary.json");
+        Files.writeString(file, "{\"version\": \"1\", \"urgency\": {\"outage\": 0.9}, \"categories\": {}}");
+        TriageDictionaryManager manager = new TriageDictionaryManager(new DefaultResourceLoader(),
+                new ObjectMapper(), file.toUri().toString());
+        TriageDictionary first = manager.current();
+
+        assertSame(first, manager.reload());
+
+        Files.writeString(file, "{\"version\": \"2\", \"urgency\": {\"outage\": 0.9, \"slow\": 0.4}, "
+                + "\"categories\": {\"vpn\": \"Network\"}}");
+        manager.reloadIfChanged();
+        TriageDictionary second = manager.current();
+
+        assertNotSame(first, second);
+        assertEquals("2", second.getVersion());
+        assertEquals("Network", second.getMatcher().scan("VPN slow", "").getCategory());
+        assertTrue(first.getMatcher().scan("VPN slow", "").getUrgencyKeywords().isEmpty());
+    }
+
+    @Test
+    void testInvalidDictionaryKeepsActiveVersion() throws Exception {
+        Path file = dir.resolve("dictionary.json");
+        Files.writeString(file, "{\"version\": \"1\", \"urgency\": {\"outage\": 0.9}, \"categories\": {}}");
+        TriageDictionaryManager manager = new TriageDictionaryManager(new DefaultResourceLoader(),
+                new ObjectMapper(), file.toUri().toString());
+
+        Files.writeString(file, "{\"version\": \"2\", \"urgency\": {\"outage\": 7}}");
+        assertThrows(RuntimeException.class, manager::reload);
+        manager.reloadIfChanged();
+
+        assertEquals("1", manager.current().getVersion());
+    }
+}
@@ -0,0 +1,82 @@
+package com.ticketing.triage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TriageMatcherTest {
+    @Test
+    void testOverlappingKeywordsAllReported() {
+        KeywordAutomaton automaton = KeywordAutomaton.compile(List.of("he", "she", "his", "hers"));
+        List<Integer> hits = new ArrayList<>();
+        int state = 0;
+        for (char ch : "USHERS".toCharArray()) {
+            state = automaton.step(state, ch);
+            for (int id : automaton.outputs(state)) {
+                hits.add(id);
+            }
+        }
+
+        assertTrue(hits.containsAll(List.of(0, 1, 3)));
+        assertFalse(hits.contains(2));
+    }
+
+    @Test
+    void testScanExtractsFeaturesInOnePass() {
+        TriageMatcher matcher = TriageMatcher.compile(
+                Map.of("critical", 0.9, "down", 0.85, "error", 0.7),
+                Map.of("server", "Infrastructure", "login", "Authentication"));
+
+        TriageFeatures features = matcher.scan("CRITICAL: Server DOWN!!", "Login error? again!");
+
+        assertEquals(List.of("critical", "down", "error"), features.getUrgencyKeywords());
+        assertEquals(0.9, features.getMaxUrgency(), 1e-9);
+        assertEquals(2.45, features.getUrgencyWeightSum(), 1e-9);
+        assertEquals("Infrastructure", features.getCategory());
+        assertEquals(3, features.getExclamationCount());
+        assertEquals(1, features.getQuestionCount());
+        assertEquals("CRITICAL: Server DOWN!! Login error? again!".length(), features.getTextLength());
+    }
+
+    @Test
+    void testMatchesSubstringSearchOnRandomText() {
+        Map<String, Double> urgency = new LinkedHashMap<>();
+        String[] words = {"critical", "urgent", "down", "broken", "error", "failed", "cannot", "unable",
+                "issue", "problem", "help", "question", "err", "or"};
+        for (int i = 0; i < words.length; i++) {
+            urgency.put(words[i], (i + 1) / 20.0);
+        }
+        TriageMatcher matcher = TriageMatcher.compile(urgency, Map.of());
+        Random random = new Random(42);
+        String alphabet = "abcdefghijklmnopqrstuvwxyz !?";
+
+        for (int round = 0; round < 500; round++) {
+            StringBuilder title = new StringBuilder();
+            StringBuilder description = new StringBuilder();
+            for (int i = 0; i < 40; i++) {
+                title.append(random.nextInt(4) == 0 ? words[random.nextInt(words.length)]
+                        : String.valueOf(alphabet.charAt(random.nextInt(alphabet.length()))));
+                description.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String combined = (title + " " + description).toLowerCase();
+
+            List<String> expected = new ArrayList<>();
+            for (String word : words) {
+                if (combined.contains(word)) {
+                    expected.add(word);
+                }
+            }
+            List<String> actual = new ArrayList<>(matcher.scan(title.toString(), description.toString())
+                    .getUrgencyKeywords());
+            expected.sort(null);
+            actual.sort(null);
+            assertEquals(expected, actual, combined);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.ticketing.triage;
+
+import com.ticketing.dto.TriagePredictionResponse;
+import com.ticketing.entity.Priority;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TriagePredictionCacheTest {
+    private static final Object DICTIONARY = new Object();
+    private static final Object CLASSIFIER = new Object();
+    private static final TriageMatcher MATCHER = TriageMatcher.compile(
+            Map.of("critical", 0.95, "urgent", 0.9, "down", 0.85, "timing out", 0.6),
+            Map.of("cpu", "Infrastructure", "password", "Authentication"));
+
+    private static final String ALERT = "CPU usage above 95% on host web-01 in the production cluster, "
+            + "load average is climbing and requests are timing out for customers in the EU region";
+
+    @Test
+    void testExactAndNearDuplicatesShareOnePrediction() {
+        TriagePredictionCache cache = new TriagePredictionCache(100, 60_000, 3, 4);
+        TriageFingerprint original = TriageFingerprint.of("High CPU alert", ALERT);
+        assertNull(lookup(cache, "High CPU alert", ALERT));
+        String clusterId = put(cache, "High CPU alert", ALERT, Priority.HIGH);
+
+        TriagePredictionResponse exact = lookup(cache, "HIGH cpu alert", ALERT);
+        assertNotNull(exact);
+        assertTrue(exact.isCached());
+        assertEquals(clusterId, exact.getDuplicateClusterId());
+        assertEquals(Priority.HIGH, exact.getSuggestedPriority());
+        assertNull(exact.getSuggestedAssigneeId());
+
+        TriageFingerprint near = TriageFingerprint.of("High CPU alert", ALERT.replace("web-01", "web-07"));
+        assertTrue(near.distance(original) <= 3, "distance " + near.distance(original));
+        TriagePredictionResponse nearHit = lookup(cache, "High CPU alert", ALERT.replace("web-01", "web-07"));
+        assertNotNull(nearHit);
+        assertEquals(clusterId, nearHit.getDuplicateClusterId());
+
+        assertNull(lookup(cache, "Password reset", "I cannot log in to the billing portal"));
+        assertEquals(1L, cache.getMetrics().get("exactHits"));
+        assertEquals(1L, cache.getMetrics().get("nearHits"));
+        assertEquals(2L, cache.getMetrics().get("entries"));
+    }
+
+    @Test
+    void testNearDuplicateThatGainsUrgencyKeywordIsScoredFresh() {
+        TriagePredictionCache cache = new TriagePredictionCache(100, 60_000, 3, 4);
+        String clusterId = put(cache, "High CPU alert", ALERT, Priority.MEDIUM);
+        String escalated = ALERT + " critical";
+        assertTrue(TriageFingerprint.of("High CPU alert", escalated)
+                .distance(TriageFingerprint.of("High CPU alert", ALERT)) <= 3);
+
+        assertNull(lookup(cache, "High CPU alert", escalated));
+        assertEquals(clusterId, put(cache, "High CPU alert", escalated, Priority.CRITICAL));
+
+        assertEquals(Priority.CRITICAL, lookup(cache, "High CPU alert", escalated).getSuggestedPriority());
+        assertEquals(Priority.MEDIUM, lookup(cache, "High CPU alert", ALERT).getSuggestedPriority());
+    }
+
+    @Test
+    void testEntriesAreInvalidatedByModelChangeAndBounded() {
+        TriagePredictionCache cache = new TriagePredictionCache(2, 60_000, 3, 4);
+        TriageFingerprint first = TriageFingerprint.of("Disk full", "volume data-1 is full on db host");
+        TriageFeatures features = MATCHER.scan("Disk full", "volume data-1 is full on db host");
+        put(cache, "Disk full", "volume data-1 is full on db host", Priority.CRITICAL);
+
+        assertNull(cache.lookup(first, features, new Object(), CLASSIFIER));
+        assertNull(cache.lookup(first, features, DICTIONARY, new Object()));
+
+        put(cache, "Printer jam", "third floor printer jammed again", Priority.LOW);
+        put(cache, "Invoice question", "why was I charged twice this month", Priority.MEDIUM);
+
+        assertEquals(2L, cache.getMetrics().get("entries"));
+        assertNull(lookup(cache, "Disk full", "volume data-1 is full on db host"));
+    }
+
+    @Test
+    void testShortTextsOnlyMatchExactly() {
+        TriagePredictionCache cache = new TriagePredictionCache(100, 60_000, 3, 4);
+        put(cache, "Help", "urgent", Priority.LOW);
+
+        assertNotNull(lookup(cache, "help", "URGENT"));
+        assertEquals(0, TriageFingerprint.of("a", "b").getTokenCount());
+    }
+
+    @Test
+    void testPunctuationThatDrivesUrgencyIsPartOfTheKey() {
+        TriagePredictionCache cache = new TriagePredictionCache(100, 60_000, 3, 4);
+        put(cache, "High CPU alert", ALERT, Priority.MEDIUM);
+
+        assertNull(lookup(cache, "High CPU alert!!!", ALERT));
+        assertNull(lookup(cache, "High CPU alert?", ALERT.replace("web-01", "web-07")));
+        assertNotNull(lookup(cache, "High CPU alert", ALERT));
+    }
+
+    @Test
+    void testTextsWithoutTokensAreNotCached() {
+        TriagePredictionCache cache = new TriagePredictionCache(100, 60_000, 3, 4);
+
+        assertNull(put(cache, "!!!", "?", Priority.CRITICAL));
+        assertNull(lookup(cache, "!!!", "?"));
+        assertNull(lookup(cache, "", "a b c"));
+        assertEquals(0L, cache.getMetrics().get("entries"));
+    }
+
+    private TriagePredictionResponse lookup(TriagePredictionCache cache, String title, String description) {
+        return cache.lookup(TriageFingerprint.of(title, description), MATCHER.scan(title, description),
+                DICTIONARY, CLASSIFIER);
+    }
+
+    private String put(TriagePredictionCache cache, String title, String description, Priority priority) {
+        return cache.put(TriageFingerprint.of(title, description), MATCHER.scan(title, description),
+                DICTIONARY, CLASSIFIER, response(priority));
+    }
+
+    private TriagePredictionResponse response(Priority priority) {
+        return new TriagePredictionResponse("General", priority, new BigDecimal("0.50"), 7L,
+                new BigDecimal("0.40"), List.of("alert"));
+    }
+}
@@ -2,7 +2,7 @@
 
 import { useState } from 'react'
 import useSWR from 'swr'
-import { fetcher } from '@/lib/fetcher'
+import { fetcher, pagedFetcher } from '@/lib/fetcher'
 import { Ticket, Status, User } from '@/lib/types'
 import { Layout } from '@/components/Layout'
 import { TicketList } from '@/components/TicketList'
@@ -12,7 +12,7 @@ import { mutate } from 'swr'
 import { CheckCircle, XCircle, UserPlus } from 'lucide-react'
 
 export function AgentContent() {
-  const { data: tickets, isLoading } = useSWR<Ticket[]>('/tickets', fetcher)
+  const { data: tickets, isLoading } = useSWR<Ticket[]>('/tickets', pagedFetcher)
   const { data: users } = useSWR<User[]>('/users', fetcher)
 
   const handleStatusChange = async (ticketId: number, status: Status) => {
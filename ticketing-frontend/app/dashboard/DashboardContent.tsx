@@ -2,7 +2,7 @@
 
 import { useState } from 'react'
 import useSWR from 'swr'
-import { fetcher } from '@/lib/fetcher'
+import { pagedFetcher } from '@/lib/fetcher'
 import { Ticket } from '@/lib/types'
 import { Layout } from '@/components/Layout'
 import { StatsDashboard } from '@/components/StatsDashboard'
@@ -14,7 +14,7 @@ import { mutate } from 'swr'
 
 export function DashboardContent() {
   const [showEditor, setShowEditor] = useState(false)
-  const { data: tickets, error, isLoading } = useSWR<Ticket[]>('/tickets', fetcher)
+  const { data: tickets, error, isLoading } = useSWR<Ticket[]>('/tickets', pagedFetcher)
 
   const handleCreateTicket = async (data: {
     title: string
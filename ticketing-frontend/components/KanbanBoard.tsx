@@ -20,7 +20,7 @@ import {
   verticalListSortingStrategy,
 } from '@dnd-kit/sortable'
 import useSWR from 'swr'
-import { fetcher } from '@/lib/fetcher'
+import { pagedFetcher } from '@/lib/fetcher'
 import { Ticket, Status } from '@/lib/types'
 import { apiClient } from '@/lib/api'
 import { mutate } from 'swr'
@@ -36,7 +36,7 @@ const columns: { id: Status; title: string }[] = [
 ]
 
 export function KanbanBoard() {
-  const { data: tickets, isLoading } = useSWR<Ticket[]>('/tickets', fetcher)
+  const { data: tickets, isLoading } = useSWR<Ticket[]>('/tickets', pagedFetcher)
   const [activeId, setActiveId] = useState<number | null>(null)
   const [ticketsByStatus, setTicketsByStatus] = useState<Record<Status, Ticket[]>>({
     [Status.OPEN]: [],
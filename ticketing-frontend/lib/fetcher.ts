@@ -2,7 +2,10 @@ import { getTokenFromCookie } from './api'
 
 const API_URL = process.env.NEXT_PUBLIC_API_URL || 'http://localhost:8080/api'
 
-export async function fetcher(url: string) {
+const NEXT_CURSOR_HEADER = 'X-Next-Cursor'
+const MAX_PAGE_SIZE = 200
+
+async function request(url: string): Promise<Response> {
   const token = await getTokenFromCookie()
   
   const headers: HeadersInit = {
@@ -39,6 +42,27 @@ export async function fetcher(url: string) {
     throw new Error('Failed to fetch')
   }
 
+  return response
+}
+
+export async function fetcher(url: string) {
+  const response = await request(url)
   return response.json()
 }
 
+export async function pagedFetcher<T>(url: string): Promise<T[]> {
+  const separator = url.includes('?') ? '&' : '?'
+  const items: T[] = []
+  let cursor: string | null = null
+
+  do {
+    const pageUrl: string = `${url}${separator}size=${MAX_PAGE_SIZE}` +
+      (cursor ? `&cursor=${encodeURIComponent(cursor)}` : '')
+    const response = await request(pageUrl)
+    items.push(...(await response.json()))
+    cursor = response.headers.get(NEXT_CURSOR_HEADER)
+  } while (cursor)
+
+  return items
+}
+